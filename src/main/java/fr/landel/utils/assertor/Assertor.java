@@ -19,15 +19,19 @@
  */
 package fr.landel.utils.assertor;
 
+import java.nio.file.Path;
 import java.time.temporal.Temporal;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
+import java.util.function.Supplier;
 
+import fr.landel.utils.assertor.commons.LimitAssertor;
 import fr.landel.utils.assertor.enums.EnumAnalysisMode;
 import fr.landel.utils.assertor.enums.EnumType;
 import fr.landel.utils.assertor.predicate.PredicateAssertorStepArray;
@@ -41,6 +45,7 @@ import fr.landel.utils.assertor.predicate.PredicateAssertorStepIterable;
 import fr.landel.utils.assertor.predicate.PredicateAssertorStepMap;
 import fr.landel.utils.assertor.predicate.PredicateAssertorStepNumber;
 import fr.landel.utils.assertor.predicate.PredicateAssertorStepObject;
+import fr.landel.utils.assertor.predicate.PredicateAssertorStepPath;
 import fr.landel.utils.assertor.predicate.PredicateAssertorStepTemporal;
 import fr.landel.utils.assertor.predicate.PredicateAssertorStepThrowable;
 
@@ -64,7 +69,9 @@ import fr.landel.utils.assertor.predicate.PredicateAssertorStepThrowable;
  * <p>
  * Global locale can also be defined here. The locale will be used for decimal
  * conversion for example (see {@link String#format}). This locale is used if no
- * locale is defined for the error message.
+ * locale is defined for the error message. To render messages with another
+ * locale without changing the global one (like per request), use
+ * {@link #withLocale(Locale, Supplier)}.
  * </p>
  *
  * @since Aug 3, 2016
@@ -76,34 +83,57 @@ public class Assertor {
     /**
      * default locale
      */
-    private static Locale locale = Locale.getDefault();
+    private static volatile Locale locale = Locale.getDefault();
 
     /**
-     * Get the global {@link Locale} used to generate messages of exceptions.
+     * locale of the current thread (see {@link #withLocale})
+     */
+    private static final ThreadLocal<Locale> THREAD_LOCALE = new ThreadLocal<>();
+
+    /**
+     * default limits of the rendering of arrays, iterables and maps
+     */
+    private static volatile LimitAssertor limit = LimitAssertor.DEFAULT;
+
+    /**
+     * limits of the current thread (see {@link #withLimit})
+     */
+    private static final ThreadLocal<LimitAssertor> THREAD_LIMIT = new ThreadLocal<>();
+
+    /**
+     * Get the {@link Locale} used to generate messages of exceptions (the
+     * locale of the current scope if defined through {@link #withLocale},
+     * otherwise the global one).
      * 
      * @return the {@link Locale}
      */
     public static final Locale getLocale() {
+        final Locale threadLocale = THREAD_LOCALE.get();
+        if (threadLocale != null) {
+            return threadLocale;
+        }
         return Assertor.locale;
     }
 
     /**
-     * Get the global {@link Locale} used to generate messages of exceptions.
+     * Get the {@link Locale} used to generate messages of exceptions.
      * 
      * @param locale
      *            The {@link Locale}
-     * @return the {@link Locale} if not null, otherwise the default one
+     * @return the {@link Locale} if not null, otherwise the current one (see
+     *         {@link #getLocale()})
      */
     public static final Locale getLocale(final Locale locale) {
         if (locale != null) {
             return locale;
         }
-        return Assertor.locale;
+        return Assertor.getLocale();
     }
 
     /**
      * Define the default {@link Locale} for the assertor. Be aware in
-     * multi-threading context, the {@link Locale} is static...
+     * multi-threading context, the {@link Locale} is static (to render
+     * messages with a specific locale, prefer {@link #withLocale}).
      * 
      * @param locale
      *            the {@link Locale} to set
@@ -112,6 +142,91 @@ public class Assertor {
         Assertor.locale = locale;
     }
 
+    /**
+     * Runs the supplier with the specified {@link Locale} for the current
+     * thread. Messages rendered by the supplier (without explicit locale) use
+     * this locale instead of the global one. The previous scope is restored at
+     * the end.
+     * 
+     * <pre>
+     * String errors = Assertor.withLocale(Locale.FRANCE, () -&gt; Assertor.that(12.5).isGT(13.5).getErrors().get());
+     * </pre>
+     * 
+     * @param locale
+     *            the {@link Locale} (if null, the global one is used)
+     * @param supplier
+     *            the supplier
+     * @param <T>
+     *            the result type
+     * @return the result of the supplier
+     */
+    public static final <T> T withLocale(final Locale locale, final Supplier<T> supplier) {
+        return Assertor.withScope(THREAD_LOCALE, locale, supplier);
+    }
+
+    /**
+     * Get the limits applied on the rendering of arrays, iterables and maps in
+     * messages (the limits of the current scope if defined through
+     * {@link #withLimit}, otherwise the global ones).
+     * 
+     * @return the limits
+     */
+    public static final LimitAssertor getLimit() {
+        final LimitAssertor threadLimit = THREAD_LIMIT.get();
+        if (threadLimit != null) {
+            return threadLimit;
+        }
+        return Assertor.limit;
+    }
+
+    /**
+     * Define the global limits applied on the rendering of arrays, iterables
+     * and maps in messages (by default: {@link LimitAssertor#DEFAULT}).
+     * 
+     * @param limit
+     *            the limits to set (required, not null)
+     */
+    public static final void setLimit(final LimitAssertor limit) {
+        Assertor.limit = Objects.requireNonNull(limit, "limit");
+    }
+
+    /**
+     * Runs the supplier with the specified limits for the current thread (see
+     * {@link #withLocale(Locale, Supplier)}).
+     * 
+     * <pre>
+     * String errors = Assertor.withLimit(LimitAssertor.of(3, 100), () -&gt; Assertor.that(list).contains("z").getErrors().get());
+     * // the list is rendered like: [a, b, c, &hellip; (4999997 more)]
+     * </pre>
+     * 
+     * @param limit
+     *            the limits (if null, the global ones are used)
+     * @param supplier
+     *            the supplier
+     * @param <T>
+     *            the result type
+     * @return the result of the supplier
+     */
+    public static final <T> T withLimit(final LimitAssertor limit, final Supplier<T> supplier) {
+        return Assertor.withScope(THREAD_LIMIT, limit, supplier);
+    }
+
+    private static <V, T> T withScope(final ThreadLocal<V> scope, final V value, final Supplier<T> supplier) {
+        Objects.requireNonNull(supplier, "supplier");
+
+        final V previous = scope.get();
+        scope.set(value);
+        try {
+            return supplier.get();
+        } finally {
+            if (previous != null) {
+                scope.set(previous);
+            } else {
+                scope.remove();
+            }
+        }
+    }
+
     /**
      * First step to check an object.
      * 
@@ -477,6 +592,32 @@ public class Assertor {
         return () -> new StepAssertor<>(throwable, EnumType.THROWABLE, analysisMode);
     }
 
+    /**
+     * First step to check a {@link Path} (the content checks stream the file,
+     * the file is never loaded in memory).
+     * 
+     * @param path
+     *            the {@link Path} to check
+     * @return the predicate {@link Path} assertor
+     */
+    public static AssertorStepPath that(final Path path) {
+        return that(path, null);
+    }
+
+    /**
+     * First step to check a {@link Path} (the content checks stream the file,
+     * the file is never loaded in memory).
+     * 
+     * @param path
+     *            the {@link Path} to check
+     * @param analysisMode
+     *            the preferred analysis mode
+     * @return the predicate {@link Path} assertor
+     */
+    public static AssertorStepPath that(final Path path, final EnumAnalysisMode analysisMode) {
+        return () -> new StepAssertor<>(path, EnumType.PATH, analysisMode);
+    }
+
     /**
      * Create a predicate Assertor for {@link Object} Matcher
      * 
@@ -876,4 +1017,24 @@ public class Assertor {
     public static <T extends Throwable> PredicateAssertorStepThrowable<T> ofThrowable(final EnumAnalysisMode analysisMode) {
         return () -> new StepAssertor<>(EnumType.THROWABLE, analysisMode);
     }
+
+    /**
+     * Create a predicate Assertor for {@link Path} Matcher
+     * 
+     * @return the predicate assertor for {@link Path}
+     */
+    public static PredicateAssertorStepPath ofPath() {
+        return ofPath(null);
+    }
+
+    /**
+     * Create a predicate Assertor for {@link Path} Matcher
+     * 
+     * @param analysisMode
+     *            the preferred analysis mode
+     * @return the predicate assertor for {@link Path}
+     */
+    public static PredicateAssertorStepPath ofPath(final EnumAnalysisMode analysisMode) {
+        return () -> new StepAssertor<>(EnumType.PATH, analysisMode);
+    }
 }
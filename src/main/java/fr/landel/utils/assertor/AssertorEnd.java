@@ -19,9 +19,12 @@
  */
 package fr.landel.utils.assertor;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
@@ -42,6 +45,9 @@ import fr.landel.utils.commons.Result;
  * {@code true} or {@code false}.</li>
  * <li>{@link AssertorEnd#getErrors}: to get the error message (precondition
  * message or message depending of error type).</li>
+ * <li>{@link AssertorEnd#appendErrors}: to append the error message to a
+ * builder or to any {@link Appendable} (without intermediate
+ * {@link String}).</li>
  * <li>{@link AssertorEnd#get}: to get the result as an {@link Optional} object.
  * The result is set to empty if the assertion failed or if the checked value is
  * {@code null}.</li>
@@ -57,6 +63,13 @@ import fr.landel.utils.commons.Result;
  * object. It's the as {@link Optional} but the default value is already
  * included.</li>
  * </ul>
+ * 
+ * <p>
+ * Asynchronous versions ({@link AssertorEnd#isOKAsync},
+ * {@link AssertorEnd#getErrorsAsync}, {@link AssertorEnd#asResultAsync} and
+ * {@link AssertorEnd#orElseThrowAsync}) return a {@link CompletableFuture}
+ * completed on the specified executor.
+ * </p>
  *
  * @since Aug 7, 2016
  * @author Gilles
@@ -134,6 +147,29 @@ public interface AssertorEnd<T> {
         return HelperEnd.asResult(this.getStep());
     }
 
+    /**
+     * Get the object as {@link Result} asynchronously (see
+     * {@link #asResult()}). The steps are evaluated on the executor, and the
+     * sub steps of the main chain which cannot be skipped (all the previous
+     * operators are {@code xor}, like {@code xor(Assertor.that(...)...)}) are
+     * evaluated concurrently. The other sub steps, the sub assertors (like
+     * {@code andAssertor(...)}) and the nested sub steps are evaluated
+     * serially (see {@link #isOKAsync(Executor)}).
+     * 
+     * <pre>
+     * Assertor.that("text").isNotBlank().and(Assertor.that(user).validates(cache::isValid)).asResultAsync(executor)
+     *         .thenAccept(result -&gt; result.ifPresent(...));
+     * </pre>
+     * 
+     * @param executor
+     *            the executor (like a virtual-thread-per-task executor on
+     *            recent JDK)
+     * @return the future result
+     */
+    default CompletableFuture<Result<T>> asResultAsync(final Executor executor) {
+        return HelperEnd.asResultAsync(this.getStep(), executor);
+    }
+
     /**
      * Get the object as {@link Default}. This method is similar to
      * {@link #asResult()}. The difference is if the result is {@code null} it's
@@ -178,6 +214,33 @@ public interface AssertorEnd<T> {
         return HelperEnd.isOK(this.getStep());
     }
 
+    /**
+     * Returns asynchronously if the assertion is valid or not. The steps are
+     * evaluated on the executor, and the sub steps of the main chain which
+     * cannot be skipped (all the previous operators are {@code xor}, like
+     * {@code xor(Assertor.that(...)...)}) are evaluated concurrently. The
+     * other sub steps (which may be skipped by {@code and}, {@code or}...), the
+     * sub assertors (like {@code andAssertor(...)}) and the nested sub steps
+     * are evaluated serially, so their checkers are only called if required.
+     * 
+     * <p>
+     * The concurrent checkers have to be thread-safe.
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(user).validates(cache::isValid).and(Assertor.that(role).validates(cache::isGranted))
+     *         .isOKAsync(Executors.newVirtualThreadPerTaskExecutor()); // Java 21
+     * </pre>
+     * 
+     * @param executor
+     *            the executor
+     * @return the future validity (completed exceptionally if a checker
+     *         fails)
+     */
+    default CompletableFuture<Boolean> isOKAsync(final Executor executor) {
+        return HelperEnd.isOKAsync(this.getStep(), executor);
+    }
+
     /**
      * Returns the errors. If preconditions are invalid, all others errors in
      * checked steps are ignored.
@@ -197,6 +260,95 @@ public interface AssertorEnd<T> {
         return HelperEnd.getErrors(this.getStep());
     }
 
+    /**
+     * Returns the errors rendered with the specified locale (see
+     * {@link #getErrors()}), the global locale isn't used. Messages defined
+     * with a specific locale keep their own.
+     * 
+     * <pre>
+     * Assertor.that(26.354f).isGT(27f).getErrors(Locale.FRANCE);
+     * // the message -&gt; "the number '26,354' should be greater than '27,000'"
+     * </pre>
+     * 
+     * @param locale
+     *            the messages locale (if null, the current one, see
+     *            {@link Assertor#getLocale()})
+     * @return an {@link Optional} containing the errors message
+     */
+    default Optional<String> getErrors(final Locale locale) {
+        return HelperEnd.getErrors(this.getStep(), locale);
+    }
+
+    /**
+     * Appends the errors to the builder (see {@link #getErrors()}), the
+     * messages are rendered directly into the builder without intermediate
+     * {@link String}. Nothing is appended if there is no error.
+     * 
+     * <pre>
+     * final StringBuilder builder = new StringBuilder("rejected: ");
+     * if (Assertor.that(false).isTrue().appendErrors(builder)) {
+     *     // builder -&gt; "rejected: the boolean should be true"
+     * }
+     * </pre>
+     * 
+     * @param builder
+     *            the output builder (required, not null)
+     * @return true, if errors were appended
+     * @throws NullPointerException
+     *             if builder is {@code null}
+     */
+    default boolean appendErrors(final StringBuilder builder) {
+        return HelperEnd.appendErrors(this.getStep(), builder);
+    }
+
+    /**
+     * Writes the errors into the appendable (see {@link #getErrors()}). The
+     * messages are rendered in a reused builder of the current thread before
+     * being appended at once, so no {@link String} is allocated. A
+     * {@link StringBuilder} is filled directly (see
+     * {@link #appendErrors(StringBuilder)}). Nothing is appended if there is no
+     * error.
+     * 
+     * @param appendable
+     *            the output appendable, like a {@link java.io.Writer}
+     *            (required, not null)
+     * @return true, if errors were appended
+     * @throws IOException
+     *             if the appendable fails
+     * @throws NullPointerException
+     *             if appendable is {@code null}
+     */
+    default boolean appendErrors(final Appendable appendable) throws IOException {
+        return HelperEnd.appendErrors(this.getStep(), appendable);
+    }
+
+    /**
+     * Returns the errors asynchronously (see {@link #getErrors()} and
+     * {@link #isOKAsync(Executor)}). The messages are rendered with the locale
+     * of the caller (see {@link Assertor#getLocale()}).
+     * 
+     * @param executor
+     *            the executor
+     * @return the future {@link Optional} containing the errors message
+     */
+    default CompletableFuture<Optional<String>> getErrorsAsync(final Executor executor) {
+        return this.getErrorsAsync(executor, null);
+    }
+
+    /**
+     * Returns the errors asynchronously rendered with the specified locale (see
+     * {@link #getErrors(Locale)} and {@link #getErrorsAsync(Executor)}).
+     * 
+     * @param executor
+     *            the executor
+     * @param locale
+     *            the messages locale (if null, the locale of the caller)
+     * @return the future {@link Optional} containing the errors message
+     */
+    default CompletableFuture<Optional<String>> getErrorsAsync(final Executor executor, final Locale locale) {
+        return HelperEnd.getErrorsAsync(this.getStep(), executor, locale);
+    }
+
     /**
      * Get the last checked object.
      * 
@@ -326,7 +478,8 @@ public interface AssertorEnd<T> {
      * </pre>
      * 
      * @param locale
-     *            the message locale
+     *            the message locale (also applied on default messages, if
+     *            message is null)
      * @param message
      *            the message to thrown
      * @param arguments
@@ -337,6 +490,46 @@ public interface AssertorEnd<T> {
         return HelperEnd.orElseThrow(this.getStep(), locale, message, arguments);
     }
 
+    /**
+     * Get asynchronously the last checked object (see {@link #orElseThrow()}
+     * and {@link #isOKAsync(Executor)}). If the assertion is wrong, the future
+     * is completed exceptionally with an {@link IllegalArgumentException}
+     * (wrapped in a {@link java.util.concurrent.CompletionException} by
+     * {@link CompletableFuture#join()}).
+     * 
+     * <pre>
+     * Assertor.that("text").isBlank().orElseThrowAsync(executor).join(); // throws an exception
+     * Assertor.that("text").isNotBlank().orElseThrowAsync(executor).join(); // returns "text"
+     * </pre>
+     * 
+     * @param executor
+     *            the executor
+     * @return the future last checked object
+     */
+    default CompletableFuture<T> orElseThrowAsync(final Executor executor) {
+        return this.orElseThrowAsync(executor, null, null);
+    }
+
+    /**
+     * Get asynchronously the last checked object (see
+     * {@link #orElseThrow(Locale, CharSequence, Object...)} and
+     * {@link #orElseThrowAsync(Executor)}).
+     * 
+     * @param executor
+     *            the executor
+     * @param locale
+     *            the message locale
+     * @param message
+     *            the message to thrown
+     * @param arguments
+     *            the messages arguments
+     * @return the future last checked object
+     */
+    default CompletableFuture<T> orElseThrowAsync(final Executor executor, final Locale locale, final CharSequence message,
+            final Object... arguments) {
+        return HelperEnd.orElseThrowAsync(this.getStep(), executor, locale, message, arguments);
+    }
+
     /**
      * Calls the function and throw the specific exception, only if assertion is
      * wrong. The function provide two data:
@@ -1497,6 +1497,516 @@ public interface AssertorStepCharSequence<T extends CharSequence> extends Assert
         return () -> AssertorCharSequence.contains(this.getStep(), substring, MessageAssertor.of(locale, message, arguments));
     }
 
+    /**
+     * Asserts that the given char sequence contains all the specified
+     * {@code substrings}.
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain {@code null}
+     * or empty substrings
+     * </p>
+     * 
+     * <p>
+     * All substrings are searched in a single pass over the char sequence.
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(body).containsAll("token1", "token2").orElseThrow();
+     * </pre>
+     * 
+     * @param substrings
+     *            The {@link CharSequence} array to find
+     * @return The operator
+     * @category no_message
+     */
+    default StepCharSequence<T> containsAll(final CharSequence... substrings) {
+        return this.containsAll(substrings, null);
+    }
+
+    /**
+     * Asserts that the given char sequence contains all the specified
+     * {@code substrings}.
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain {@code null}
+     * or empty substrings
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(body).containsAll(tokens, "invalid body").orElseThrow();
+     * </pre>
+     * 
+     * @param substrings
+     *            The {@link CharSequence} array to find
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category message
+     */
+    default StepCharSequence<T> containsAll(final CharSequence[] substrings, final CharSequence message, final Object... arguments) {
+        return this.containsAll(substrings, null, message, arguments);
+    }
+
+    /**
+     * Asserts that the given char sequence contains all the specified
+     * {@code substrings}.
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain {@code null}
+     * or empty substrings
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(body).containsAll(tokens, Locale.US, "invalid body").orElseThrow();
+     * </pre>
+     * 
+     * @param substrings
+     *            The {@link CharSequence} array to find
+     * @param locale
+     *            The locale of the message (only used to format this message,
+     *            otherwise use {@link Assertor#setLocale})
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category localized_message
+     */
+    default StepCharSequence<T> containsAll(final CharSequence[] substrings, final Locale locale, final CharSequence message,
+            final Object... arguments) {
+        return () -> AssertorCharSequence.containsAll(this.getStep(), substrings, MessageAssertor.of(locale, message, arguments));
+    }
+
+    /**
+     * Asserts that the given char sequence contains at least one of the
+     * specified {@code substrings}.
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain {@code null}
+     * or empty substrings
+     * </p>
+     * 
+     * <p>
+     * All substrings are searched in a single pass over the char sequence.
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(body).containsAny("token1", "token2").orElseThrow();
+     * </pre>
+     * 
+     * @param substrings
+     *            The {@link CharSequence} array to find
+     * @return The operator
+     * @category no_message
+     */
+    default StepCharSequence<T> containsAny(final CharSequence... substrings) {
+        return this.containsAny(substrings, null);
+    }
+
+    /**
+     * Asserts that the given char sequence contains at least one of the
+     * specified {@code substrings}.
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain {@code null}
+     * or empty substrings
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(body).containsAny(tokens, "invalid body").orElseThrow();
+     * </pre>
+     * 
+     * @param substrings
+     *            The {@link CharSequence} array to find
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category message
+     */
+    default StepCharSequence<T> containsAny(final CharSequence[] substrings, final CharSequence message, final Object... arguments) {
+        return this.containsAny(substrings, null, message, arguments);
+    }
+
+    /**
+     * Asserts that the given char sequence contains at least one of the
+     * specified {@code substrings}.
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain {@code null}
+     * or empty substrings
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(body).containsAny(tokens, Locale.US, "invalid body").orElseThrow();
+     * </pre>
+     * 
+     * @param substrings
+     *            The {@link CharSequence} array to find
+     * @param locale
+     *            The locale of the message (only used to format this message,
+     *            otherwise use {@link Assertor#setLocale})
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category localized_message
+     */
+    default StepCharSequence<T> containsAny(final CharSequence[] substrings, final Locale locale, final CharSequence message,
+            final Object... arguments) {
+        return () -> AssertorCharSequence.containsAny(this.getStep(), substrings, MessageAssertor.of(locale, message, arguments));
+    }
+
+    /**
+     * Asserts that the given char sequence doesn't contain any of the
+     * specified {@code substrings}.
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain {@code null}
+     * or empty substrings
+     * </p>
+     * 
+     * <p>
+     * All substrings are searched in a single pass over the char sequence.
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(body).containsNone("token1", "token2").orElseThrow();
+     * </pre>
+     * 
+     * @param substrings
+     *            The {@link CharSequence} array to find
+     * @return The operator
+     * @category no_message
+     */
+    default StepCharSequence<T> containsNone(final CharSequence... substrings) {
+        return this.containsNone(substrings, null);
+    }
+
+    /**
+     * Asserts that the given char sequence doesn't contain any of the
+     * specified {@code substrings}.
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain {@code null}
+     * or empty substrings
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(body).containsNone(tokens, "invalid body").orElseThrow();
+     * </pre>
+     * 
+     * @param substrings
+     *            The {@link CharSequence} array to find
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category message
+     */
+    default StepCharSequence<T> containsNone(final CharSequence[] substrings, final CharSequence message, final Object... arguments) {
+        return this.containsNone(substrings, null, message, arguments);
+    }
+
+    /**
+     * Asserts that the given char sequence doesn't contain any of the
+     * specified {@code substrings}.
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain {@code null}
+     * or empty substrings
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(body).containsNone(tokens, Locale.US, "invalid body").orElseThrow();
+     * </pre>
+     * 
+     * @param substrings
+     *            The {@link CharSequence} array to find
+     * @param locale
+     *            The locale of the message (only used to format this message,
+     *            otherwise use {@link Assertor#setLocale})
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category localized_message
+     */
+    default StepCharSequence<T> containsNone(final CharSequence[] substrings, final Locale locale, final CharSequence message,
+            final Object... arguments) {
+        return () -> AssertorCharSequence.containsNone(this.getStep(), substrings, MessageAssertor.of(locale, message, arguments));
+    }
+
+    /**
+     * Asserts that the given char sequence contains all the specified
+     * {@code substrings}, ignoring case considerations.
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain {@code null}
+     * or empty substrings
+     * </p>
+     * 
+     * <p>
+     * All substrings are searched in a single pass over the char sequence.
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(body).containsAllIgnoreCase("token1", "token2").orElseThrow();
+     * </pre>
+     * 
+     * @param substrings
+     *            The {@link CharSequence} array to find
+     * @return The operator
+     * @category no_message
+     */
+    default StepCharSequence<T> containsAllIgnoreCase(final CharSequence... substrings) {
+        return this.containsAllIgnoreCase(substrings, null);
+    }
+
+    /**
+     * Asserts that the given char sequence contains all the specified
+     * {@code substrings}, ignoring case considerations.
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain {@code null}
+     * or empty substrings
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(body).containsAllIgnoreCase(tokens, "invalid body").orElseThrow();
+     * </pre>
+     * 
+     * @param substrings
+     *            The {@link CharSequence} array to find
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category message
+     */
+    default StepCharSequence<T> containsAllIgnoreCase(final CharSequence[] substrings, final CharSequence message, final Object... arguments) {
+        return this.containsAllIgnoreCase(substrings, null, message, arguments);
+    }
+
+    /**
+     * Asserts that the given char sequence contains all the specified
+     * {@code substrings}, ignoring case considerations.
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain {@code null}
+     * or empty substrings
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(body).containsAllIgnoreCase(tokens, Locale.US, "invalid body").orElseThrow();
+     * </pre>
+     * 
+     * @param substrings
+     *            The {@link CharSequence} array to find
+     * @param locale
+     *            The locale of the message (only used to format this message,
+     *            otherwise use {@link Assertor#setLocale})
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category localized_message
+     */
+    default StepCharSequence<T> containsAllIgnoreCase(final CharSequence[] substrings, final Locale locale, final CharSequence message,
+            final Object... arguments) {
+        return () -> AssertorCharSequence.containsAllIgnoreCase(this.getStep(), substrings, MessageAssertor.of(locale, message, arguments));
+    }
+
+    /**
+     * Asserts that the given char sequence contains at least one of the
+     * specified {@code substrings}, ignoring case considerations.
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain {@code null}
+     * or empty substrings
+     * </p>
+     * 
+     * <p>
+     * All substrings are searched in a single pass over the char sequence.
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(body).containsAnyIgnoreCase("token1", "token2").orElseThrow();
+     * </pre>
+     * 
+     * @param substrings
+     *            The {@link CharSequence} array to find
+     * @return The operator
+     * @category no_message
+     */
+    default StepCharSequence<T> containsAnyIgnoreCase(final CharSequence... substrings) {
+        return this.containsAnyIgnoreCase(substrings, null);
+    }
+
+    /**
+     * Asserts that the given char sequence contains at least one of the
+     * specified {@code substrings}, ignoring case considerations.
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain {@code null}
+     * or empty substrings
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(body).containsAnyIgnoreCase(tokens, "invalid body").orElseThrow();
+     * </pre>
+     * 
+     * @param substrings
+     *            The {@link CharSequence} array to find
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category message
+     */
+    default StepCharSequence<T> containsAnyIgnoreCase(final CharSequence[] substrings, final CharSequence message, final Object... arguments) {
+        return this.containsAnyIgnoreCase(substrings, null, message, arguments);
+    }
+
+    /**
+     * Asserts that the given char sequence contains at least one of the
+     * specified {@code substrings}, ignoring case considerations.
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain {@code null}
+     * or empty substrings
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(body).containsAnyIgnoreCase(tokens, Locale.US, "invalid body").orElseThrow();
+     * </pre>
+     * 
+     * @param substrings
+     *            The {@link CharSequence} array to find
+     * @param locale
+     *            The locale of the message (only used to format this message,
+     *            otherwise use {@link Assertor#setLocale})
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category localized_message
+     */
+    default StepCharSequence<T> containsAnyIgnoreCase(final CharSequence[] substrings, final Locale locale, final CharSequence message,
+            final Object... arguments) {
+        return () -> AssertorCharSequence.containsAnyIgnoreCase(this.getStep(), substrings, MessageAssertor.of(locale, message, arguments));
+    }
+
+    /**
+     * Asserts that the given char sequence doesn't contain any of the
+     * specified {@code substrings}, ignoring case considerations.
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain {@code null}
+     * or empty substrings
+     * </p>
+     * 
+     * <p>
+     * All substrings are searched in a single pass over the char sequence.
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(body).containsNoneIgnoreCase("token1", "token2").orElseThrow();
+     * </pre>
+     * 
+     * @param substrings
+     *            The {@link CharSequence} array to find
+     * @return The operator
+     * @category no_message
+     */
+    default StepCharSequence<T> containsNoneIgnoreCase(final CharSequence... substrings) {
+        return this.containsNoneIgnoreCase(substrings, null);
+    }
+
+    /**
+     * Asserts that the given char sequence doesn't contain any of the
+     * specified {@code substrings}, ignoring case considerations.
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain {@code null}
+     * or empty substrings
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(body).containsNoneIgnoreCase(tokens, "invalid body").orElseThrow();
+     * </pre>
+     * 
+     * @param substrings
+     *            The {@link CharSequence} array to find
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category message
+     */
+    default StepCharSequence<T> containsNoneIgnoreCase(final CharSequence[] substrings, final CharSequence message, final Object... arguments) {
+        return this.containsNoneIgnoreCase(substrings, null, message, arguments);
+    }
+
+    /**
+     * Asserts that the given char sequence doesn't contain any of the
+     * specified {@code substrings}, ignoring case considerations.
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain {@code null}
+     * or empty substrings
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(body).containsNoneIgnoreCase(tokens, Locale.US, "invalid body").orElseThrow();
+     * </pre>
+     * 
+     * @param substrings
+     *            The {@link CharSequence} array to find
+     * @param locale
+     *            The locale of the message (only used to format this message,
+     *            otherwise use {@link Assertor#setLocale})
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category localized_message
+     */
+    default StepCharSequence<T> containsNoneIgnoreCase(final CharSequence[] substrings, final Locale locale, final CharSequence message,
+            final Object... arguments) {
+        return () -> AssertorCharSequence.containsNoneIgnoreCase(this.getStep(), substrings, MessageAssertor.of(locale, message, arguments));
+    }
+
     /**
      * Asserts that the given char sequence starts with the specified
      * {@code substring}.
@@ -0,0 +1,1116 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import fr.landel.utils.assertor.commons.MessageAssertor;
+import fr.landel.utils.assertor.helper.HelperStep;
+import fr.landel.utils.assertor.utils.AssertorPath;
+
+/**
+ * This class define methods that can be applied on the checked {@link Path}
+ * object. To provide a result, it's also provide a chain builder by returning a
+ * {@link StepPath}. The chain looks like:
+ * 
+ * <pre>
+ * {@link AssertorStepPath} &gt; {@link StepPath} &gt; {@link AssertorStepPath} &gt; {@link StepPath}...
+ * </pre>
+ * 
+ * This chain always starts with a {@link AssertorStepPath} and ends with
+ * {@link StepPath}.
+ * 
+ * <p>
+ * The content checks stream the file (the file is never loaded in memory).
+ * </p>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+@FunctionalInterface
+public interface AssertorStepPath extends AssertorStep<StepPath, Path> {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default StepPath get(final StepAssertor<Path> result) {
+        return () -> result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default AssertorStepPath not() {
+        return () -> HelperStep.not(getStep());
+    }
+
+    /**
+     * Asserts that the given path exists.
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be null
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).exists().orElseThrow();
+     * </pre>
+     * 
+     * @return The operator
+     * @category no_message
+     */
+    default StepPath exists() {
+        return this.exists((CharSequence) null);
+    }
+
+    /**
+     * Asserts that the given path exists.
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be null
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).exists("invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category message
+     */
+    default StepPath exists(final CharSequence message, final Object... arguments) {
+        return this.exists(null, message, arguments);
+    }
+
+    /**
+     * Asserts that the given path exists.
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be null
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).exists(Locale.US, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param locale
+     *            The locale of the message (only used to format this message,
+     *            otherwise use {@link Assertor#setLocale})
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category localized_message
+     */
+    default StepPath exists(final Locale locale, final CharSequence message, final Object... arguments) {
+        return () -> AssertorPath.exists(this.getStep(), MessageAssertor.of(locale, message, arguments));
+    }
+
+    /**
+     * Asserts that the given file has the specified size (in bytes).
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be null and {@code size} cannot be
+     * lower than 0
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).hasSize(1_024).orElseThrow();
+     * </pre>
+     * 
+     * @param size
+     *            The size in bytes (cannot be lower than 0)
+     * @return The operator
+     * @category no_message
+     */
+    default StepPath hasSize(final long size) {
+        return this.hasSize(size, null);
+    }
+
+    /**
+     * Asserts that the given file has the specified size (in bytes).
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be null and {@code size} cannot be
+     * lower than 0
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).hasSize(1_024, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param size
+     *            The size in bytes (cannot be lower than 0)
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category message
+     */
+    default StepPath hasSize(final long size, final CharSequence message, final Object... arguments) {
+        return this.hasSize(size, null, message, arguments);
+    }
+
+    /**
+     * Asserts that the given file has the specified size (in bytes).
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be null and {@code size} cannot be
+     * lower than 0
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).hasSize(1_024, Locale.US, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param size
+     *            The size in bytes (cannot be lower than 0)
+     * @param locale
+     *            The locale of the message (only used to format this message,
+     *            otherwise use {@link Assertor#setLocale})
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category localized_message
+     */
+    default StepPath hasSize(final long size, final Locale locale, final CharSequence message, final Object... arguments) {
+        return () -> AssertorPath.hasSize(this.getStep(), size, MessageAssertor.of(locale, message, arguments));
+    }
+
+    /**
+     * Asserts that the given file has a size greater than {@code size}
+     * (in bytes).
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be null and {@code size} cannot be
+     * lower than 0
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).hasSizeGT(1_024).orElseThrow();
+     * </pre>
+     * 
+     * @param size
+     *            The size in bytes (cannot be lower than 0)
+     * @return The operator
+     * @category no_message
+     */
+    default StepPath hasSizeGT(final long size) {
+        return this.hasSizeGT(size, null);
+    }
+
+    /**
+     * Asserts that the given file has a size greater than {@code size}
+     * (in bytes).
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be null and {@code size} cannot be
+     * lower than 0
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).hasSizeGT(1_024, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param size
+     *            The size in bytes (cannot be lower than 0)
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category message
+     */
+    default StepPath hasSizeGT(final long size, final CharSequence message, final Object... arguments) {
+        return this.hasSizeGT(size, null, message, arguments);
+    }
+
+    /**
+     * Asserts that the given file has a size greater than {@code size}
+     * (in bytes).
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be null and {@code size} cannot be
+     * lower than 0
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).hasSizeGT(1_024, Locale.US, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param size
+     *            The size in bytes (cannot be lower than 0)
+     * @param locale
+     *            The locale of the message (only used to format this message,
+     *            otherwise use {@link Assertor#setLocale})
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category localized_message
+     */
+    default StepPath hasSizeGT(final long size, final Locale locale, final CharSequence message, final Object... arguments) {
+        return () -> AssertorPath.hasSizeGT(this.getStep(), size, MessageAssertor.of(locale, message, arguments));
+    }
+
+    /**
+     * Asserts that the given file has a size greater than or equal to
+     * {@code size} (in bytes).
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be null and {@code size} cannot be
+     * lower than 0
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).hasSizeGTE(1_024).orElseThrow();
+     * </pre>
+     * 
+     * @param size
+     *            The size in bytes (cannot be lower than 0)
+     * @return The operator
+     * @category no_message
+     */
+    default StepPath hasSizeGTE(final long size) {
+        return this.hasSizeGTE(size, null);
+    }
+
+    /**
+     * Asserts that the given file has a size greater than or equal to
+     * {@code size} (in bytes).
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be null and {@code size} cannot be
+     * lower than 0
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).hasSizeGTE(1_024, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param size
+     *            The size in bytes (cannot be lower than 0)
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category message
+     */
+    default StepPath hasSizeGTE(final long size, final CharSequence message, final Object... arguments) {
+        return this.hasSizeGTE(size, null, message, arguments);
+    }
+
+    /**
+     * Asserts that the given file has a size greater than or equal to
+     * {@code size} (in bytes).
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be null and {@code size} cannot be
+     * lower than 0
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).hasSizeGTE(1_024, Locale.US, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param size
+     *            The size in bytes (cannot be lower than 0)
+     * @param locale
+     *            The locale of the message (only used to format this message,
+     *            otherwise use {@link Assertor#setLocale})
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category localized_message
+     */
+    default StepPath hasSizeGTE(final long size, final Locale locale, final CharSequence message, final Object... arguments) {
+        return () -> AssertorPath.hasSizeGTE(this.getStep(), size, MessageAssertor.of(locale, message, arguments));
+    }
+
+    /**
+     * Asserts that the given file has a size lower than {@code size}
+     * (in bytes).
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be null and {@code size} cannot be
+     * lower than 0
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).hasSizeLT(1_024).orElseThrow();
+     * </pre>
+     * 
+     * @param size
+     *            The size in bytes (cannot be lower than 0)
+     * @return The operator
+     * @category no_message
+     */
+    default StepPath hasSizeLT(final long size) {
+        return this.hasSizeLT(size, null);
+    }
+
+    /**
+     * Asserts that the given file has a size lower than {@code size}
+     * (in bytes).
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be null and {@code size} cannot be
+     * lower than 0
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).hasSizeLT(1_024, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param size
+     *            The size in bytes (cannot be lower than 0)
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category message
+     */
+    default StepPath hasSizeLT(final long size, final CharSequence message, final Object... arguments) {
+        return this.hasSizeLT(size, null, message, arguments);
+    }
+
+    /**
+     * Asserts that the given file has a size lower than {@code size}
+     * (in bytes).
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be null and {@code size} cannot be
+     * lower than 0
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).hasSizeLT(1_024, Locale.US, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param size
+     *            The size in bytes (cannot be lower than 0)
+     * @param locale
+     *            The locale of the message (only used to format this message,
+     *            otherwise use {@link Assertor#setLocale})
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category localized_message
+     */
+    default StepPath hasSizeLT(final long size, final Locale locale, final CharSequence message, final Object... arguments) {
+        return () -> AssertorPath.hasSizeLT(this.getStep(), size, MessageAssertor.of(locale, message, arguments));
+    }
+
+    /**
+     * Asserts that the given file has a size lower than or equal to
+     * {@code size} (in bytes).
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be null and {@code size} cannot be
+     * lower than 0
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).hasSizeLTE(1_024).orElseThrow();
+     * </pre>
+     * 
+     * @param size
+     *            The size in bytes (cannot be lower than 0)
+     * @return The operator
+     * @category no_message
+     */
+    default StepPath hasSizeLTE(final long size) {
+        return this.hasSizeLTE(size, null);
+    }
+
+    /**
+     * Asserts that the given file has a size lower than or equal to
+     * {@code size} (in bytes).
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be null and {@code size} cannot be
+     * lower than 0
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).hasSizeLTE(1_024, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param size
+     *            The size in bytes (cannot be lower than 0)
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category message
+     */
+    default StepPath hasSizeLTE(final long size, final CharSequence message, final Object... arguments) {
+        return this.hasSizeLTE(size, null, message, arguments);
+    }
+
+    /**
+     * Asserts that the given file has a size lower than or equal to
+     * {@code size} (in bytes).
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be null and {@code size} cannot be
+     * lower than 0
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).hasSizeLTE(1_024, Locale.US, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param size
+     *            The size in bytes (cannot be lower than 0)
+     * @param locale
+     *            The locale of the message (only used to format this message,
+     *            otherwise use {@link Assertor#setLocale})
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category localized_message
+     */
+    default StepPath hasSizeLTE(final long size, final Locale locale, final CharSequence message, final Object... arguments) {
+        return () -> AssertorPath.hasSizeLTE(this.getStep(), size, MessageAssertor.of(locale, message, arguments));
+    }
+
+    /**
+     * Asserts that the given file starts with the specified bytes (only
+     * the first bytes are read).
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be null, {@code bytes} cannot be null
+     * or empty
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).startsWith(new byte[] {0x50, 0x4B}).orElseThrow();
+     * </pre>
+     * 
+     * @param bytes
+     *            The expected first bytes
+     * @return The operator
+     * @category no_message
+     */
+    default StepPath startsWith(final byte[] bytes) {
+        return this.startsWith(bytes, null);
+    }
+
+    /**
+     * Asserts that the given file starts with the specified bytes (only
+     * the first bytes are read).
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be null, {@code bytes} cannot be null
+     * or empty
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).startsWith(new byte[] {0x50, 0x4B}, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param bytes
+     *            The expected first bytes
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category message
+     */
+    default StepPath startsWith(final byte[] bytes, final CharSequence message, final Object... arguments) {
+        return this.startsWith(bytes, null, message, arguments);
+    }
+
+    /**
+     * Asserts that the given file starts with the specified bytes (only
+     * the first bytes are read).
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be null, {@code bytes} cannot be null
+     * or empty
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).startsWith(new byte[] {0x50, 0x4B}, Locale.US, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param bytes
+     *            The expected first bytes
+     * @param locale
+     *            The locale of the message (only used to format this message,
+     *            otherwise use {@link Assertor#setLocale})
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category localized_message
+     */
+    default StepPath startsWith(final byte[] bytes, final Locale locale, final CharSequence message, final Object... arguments) {
+        return () -> AssertorPath.startsWith(this.getStep(), bytes, MessageAssertor.of(locale, message, arguments));
+    }
+
+    /**
+     * Asserts that the given file contains the substring. The file is
+     * read and decoded by chunks (never loaded in memory).
+     * The file is decoded in UTF-8.
+     * 
+     * <p>
+     * precondition: {@link Path} and {@code charset} cannot be null, {@code
+     * substring} cannot be null or empty
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).contains("ERROR").orElseThrow();
+     * </pre>
+     * 
+     * @param substring
+     *            The substring to find
+     * @return The operator
+     * @category no_message
+     */
+    default StepPath contains(final CharSequence substring) {
+        return this.contains(substring, (CharSequence) null);
+    }
+
+    /**
+     * Asserts that the given file contains the substring. The file is
+     * read and decoded by chunks (never loaded in memory).
+     * The file is decoded in UTF-8.
+     * 
+     * <p>
+     * precondition: {@link Path} and {@code charset} cannot be null, {@code
+     * substring} cannot be null or empty
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).contains("ERROR", "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param substring
+     *            The substring to find
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category message
+     */
+    default StepPath contains(final CharSequence substring, final CharSequence message, final Object... arguments) {
+        return this.contains(substring, (Locale) null, message, arguments);
+    }
+
+    /**
+     * Asserts that the given file contains the substring. The file is
+     * read and decoded by chunks (never loaded in memory).
+     * The file is decoded in UTF-8.
+     * 
+     * <p>
+     * precondition: {@link Path} and {@code charset} cannot be null, {@code
+     * substring} cannot be null or empty
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).contains("ERROR", Locale.US, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param substring
+     *            The substring to find
+     * @param locale
+     *            The locale of the message (only used to format this message,
+     *            otherwise use {@link Assertor#setLocale})
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category localized_message
+     */
+    default StepPath contains(final CharSequence substring, final Locale locale, final CharSequence message, final Object... arguments) {
+        return this.contains(substring, StandardCharsets.UTF_8, locale, message, arguments);
+    }
+
+    /**
+     * Asserts that the given file contains the substring. The file is
+     * read and decoded by chunks (never loaded in memory).
+     * The file is decoded with the specified charset.
+     * 
+     * <p>
+     * precondition: {@link Path} and {@code charset} cannot be null, {@code
+     * substring} cannot be null or empty
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).contains("ERROR", StandardCharsets.ISO_8859_1).orElseThrow();
+     * </pre>
+     * 
+     * @param substring
+     *            The substring to find
+     * @param charset
+     *            The file charset
+     * @return The operator
+     * @category no_message
+     */
+    default StepPath contains(final CharSequence substring, final Charset charset) {
+        return this.contains(substring, charset, null);
+    }
+
+    /**
+     * Asserts that the given file contains the substring. The file is
+     * read and decoded by chunks (never loaded in memory).
+     * The file is decoded with the specified charset.
+     * 
+     * <p>
+     * precondition: {@link Path} and {@code charset} cannot be null, {@code
+     * substring} cannot be null or empty
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).contains("ERROR", StandardCharsets.ISO_8859_1, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param substring
+     *            The substring to find
+     * @param charset
+     *            The file charset
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category message
+     */
+    default StepPath contains(final CharSequence substring, final Charset charset, final CharSequence message, final Object... arguments) {
+        return this.contains(substring, charset, null, message, arguments);
+    }
+
+    /**
+     * Asserts that the given file contains the substring. The file is
+     * read and decoded by chunks (never loaded in memory).
+     * The file is decoded with the specified charset.
+     * 
+     * <p>
+     * precondition: {@link Path} and {@code charset} cannot be null, {@code
+     * substring} cannot be null or empty
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).contains("ERROR", StandardCharsets.ISO_8859_1, Locale.US, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param substring
+     *            The substring to find
+     * @param charset
+     *            The file charset
+     * @param locale
+     *            The locale of the message (only used to format this message,
+     *            otherwise use {@link Assertor#setLocale})
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category localized_message
+     */
+    default StepPath contains(final CharSequence substring, final Charset charset, final Locale locale, final CharSequence message,
+            final Object... arguments) {
+        return () -> AssertorPath.contains(this.getStep(), substring, charset, MessageAssertor.of(locale, message, arguments));
+    }
+
+    /**
+     * Asserts that a line of the given file contains a sequence matching
+     * the pattern (the file is read line by line, a match cannot span several
+     * lines, a line longer than 1M characters fails the check).
+     * The file is decoded in UTF-8.
+     * 
+     * <p>
+     * precondition: {@link Path}, {@code pattern} and {@code charset} cannot be
+     * null
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).find(pattern).orElseThrow();
+     * </pre>
+     * 
+     * @param pattern
+     *            The compiled pattern
+     * @return The operator
+     * @category no_message
+     */
+    default StepPath find(final Pattern pattern) {
+        return this.find(pattern, (CharSequence) null);
+    }
+
+    /**
+     * Asserts that a line of the given file contains a sequence matching
+     * the pattern (the file is read line by line, a match cannot span several
+     * lines, a line longer than 1M characters fails the check).
+     * The file is decoded in UTF-8.
+     * 
+     * <p>
+     * precondition: {@link Path}, {@code pattern} and {@code charset} cannot be
+     * null
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).find(pattern, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param pattern
+     *            The compiled pattern
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category message
+     */
+    default StepPath find(final Pattern pattern, final CharSequence message, final Object... arguments) {
+        return this.find(pattern, (Locale) null, message, arguments);
+    }
+
+    /**
+     * Asserts that a line of the given file contains a sequence matching
+     * the pattern (the file is read line by line, a match cannot span several
+     * lines, a line longer than 1M characters fails the check).
+     * The file is decoded in UTF-8.
+     * 
+     * <p>
+     * precondition: {@link Path}, {@code pattern} and {@code charset} cannot be
+     * null
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).find(pattern, Locale.US, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param pattern
+     *            The compiled pattern
+     * @param locale
+     *            The locale of the message (only used to format this message,
+     *            otherwise use {@link Assertor#setLocale})
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category localized_message
+     */
+    default StepPath find(final Pattern pattern, final Locale locale, final CharSequence message, final Object... arguments) {
+        return this.find(pattern, StandardCharsets.UTF_8, locale, message, arguments);
+    }
+
+    /**
+     * Asserts that a line of the given file contains a sequence matching
+     * the pattern (the file is read line by line, a match cannot span several
+     * lines, a line longer than 1M characters fails the check).
+     * The file is decoded with the specified charset.
+     * 
+     * <p>
+     * precondition: {@link Path}, {@code pattern} and {@code charset} cannot be
+     * null
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).find(pattern, StandardCharsets.ISO_8859_1).orElseThrow();
+     * </pre>
+     * 
+     * @param pattern
+     *            The compiled pattern
+     * @param charset
+     *            The file charset
+     * @return The operator
+     * @category no_message
+     */
+    default StepPath find(final Pattern pattern, final Charset charset) {
+        return this.find(pattern, charset, null);
+    }
+
+    /**
+     * Asserts that a line of the given file contains a sequence matching
+     * the pattern (the file is read line by line, a match cannot span several
+     * lines, a line longer than 1M characters fails the check).
+     * The file is decoded with the specified charset.
+     * 
+     * <p>
+     * precondition: {@link Path}, {@code pattern} and {@code charset} cannot be
+     * null
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).find(pattern, StandardCharsets.ISO_8859_1, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param pattern
+     *            The compiled pattern
+     * @param charset
+     *            The file charset
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category message
+     */
+    default StepPath find(final Pattern pattern, final Charset charset, final CharSequence message, final Object... arguments) {
+        return this.find(pattern, charset, null, message, arguments);
+    }
+
+    /**
+     * Asserts that a line of the given file contains a sequence matching
+     * the pattern (the file is read line by line, a match cannot span several
+     * lines, a line longer than 1M characters fails the check).
+     * The file is decoded with the specified charset.
+     * 
+     * <p>
+     * precondition: {@link Path}, {@code pattern} and {@code charset} cannot be
+     * null
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).find(pattern, StandardCharsets.ISO_8859_1, Locale.US, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param pattern
+     *            The compiled pattern
+     * @param charset
+     *            The file charset
+     * @param locale
+     *            The locale of the message (only used to format this message,
+     *            otherwise use {@link Assertor#setLocale})
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category localized_message
+     */
+    default StepPath find(final Pattern pattern, final Charset charset, final Locale locale, final CharSequence message,
+            final Object... arguments) {
+        return () -> AssertorPath.find(this.getStep(), pattern, charset, MessageAssertor.of(locale, message, arguments));
+    }
+
+    /**
+     * Asserts that all the lines of the given file match the predicate
+     * (a file without line is valid). The file is read line by line (a line
+     * longer than 1M characters fails the check), the line passed to the
+     * predicate is reused (it cannot be kept).
+     * The file is decoded in UTF-8.
+     * 
+     * <p>
+     * precondition: {@link Path}, {@code predicate} and {@code charset} cannot
+     * be null
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).allMatch(line -&gt; line.length() &lt; 256).orElseThrow();
+     * </pre>
+     * 
+     * @param predicate
+     *            The predicate function that validates each line
+     * @return The operator
+     * @category no_message
+     */
+    default StepPath allMatch(final Predicate<CharSequence> predicate) {
+        return this.allMatch(predicate, (CharSequence) null);
+    }
+
+    /**
+     * Asserts that all the lines of the given file match the predicate
+     * (a file without line is valid). The file is read line by line (a line
+     * longer than 1M characters fails the check), the line passed to the
+     * predicate is reused (it cannot be kept).
+     * The file is decoded in UTF-8.
+     * 
+     * <p>
+     * precondition: {@link Path}, {@code predicate} and {@code charset} cannot
+     * be null
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).allMatch(line -&gt; line.length() &lt; 256, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param predicate
+     *            The predicate function that validates each line
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category message
+     */
+    default StepPath allMatch(final Predicate<CharSequence> predicate, final CharSequence message, final Object... arguments) {
+        return this.allMatch(predicate, (Locale) null, message, arguments);
+    }
+
+    /**
+     * Asserts that all the lines of the given file match the predicate
+     * (a file without line is valid). The file is read line by line (a line
+     * longer than 1M characters fails the check), the line passed to the
+     * predicate is reused (it cannot be kept).
+     * The file is decoded in UTF-8.
+     * 
+     * <p>
+     * precondition: {@link Path}, {@code predicate} and {@code charset} cannot
+     * be null
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).allMatch(line -&gt; line.length() &lt; 256, Locale.US, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param predicate
+     *            The predicate function that validates each line
+     * @param locale
+     *            The locale of the message (only used to format this message,
+     *            otherwise use {@link Assertor#setLocale})
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category localized_message
+     */
+    default StepPath allMatch(final Predicate<CharSequence> predicate, final Locale locale, final CharSequence message,
+            final Object... arguments) {
+        return this.allMatch(predicate, StandardCharsets.UTF_8, locale, message, arguments);
+    }
+
+    /**
+     * Asserts that all the lines of the given file match the predicate
+     * (a file without line is valid). The file is read line by line (a line
+     * longer than 1M characters fails the check), the line passed to the
+     * predicate is reused (it cannot be kept).
+     * The file is decoded with the specified charset.
+     * 
+     * <p>
+     * precondition: {@link Path}, {@code predicate} and {@code charset} cannot
+     * be null
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).allMatch(line -&gt; line.length() &lt; 256, StandardCharsets.ISO_8859_1).orElseThrow();
+     * </pre>
+     * 
+     * @param predicate
+     *            The predicate function that validates each line
+     * @param charset
+     *            The file charset
+     * @return The operator
+     * @category no_message
+     */
+    default StepPath allMatch(final Predicate<CharSequence> predicate, final Charset charset) {
+        return this.allMatch(predicate, charset, null);
+    }
+
+    /**
+     * Asserts that all the lines of the given file match the predicate
+     * (a file without line is valid). The file is read line by line (a line
+     * longer than 1M characters fails the check), the line passed to the
+     * predicate is reused (it cannot be kept).
+     * The file is decoded with the specified charset.
+     * 
+     * <p>
+     * precondition: {@link Path}, {@code predicate} and {@code charset} cannot
+     * be null
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).allMatch(line -&gt; line.length() &lt; 256, StandardCharsets.ISO_8859_1, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param predicate
+     *            The predicate function that validates each line
+     * @param charset
+     *            The file charset
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category message
+     */
+    default StepPath allMatch(final Predicate<CharSequence> predicate, final Charset charset, final CharSequence message,
+            final Object... arguments) {
+        return this.allMatch(predicate, charset, null, message, arguments);
+    }
+
+    /**
+     * Asserts that all the lines of the given file match the predicate
+     * (a file without line is valid). The file is read line by line (a line
+     * longer than 1M characters fails the check), the line passed to the
+     * predicate is reused (it cannot be kept).
+     * The file is decoded with the specified charset.
+     * 
+     * <p>
+     * precondition: {@link Path}, {@code predicate} and {@code charset} cannot
+     * be null
+     * </p>
+     * 
+     * <pre>
+     * Assertor.that(path).allMatch(line -&gt; line.length() &lt; 256, StandardCharsets.ISO_8859_1, Locale.US, "invalid file").orElseThrow();
+     * </pre>
+     * 
+     * @param predicate
+     *            The predicate function that validates each line
+     * @param charset
+     *            The file charset
+     * @param locale
+     *            The locale of the message (only used to format this message,
+     *            otherwise use {@link Assertor#setLocale})
+     * @param message
+     *            The message on mismatch
+     * @param arguments
+     *            The arguments of the message, use {@link String#format}
+     * @return The operator
+     * @category localized_message
+     */
+    default StepPath allMatch(final Predicate<CharSequence> predicate, final Charset charset, final Locale locale,
+            final CharSequence message, final Object... arguments) {
+        return () -> AssertorPath.allMatch(this.getStep(), predicate, charset, MessageAssertor.of(locale, message, arguments));
+    }
+}
@@ -19,6 +19,7 @@
  */
 package fr.landel.utils.assertor;
 
+import java.nio.file.Path;
 import java.time.temporal.Temporal;
 import java.util.Calendar;
 import java.util.Date;
@@ -449,6 +450,32 @@ public interface OperatorNor<S extends Step<S, T>, T> {
         return () -> HelperStep.nor(this.getStep(), other, EnumType.THROWABLE, analysisMode);
     }
 
+    /**
+     * Append an operator '{@link EnumOperator#NOR}' on the current step with
+     * the ability to check a {@link Path}.
+     * 
+     * @param other
+     *            the other or next checked {@link Path} to check
+     * @return the predicate assertor
+     */
+    default AssertorStepPath nor(final Path other) {
+        return this.nor(other, null);
+    }
+
+    /**
+     * Append an operator '{@link EnumOperator#NOR}' on the current step with
+     * the ability to check a {@link Path}.
+     * 
+     * @param other
+     *            the other or next checked {@link Path} to check
+     * @param analysisMode
+     *            the preferred analysis mode
+     * @return the predicate assertor
+     */
+    default AssertorStepPath nor(final Path other, final EnumAnalysisMode analysisMode) {
+        return () -> HelperStep.nor(this.getStep(), other, EnumType.PATH, analysisMode);
+    }
+
     /**
      * Append an operator '{@link EnumOperator#NOR}' on the current step with
      * the ability to check an {@link Enum}.
@@ -818,6 +845,34 @@ public interface OperatorNor<S extends Step<S, T>, T> {
         return () -> HelperStep.nor(this.getStep(), mapper, EnumType.THROWABLE, analysisMode);
     }
 
+    /**
+     * Append a {@link Path} through a mapper with the operator
+     * {@link EnumOperator#NOR} on the current step.
+     * 
+     * @param mapper
+     *            the mapper function
+     * @return the assertor step
+     */
+    default AssertorStepPath norPath(final Function<T, Path> mapper) {
+        return this.norPath(mapper, null);
+    }
+
+    /**
+     * Append a {@link Path} through a mapper with the operator
+     * {@link EnumOperator#NOR} on the current step.
+     * 
+     * @param mapper
+     *            the mapper function
+     * @param analysisMode
+     *            the analysis mode ({@link EnumAnalysisMode#STANDARD},
+     *            {@link EnumAnalysisMode#STREAM} or
+     *            {@link EnumAnalysisMode#PARALLEL})
+     * @return the assertor step
+     */
+    default AssertorStepPath norPath(final Function<T, Path> mapper, final EnumAnalysisMode analysisMode) {
+        return () -> HelperStep.nor(this.getStep(), mapper, EnumType.PATH, analysisMode);
+    }
+
     /**
      * Append a {@link Number} through a mapper with the operator
      * {@link EnumOperator#NOR} on the current step.
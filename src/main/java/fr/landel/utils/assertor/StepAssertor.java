@@ -22,6 +22,7 @@ package fr.landel.utils.assertor;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -31,6 +32,7 @@ import java.util.function.Predicate;
 
 import fr.landel.utils.assertor.commons.MessageAssertor;
 import fr.landel.utils.assertor.commons.ParameterAssertor;
+import fr.landel.utils.assertor.commons.PlanAssertor;
 import fr.landel.utils.assertor.enums.EnumAnalysisMode;
 import fr.landel.utils.assertor.enums.EnumOperator;
 import fr.landel.utils.assertor.enums.EnumStep;
@@ -105,17 +107,20 @@ public class StepAssertor<T> implements Serializable {
     private final boolean not;
 
     // (object) -> precondition OK?
-    private Predicate<T> preChecker;
+    private final Predicate<T> preChecker;
     // default key message (used id precondition ko or message null)
-    private CharSequence messageKey;
-    private boolean messageKeyNot;
+    private final CharSequence messageKey;
+    private final boolean messageKeyNot;
     // (object, not) -> valid?
-    private BiPredicate<T, Boolean> checker;
+    private final BiPredicate<T, Boolean> checker;
     // if 'not' is directly applied by checker
-    private boolean notAppliedByChecker;
-    private MessageAssertor message;
+    private final boolean notAppliedByChecker;
+    private final MessageAssertor message;
 
-    private List<ParameterAssertor<?>> parameters;
+    private final List<ParameterAssertor<?>> parameters;
+
+    // the compiled chain (lazily loaded)
+    private transient volatile PlanAssertor plan;
 
     /**
      * Base constructor
@@ -148,6 +153,58 @@ public class StepAssertor<T> implements Serializable {
             final EnumType type, final boolean checked, final EnumOperator operator, final boolean not,
             final EnumAnalysisMode analysisMode) {
 
+        this(stepType, previousStep, subStep, subAssertor, mapper, object, type, checked, operator, not, analysisMode, null, null,
+                false, null, null, false, null);
+    }
+
+    /**
+     * Full constructor (all fields are final, so steps can be safely shared
+     * between threads once built)
+     *
+     * @param stepType
+     *            the step type
+     * @param previousStep
+     *            the previous step
+     * @param subStep
+     *            the sub step
+     * @param object
+     *            the object under check
+     * @param type
+     *            the object type
+     * @param checked
+     *            if the object has to be checked
+     * @param operator
+     *            the operator for the previous combination (with next step)
+     * @param not
+     *            if NOT operator is applied on the next checker
+     * @param analysisMode
+     *            the analysis preferred mode
+     * @param preChecker
+     *            the checker for preconditions
+     * @param checker
+     *            the checker
+     * @param notAppliedByChecker
+     *            if NOT operator is directly managed by checker
+     * @param message
+     *            the message if checker returns false
+     * @param messageKey
+     *            the default message key
+     * @param messageKeyNot
+     *            if NOT operator is applied on the message key
+     * @param parameters
+     *            the assertion parameters (may be {@code null})
+     * @param <X>
+     *            the previous step type
+     * @param <Y>
+     *            the sub step type
+     */
+    private <X, Y, S extends Step<S, Y>> StepAssertor(final EnumStep stepType, final StepAssertor<X> previousStep,
+            final StepAssertor<Y> subStep, final Function<X, S> subAssertor, final Function<X, Y> mapper, final T object,
+            final EnumType type, final boolean checked, final EnumOperator operator, final boolean not,
+            final EnumAnalysisMode analysisMode, final Predicate<T> preChecker, final BiPredicate<T, Boolean> checker,
+            final boolean notAppliedByChecker, final MessageAssertor message, final CharSequence messageKey, final boolean messageKeyNot,
+            final List<ParameterAssertor<?>> parameters) {
+
         this.stepType = stepType;
         this.subStep = Optional.ofNullable(subStep);
         this.subAssertor = CastUtils.cast(Optional.ofNullable(subAssertor));
@@ -163,6 +220,15 @@ public class StepAssertor<T> implements Serializable {
         this.not = not;
 
         this.analysisMode = ObjectUtils.defaultIfNull(analysisMode, EnumAnalysisMode.STANDARD);
+
+        this.messageKey = messageKey;
+        this.messageKeyNot = messageKeyNot;
+        this.preChecker = preChecker;
+        this.checker = checker;
+        this.notAppliedByChecker = notAppliedByChecker;
+        this.message = message;
+
+        this.parameters = parameters;
     }
 
     /**
@@ -331,16 +397,9 @@ public class StepAssertor<T> implements Serializable {
     public StepAssertor(final StepAssertor<T> previousStep, final Predicate<T> preChecker, final BiPredicate<T, Boolean> checker,
             final boolean notAppliedByChecker, final MessageAssertor message, final CharSequence messageKey, final boolean messageKeyNot,
             final ParameterAssertor<?>... parameters) {
-        this(EnumStep.ASSERTION, previousStep, null, null, null, null, null, false, null, false, previousStep.getAnalysisMode());
-
-        this.messageKey = messageKey;
-        this.messageKeyNot = messageKeyNot;
-        this.preChecker = preChecker;
-        this.checker = checker;
-        this.notAppliedByChecker = notAppliedByChecker;
-        this.message = message;
-
-        this.parameters = new ArrayList<>(Arrays.asList(parameters));
+        this(EnumStep.ASSERTION, previousStep, null, null, null, null, null, false, null, false, previousStep.getAnalysisMode(), preChecker,
+                checker, notAppliedByChecker, message, messageKey, messageKeyNot,
+                Collections.unmodifiableList(new ArrayList<>(Arrays.asList(parameters))));
     }
 
     /**
@@ -498,6 +557,28 @@ public class StepAssertor<T> implements Serializable {
         return this.messageKeyNot;
     }
 
+    /**
+     * Get the compiled plan of the chain ending with this step. The plan is
+     * only built on first call, next calls return the cached one.
+     * 
+     * @return the compiled plan
+     */
+    public PlanAssertor getPlan() {
+        PlanAssertor result = this.plan;
+        if (result == null) {
+            result = PlanAssertor.compile(this);
+            this.plan = result;
+        }
+        return result;
+    }
+
+    /**
+     * @return true, if the plan is already compiled
+     */
+    public boolean hasPlan() {
+        return this.plan != null;
+    }
+
     @Override
     public String toString() {
         Objects.requireNonNull(this.stepType, ERROR_STEP_TYPE);
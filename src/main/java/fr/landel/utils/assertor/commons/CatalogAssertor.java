@@ -0,0 +1,201 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.commons;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Properties;
+
+import fr.landel.utils.assertor.Assertor;
+import fr.landel.utils.commons.StringUtils;
+
+/**
+ * Immutable catalog of messages. Each key is resolved to a dense integer
+ * identifier when the catalog is built, and messages are stored in an array,
+ * so lookups are lock-free (no {@link java.util.Hashtable} monitor like in
+ * {@link Properties}) and identifiers resolved once can be read by indexing.
+ * 
+ * <p>
+ * Overriding or adding messages creates a new catalog through
+ * {@link #with(Map)}: the identifiers of existing keys are kept and new keys
+ * are appended, so identifiers stay valid from one catalog to the next.
+ * </p>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public final class CatalogAssertor {
+
+    /**
+     * Identifier returned for unknown keys
+     */
+    public static final int UNKNOWN = -1;
+
+    private final Map<String, Integer> ids;
+    private final String[] messages;
+
+    private CatalogAssertor(final Map<String, Integer> ids, final String[] messages) {
+        this.ids = Collections.unmodifiableMap(ids);
+        this.messages = messages;
+    }
+
+    /**
+     * Builds the catalog from a properties resource (loaded by the class
+     * loader of {@link Assertor})
+     * 
+     * @param path
+     *            the resource path
+     * @return the catalog
+     * @throws IOException
+     *             if the resource cannot be read
+     * @throws IllegalArgumentException
+     *             if the resource is malformed or not found
+     */
+    public static CatalogAssertor load(final String path) throws IOException {
+        final Properties properties = new Properties();
+        if (StringUtils.isNotEmpty(path)) {
+            try (final InputStream is = Assertor.class.getClassLoader().getResourceAsStream(path)) {
+                if (is == null) {
+                    throw new IllegalArgumentException("Resource not found: " + path);
+                }
+                properties.load(is);
+            }
+        }
+        return CatalogAssertor.of(properties);
+    }
+
+    /**
+     * Builds the catalog from properties (keys are sorted to assign the
+     * identifiers)
+     * 
+     * @param properties
+     *            the properties
+     * @return the catalog
+     */
+    public static CatalogAssertor of(final Properties properties) {
+        Objects.requireNonNull(properties, "properties");
+
+        final String[] keys = properties.stringPropertyNames().toArray(new String[0]);
+        Arrays.sort(keys);
+
+        final Map<String, Integer> ids = new HashMap<>(keys.length * 4 / 3 + 1);
+        final String[] messages = new String[keys.length];
+        for (int i = 0; i < keys.length; ++i) {
+            ids.put(keys[i], i);
+            messages[i] = properties.getProperty(keys[i]);
+        }
+
+        return new CatalogAssertor(ids, messages);
+    }
+
+    /**
+     * Creates a new catalog with overridden or added messages (the current
+     * catalog isn't modified). Identifiers of existing keys are kept.
+     * 
+     * @param overrides
+     *            the messages (key: the message key, value: the message)
+     * @return the new catalog
+     */
+    public CatalogAssertor with(final Map<String, ? extends CharSequence> overrides) {
+        Objects.requireNonNull(overrides, "overrides");
+
+        final Map<String, Integer> ids = new HashMap<>(this.ids);
+        String[] messages = Arrays.copyOf(this.messages, this.messages.length + overrides.size());
+
+        int size = this.messages.length;
+        Integer id;
+        for (Entry<String, ? extends CharSequence> entry : overrides.entrySet()) {
+            Objects.requireNonNull(entry.getKey(), "key");
+            Objects.requireNonNull(entry.getValue(), "message");
+
+            id = ids.get(entry.getKey());
+            if (id == null) {
+                id = size++;
+                ids.put(entry.getKey(), id);
+            }
+            messages[id] = entry.getValue().toString();
+        }
+
+        if (size < messages.length) {
+            messages = Arrays.copyOf(messages, size);
+        }
+
+        return new CatalogAssertor(ids, messages);
+    }
+
+    /**
+     * @return the number of messages
+     */
+    public int size() {
+        return this.messages.length;
+    }
+
+    /**
+     * @param key
+     *            the message key
+     * @return the identifier of the key or {@link #UNKNOWN}
+     */
+    public int getId(final CharSequence key) {
+        if (key == null) {
+            return UNKNOWN;
+        }
+        final Integer id = this.ids.get(key.toString());
+        return id != null ? id : UNKNOWN;
+    }
+
+    /**
+     * @param id
+     *            the message identifier
+     * @return the message or {@code null} if not found
+     */
+    public String get(final int id) {
+        if (id > UNKNOWN && id < this.messages.length) {
+            return this.messages[id];
+        }
+        return null;
+    }
+
+    /**
+     * @param key
+     *            the message key
+     * @return the message or {@code null} if not found
+     */
+    public String get(final CharSequence key) {
+        return this.get(this.getId(key));
+    }
+
+    /**
+     * @return a copy of the messages
+     */
+    public Properties toProperties() {
+        final Properties properties = new Properties();
+        for (Entry<String, Integer> entry : this.ids.entrySet()) {
+            properties.setProperty(entry.getKey(), this.messages[entry.getValue()]);
+        }
+        return properties;
+    }
+}
@@ -24,8 +24,13 @@ import java.io.InputStream;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.slf4j.Logger;
@@ -58,10 +63,51 @@ public class ConstantsAssertor {
 
     // ---------- PROPERTIES / MESSAGES
 
+    private static final String MESSAGES_BASE_NAME = "assertor_messages";
+    private static final String MESSAGES_EXTENSION = ".properties";
+    private static final int CATALOGS_MAX_SIZE = 1_000;
+    private static final ResourceBundle.Control CONTROL = ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+    /**
+     * Messages catalog loaded at startup
+     */
+    private static final CatalogAssertor DEFAULT_CATALOG = loadCatalog(MESSAGES_BASE_NAME + MESSAGES_EXTENSION);
+
     /**
-     * Messages properties (for now doesn't support locale, maybe later)
+     * Messages catalog, replaced on each override (see
+     * {@link #setMessages(Map)})
      */
-    public static final Properties PROPS = loadProperties("assertor_messages.properties");
+    private static volatile CatalogAssertor catalog = DEFAULT_CATALOG;
+
+    /**
+     * Overridden messages (applied over localized messages)
+     */
+    private static volatile Map<String, CharSequence> overrides = Collections.emptyMap();
+
+    /**
+     * Catalogs by locale (built once per locale, replaced on each override),
+     * the least recently used catalog is removed over
+     * {@link #CATALOGS_MAX_SIZE} locales
+     */
+    private static volatile ConcurrentMap<Locale, LocalizedCatalog> catalogs = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented on each catalog loading, the cached catalogs keep the value
+     * of their last use (so the least recently used can be found)
+     */
+    private static volatile long catalogsClock;
+
+    /**
+     * Messages properties (copy of the messages loaded at startup, the
+     * messages put in these properties are applied through
+     * {@link #setMessages(Map)}, each put builds a new catalog).
+     * 
+     * @deprecated the messages are read from the immutable catalog (see
+     *             {@link #getCatalog()}), use {@link #setMessages(Map)} to
+     *             override messages
+     */
+    @Deprecated
+    public static final Properties PROPS = new MessagesProperties(DEFAULT_CATALOG.toProperties());
 
     // ---------- OTHERS
 
@@ -89,21 +135,156 @@ public class ConstantsAssertor {
 
     // ---------- PROPERTIES LOADER
 
-    private static Properties loadProperties(final String path) {
+    private static CatalogAssertor loadCatalog(final String path) {
+        try {
+            return CatalogAssertor.load(path);
+        } catch (final IOException | IllegalArgumentException e) {
+            LOGGER.error("Cannot load the assertor configuration file", e);
+            return CatalogAssertor.of(new Properties());
+        }
+    }
+
+    /**
+     * Loads the localized messages ({@code assertor_messages_fr.properties},
+     * {@code assertor_messages_fr_FR.properties}...) over the base catalog. If
+     * no localized resource exists, the base catalog is returned as is. The
+     * keys which aren't in the base catalog are ignored (so the identifiers of
+     * keys are the same in all catalogs).
+     * 
+     * @param base
+     *            the base catalog
+     * @param locale
+     *            the locale
+     * @return the localized catalog
+     */
+    private static CatalogAssertor loadCatalog(final CatalogAssertor base, final Locale locale) {
         final Properties properties = new Properties();
-        if (StringUtils.isNotEmpty(path)) {
-            try (final InputStream is = Assertor.class.getClassLoader().getResourceAsStream(path)) {
-                properties.load(is);
-            } catch (final IOException | IllegalArgumentException | NullPointerException e) {
-                LOGGER.error("Cannot load the assertor configuration file", e);
+
+        // from the most general to the most specific (root excluded)
+        final List<Locale> candidates = CONTROL.getCandidateLocales(MESSAGES_BASE_NAME, locale);
+        for (int i = candidates.size() - 1; i >= 0; --i) {
+            if (!Locale.ROOT.equals(candidates.get(i))) {
+                final String path = CONTROL.toBundleName(MESSAGES_BASE_NAME, candidates.get(i)) + MESSAGES_EXTENSION;
+                try (final InputStream is = Assertor.class.getClassLoader().getResourceAsStream(path)) {
+                    if (is != null) {
+                        properties.load(is);
+                    }
+                } catch (final IOException | IllegalArgumentException e) {
+                    LOGGER.error("Cannot load the assertor configuration file: " + path, e);
+                }
+            }
+        }
+
+        if (properties.isEmpty()) {
+            return base;
+        }
+
+        final Map<String, String> messages = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (base.getId(key) != CatalogAssertor.UNKNOWN) {
+                messages.put(key, properties.getProperty(key));
+            } else {
+                LOGGER.warn("Localized message ignored, the key isn't in the base messages: " + key);
             }
         }
-        return properties;
+        return base.with(messages).with(overrides);
+    }
+
+    /**
+     * @return the current messages catalog (without localization)
+     */
+    public static CatalogAssertor getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * Gets the messages catalog of the locale (built once per locale, the
+     * {@value #CATALOGS_MAX_SIZE} most recently used are kept). The
+     * identifiers of keys are the same in all catalogs (the localized
+     * catalogs only contain the keys of the base catalog).
+     * 
+     * @param locale
+     *            the locale (if null, the catalog without localization is
+     *            returned)
+     * @return the messages catalog
+     */
+    public static CatalogAssertor getCatalog(final Locale locale) {
+        final ConcurrentMap<Locale, LocalizedCatalog> localized = catalogs;
+        final CatalogAssertor base = catalog;
+
+        if (locale == null || Locale.ROOT.equals(locale)) {
+            return base;
+        }
+
+        final LocalizedCatalog current = localized.get(locale);
+        if (current != null) {
+            // only written once after each loading
+            final long clock = catalogsClock;
+            if (current.used != clock) {
+                current.used = clock;
+            }
+            return current.catalog;
+        }
+        return cacheCatalog(localized, base, locale);
+    }
+
+    private static synchronized CatalogAssertor cacheCatalog(final ConcurrentMap<Locale, LocalizedCatalog> localized,
+            final CatalogAssertor base, final Locale locale) {
+
+        LocalizedCatalog current = localized.get(locale);
+        if (current == null) {
+            if (localized.size() >= CATALOGS_MAX_SIZE) {
+                Map.Entry<Locale, LocalizedCatalog> eldest = null;
+                for (Map.Entry<Locale, LocalizedCatalog> entry : localized.entrySet()) {
+                    if (eldest == null || entry.getValue().used < eldest.getValue().used) {
+                        eldest = entry;
+                    }
+                }
+                localized.remove(eldest.getKey());
+            }
+
+            current = new LocalizedCatalog(loadCatalog(base, locale), ++catalogsClock);
+            localized.put(locale, current);
+        }
+        return current.catalog;
+    }
+
+    /**
+     * Overrides or adds messages (for all locales). New catalogs replace the
+     * current ones (the identifiers of existing keys are kept), the default
+     * messages prepared with the previous catalogs aren't used anymore.
+     * Designed to be called at startup, messages being prepared concurrently
+     * may still use the previous catalogs.
+     * 
+     * @param messages
+     *            the messages (key: the message key, value: the message)
+     */
+    public static synchronized void setMessages(final Map<String, ? extends CharSequence> messages) {
+        final CatalogAssertor overridden = catalog.with(messages);
+
+        final Map<String, CharSequence> all = new HashMap<>(overrides);
+        all.putAll(messages);
+
+        overrides = Collections.unmodifiableMap(all);
+        catalog = overridden;
+        catalogs = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Removes all overridden messages (see {@link #setMessages(Map)}), the
+     * messages loaded at startup are restored ({@link #PROPS} isn't modified).
+     */
+    public static synchronized void resetMessages() {
+        overrides = Collections.emptyMap();
+        catalog = DEFAULT_CATALOG;
+        catalogs = new ConcurrentHashMap<>();
     }
 
     /**
      * Returns the property associated to the key with replaced arguments or the
-     * default string if not found {@link ConstantsAssertor#DEFAULT_ASSERTION}.
+     * default string if not found {@link ConstantsAssertor#DEFAULT_ASSERTION}
+     * (the catalog of the current locale is used, see
+     * {@link Assertor#getLocale()}).
      * 
      * @param key
      *            The property key
@@ -114,7 +295,50 @@ public class ConstantsAssertor {
      * @return The property
      */
     public static String getProperty(final CharSequence key, final CharSequence[] values, final CharSequence... arguments) {
-        String property = PROPS.getProperty(String.valueOf(key));
+        return injectProperty(getCatalog(Assertor.getLocale()).get(key), values, arguments);
+    }
+
+    /**
+     * Returns the property of the locale associated to the key with replaced
+     * arguments or the default string if not found
+     * {@link ConstantsAssertor#DEFAULT_ASSERTION}.
+     * 
+     * @param locale
+     *            The locale
+     * @param key
+     *            The property key
+     * @param values
+     *            The property values applied before arguments
+     * @param arguments
+     *            The arguments to replace
+     * @return The property
+     */
+    public static String getProperty(final Locale locale, final CharSequence key, final CharSequence[] values,
+            final CharSequence... arguments) {
+        return injectProperty(getCatalog(locale).get(key), values, arguments);
+    }
+
+    /**
+     * Returns the property associated to the identifier (see
+     * {@link CatalogAssertor#getId(CharSequence)}) with replaced arguments or
+     * the default string if not found
+     * {@link ConstantsAssertor#DEFAULT_ASSERTION} (the catalog of the current
+     * locale is used, see {@link Assertor#getLocale()}).
+     * 
+     * @param id
+     *            The property identifier
+     * @param values
+     *            The property values applied before arguments
+     * @param arguments
+     *            The arguments to replace
+     * @return The property
+     */
+    public static String getProperty(final int id, final CharSequence[] values, final CharSequence... arguments) {
+        return injectProperty(getCatalog(Assertor.getLocale()).get(id), values, arguments);
+    }
+
+    private static String injectProperty(final String message, final CharSequence[] values, final CharSequence... arguments) {
+        String property = message;
         if (property != null) {
             if (ArrayUtils.isNotEmpty(values)) {
                 property = StringUtils.inject(property, (Object[]) values);
@@ -368,6 +592,21 @@ public class ConstantsAssertor {
              */
             String CONTAINS = "csq.contains";
 
+            /**
+             * Message key for char sequence contains all substrings
+             */
+            String CONTAINS_ALL = "csq.contains.all";
+
+            /**
+             * Message key for char sequence contains any substring
+             */
+            String CONTAINS_ANY = "csq.contains.any";
+
+            /**
+             * Message key for char sequence contains none of the substrings
+             */
+            String CONTAINS_NONE = "csq.contains.none";
+
             /**
              * Message key for char sequence starts with
              */
@@ -813,5 +1052,130 @@ public class ConstantsAssertor {
              */
             String CAUSE_ASSIGNABLE_PATTERN = "throwable.cause.assignable.pattern";
         }
+
+        /**
+         * PATH constants
+         *
+         * @since Oct 18, 2026
+         * @author Gilles
+         *
+         */
+        static interface PATH {
+
+            /**
+             * Message key for path exists
+             */
+            String EXISTS = "path.exists";
+
+            /**
+             * Message key for file size
+             */
+            String SIZE = "path.size";
+
+            /**
+             * Message key for file size greater than
+             */
+            String SIZE_GT = "path.size.gt";
+
+            /**
+             * Message key for file size greater than or equal to
+             */
+            String SIZE_GTE = "path.size.gte";
+
+            /**
+             * Message key for file size lower than
+             */
+            String SIZE_LT = "path.size.lt";
+
+            /**
+             * Message key for file size lower than or equal to
+             */
+            String SIZE_LTE = "path.size.lte";
+
+            /**
+             * Message key for file contains
+             */
+            String CONTAINS = "path.contains";
+
+            /**
+             * Message key for file find (line by line)
+             */
+            String FIND = "path.find";
+
+            /**
+             * Message key for file starts with bytes
+             */
+            String STARTS = "path.starts";
+
+            /**
+             * Message key for all lines match
+             */
+            String MATCH_ALL = "path.match.all";
+        }
+    }
+
+    /**
+     * Cached localized catalog
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    private static final class LocalizedCatalog {
+
+        private final CatalogAssertor catalog;
+
+        /**
+         * The catalogs clock at the last use
+         */
+        private volatile long used;
+
+        private LocalizedCatalog(final CatalogAssertor catalog, final long used) {
+            this.catalog = catalog;
+            this.used = used;
+        }
+    }
+
+    /**
+     * Messages properties which apply the messages put (through
+     * {@code setProperty}, {@code put}, {@code putAll} or {@code load}) on the
+     * catalog (see {@link ConstantsAssertor#setMessages(Map)}). The other
+     * changes (ex: {@code remove}) only modify these properties.
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    private static final class MessagesProperties extends Properties {
+
+        private static final long serialVersionUID = -6414563417617536471L;
+
+        private MessagesProperties(final Properties properties) {
+            super();
+            for (String key : properties.stringPropertyNames()) {
+                super.put(key, properties.getProperty(key));
+            }
+        }
+
+        @Override
+        public synchronized Object put(final Object key, final Object value) {
+            final Object previous = super.put(key, value);
+            if (key instanceof String && value instanceof String) {
+                ConstantsAssertor.setMessages(Collections.singletonMap((String) key, (String) value));
+            }
+            return previous;
+        }
+
+        @Override
+        public synchronized void putAll(final Map<?, ?> t) {
+            final Map<String, String> messages = new HashMap<>();
+            for (Map.Entry<?, ?> entry : t.entrySet()) {
+                super.put(entry.getKey(), entry.getValue());
+                if (entry.getKey() instanceof String && entry.getValue() instanceof String) {
+                    messages.put((String) entry.getKey(), (String) entry.getValue());
+                }
+            }
+            ConstantsAssertor.setMessages(messages);
+        }
     }
 }
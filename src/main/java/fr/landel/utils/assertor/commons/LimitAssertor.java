@@ -0,0 +1,105 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.commons;
+
+/**
+ * Limits applied on the rendering of arrays, iterables and maps in messages.
+ * Elements over the limits aren't rendered, the rendering ends with an
+ * ellipsis and the number of remaining elements (if known), like:
+ * [a, b, c, &hellip; (4999997 more)].
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public final class LimitAssertor {
+
+    /**
+     * No limit
+     */
+    public static final LimitAssertor UNLIMITED = new LimitAssertor(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    /**
+     * Default limits (100 elements and 10,000 characters per parameter)
+     */
+    public static final LimitAssertor DEFAULT = new LimitAssertor(100, 10_000);
+
+    private final int maxElements;
+    private final int maxCharacters;
+
+    private LimitAssertor(final int maxElements, final int maxCharacters) {
+        this.maxElements = maxElements;
+        this.maxCharacters = maxCharacters;
+    }
+
+    /**
+     * Creates the limits
+     * 
+     * @param maxElements
+     *            the maximum number of rendered elements
+     * @param maxCharacters
+     *            the maximum number of rendered characters (brackets and
+     *            ellipsis excluded)
+     * @return the limits
+     * @throws IllegalArgumentException
+     *             if a limit is negative
+     */
+    public static LimitAssertor of(final int maxElements, final int maxCharacters) {
+        if (maxElements < 0 || maxCharacters < 0) {
+            throw new IllegalArgumentException("Limits cannot be negative");
+        }
+        return new LimitAssertor(maxElements, maxCharacters);
+    }
+
+    /**
+     * @return the maximum number of rendered elements
+     */
+    public int getMaxElements() {
+        return this.maxElements;
+    }
+
+    /**
+     * @return the maximum number of rendered characters
+     */
+    public int getMaxCharacters() {
+        return this.maxCharacters;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.maxElements + this.maxCharacters;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (!(obj instanceof LimitAssertor)) {
+            return false;
+        }
+        final LimitAssertor other = (LimitAssertor) obj;
+        return this.maxElements == other.maxElements && this.maxCharacters == other.maxCharacters;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder("elements: ").append(this.maxElements).append(", characters: ").append(this.maxCharacters).toString();
+    }
+}
@@ -74,6 +74,77 @@ public class MessagesAssertor implements Builder<String> {
         return !this.preconditions.isEmpty() || !this.messages.isEmpty();
     }
 
+    /**
+     * @return the mark of the precondition errors (the errors appended after
+     *         the mark can be checked, removed or wrapped)
+     */
+    public int getPreconditionsMark() {
+        return this.preconditions.size();
+    }
+
+    /**
+     * @return the mark of the standard errors (the errors appended after the
+     *         mark can be checked, removed or wrapped)
+     */
+    public int getMessagesMark() {
+        return this.messages.size();
+    }
+
+    /**
+     * Checks if errors were appended after the marks
+     * 
+     * @param preconditionsMark
+     *            the precondition errors mark
+     * @param messagesMark
+     *            the standard errors mark
+     * @return true, if there are precondition or standard errors after the
+     *         marks
+     */
+    public boolean isNotEmpty(final int preconditionsMark, final int messagesMark) {
+        return this.preconditions.size() > preconditionsMark || this.messages.size() > messagesMark;
+    }
+
+    /**
+     * Removes the errors appended after the marks
+     * 
+     * @param preconditionsMark
+     *            the precondition errors mark
+     * @param messagesMark
+     *            the standard errors mark
+     */
+    public void clear(final int preconditionsMark, final int messagesMark) {
+        truncate(this.preconditions, preconditionsMark);
+        truncate(this.messages, messagesMark);
+    }
+
+    /**
+     * Removes the errors appended between the marks and the sub marks, so only
+     * the errors of the sub Assertor are kept after the marks.
+     * 
+     * @param preconditionsMark
+     *            the precondition errors mark
+     * @param messagesMark
+     *            the standard errors mark
+     * @param subPreconditionsMark
+     *            the precondition errors mark of the sub Assertor
+     * @param subMessagesMark
+     *            the standard errors mark of the sub Assertor
+     */
+    public void clear(final int preconditionsMark, final int messagesMark, final int subPreconditionsMark, final int subMessagesMark) {
+        if (preconditionsMark < subPreconditionsMark) {
+            this.preconditions.subList(preconditionsMark, subPreconditionsMark).clear();
+        }
+        if (messagesMark < subMessagesMark) {
+            this.messages.subList(messagesMark, subMessagesMark).clear();
+        }
+    }
+
+    private static void truncate(final List<MessageAssertor> list, final int mark) {
+        for (int i = list.size() - 1; i >= mark; --i) {
+            list.remove(i);
+        }
+    }
+
     /**
      * Append an operator to the current errors list
      * 
@@ -90,6 +161,38 @@ public class MessagesAssertor implements Builder<String> {
         }
     }
 
+    /**
+     * Append an operator to the errors appended after the marks
+     * 
+     * @param operator
+     *            the operator to append
+     * @param preconditionsMark
+     *            the precondition errors mark
+     * @param messagesMark
+     *            the standard errors mark
+     */
+    public void append(final EnumOperator operator, final int preconditionsMark, final int messagesMark) {
+        if (this.preconditions.size() > preconditionsMark) {
+            this.preconditions.add(operator.getMessageAssertor());
+        } else if (this.messages.size() > messagesMark) {
+            this.messages.add(operator.getMessageAssertor());
+        } else {
+            throw new UnsupportedOperationException("An operator can only be applied on a previous error");
+        }
+    }
+
+    /**
+     * Appends all preconditions and messages of the other messages object (no
+     * parenthesis is added)
+     * 
+     * @param other
+     *            the other messages object
+     */
+    public void addAll(final MessagesAssertor other) {
+        this.preconditions.addAll(other.preconditions);
+        this.messages.addAll(other.messages);
+    }
+
     /**
      * Append a sub-messages Assertor to the current list
      * 
@@ -108,6 +211,45 @@ public class MessagesAssertor implements Builder<String> {
         }
     }
 
+    /**
+     * Wraps the errors of a sub Assertor, appended after the sub marks. Like
+     * {@link #append(MessagesAssertor)}, the errors are put between
+     * parenthesis (if precondition errors exist, the standard errors of the
+     * sub Assertor are removed). If not {@code null} and if errors exist
+     * between the marks and the sub marks, the operator is inserted before.
+     * 
+     * @param operator
+     *            the operator to insert (may be {@code null})
+     * @param preconditionsMark
+     *            the precondition errors mark
+     * @param messagesMark
+     *            the standard errors mark
+     * @param subPreconditionsMark
+     *            the precondition errors mark of the sub Assertor
+     * @param subMessagesMark
+     *            the standard errors mark of the sub Assertor
+     */
+    public void append(final EnumOperator operator, final int preconditionsMark, final int messagesMark, final int subPreconditionsMark,
+            final int subMessagesMark) {
+
+        if (this.preconditions.size() > subPreconditionsMark) {
+            truncate(this.messages, subMessagesMark);
+            this.preconditions.add(subPreconditionsMark, PARENTHESIS_OPEN);
+            this.preconditions.add(PARENTHESIS_CLOSE);
+        } else if (this.messages.size() > subMessagesMark) {
+            this.messages.add(subMessagesMark, PARENTHESIS_OPEN);
+            this.messages.add(PARENTHESIS_CLOSE);
+        }
+
+        if (operator != null) {
+            if (subPreconditionsMark > preconditionsMark) {
+                this.preconditions.add(subPreconditionsMark, operator.getMessageAssertor());
+            } else if (subMessagesMark > messagesMark) {
+                this.messages.add(subMessagesMark, operator.getMessageAssertor());
+            }
+        }
+    }
+
     /**
      * Append a standard message
      * 
@@ -156,21 +298,31 @@ public class MessagesAssertor implements Builder<String> {
      */
     public String build() {
         if (this.isNotEmpty()) {
-            final StringBuilder sb = new StringBuilder();
-
-            final List<MessageAssertor> messages;
-            if (this.isPreconditionsNotEmpty()) {
-                messages = this.preconditions;
-            } else {
-                messages = this.messages;
-            }
+            return this.appendTo(new StringBuilder()).toString();
+        }
+        return StringUtils.EMPTY;
+    }
 
-            for (final MessageAssertor message : messages) {
-                sb.append(HelperMessage.getMessage(message));
-            }
+    /**
+     * Appends the message error to the builder (nothing is appended if there
+     * is no error). Each message is rendered directly into the builder.
+     * 
+     * @param sb
+     *            the output builder
+     * @return the builder
+     */
+    public StringBuilder appendTo(final StringBuilder sb) {
+        final List<MessageAssertor> messages;
+        if (this.isPreconditionsNotEmpty()) {
+            messages = this.preconditions;
+        } else {
+            messages = this.messages;
+        }
 
-            return sb.toString();
+        for (final MessageAssertor message : messages) {
+            HelperMessage.appendMessage(sb, message);
         }
-        return StringUtils.EMPTY;
+
+        return sb;
     }
 }
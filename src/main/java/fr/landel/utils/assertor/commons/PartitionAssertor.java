@@ -0,0 +1,89 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.commons;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a partitioning collector: the valid elements, and the invalid
+ * elements with their messages (both in the encounter order).
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ * @param <T>
+ *            the type of elements
+ */
+public class PartitionAssertor<T> {
+
+    private final List<T> valid;
+    private final List<T> invalid;
+    private final List<String> messages;
+
+    /**
+     * Constructor
+     *
+     * @param valid
+     *            the valid elements
+     * @param invalid
+     *            the invalid elements
+     * @param messages
+     *            the messages of invalid elements (same index)
+     */
+    public PartitionAssertor(final List<T> valid, final List<T> invalid, final List<String> messages) {
+        if (invalid.size() != messages.size()) {
+            throw new IllegalArgumentException("Each invalid element must have a message");
+        }
+
+        this.valid = Collections.unmodifiableList(valid);
+        this.invalid = Collections.unmodifiableList(invalid);
+        this.messages = Collections.unmodifiableList(messages);
+    }
+
+    /**
+     * @return the valid elements
+     */
+    public List<T> getValid() {
+        return this.valid;
+    }
+
+    /**
+     * @return the invalid elements
+     */
+    public List<T> getInvalid() {
+        return this.invalid;
+    }
+
+    /**
+     * @return the messages of invalid elements (the message at index i is the
+     *         message of the invalid element at index i)
+     */
+    public List<String> getMessages() {
+        return this.messages;
+    }
+
+    /**
+     * @return true, if all elements are valid
+     */
+    public boolean isOK() {
+        return this.invalid.isEmpty();
+    }
+}
@@ -0,0 +1,261 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.commons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Bounded cache of compiled regular expressions, shared by the steps created
+ * with a regular expression (like {@code matches(CharSequence)} or
+ * {@code find(CharSequence)}). Lookups are lock free.
+ * 
+ * <p>
+ * Each lookup marks the pattern with the current insertion tick. When the
+ * cache is full, the least recently used patterns are evicted by batch (a
+ * tenth of the maximum size), so the eviction cost is shared by the following
+ * insertions.
+ * </p>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public final class PatternsAssertor {
+
+    /**
+     * Default maximum number of patterns
+     */
+    public static final int DEFAULT_MAX_SIZE = 1_000;
+
+    private static final String MISSING_REGEX = "regex";
+
+    private static final PatternsAssertor DEFAULT = new PatternsAssertor(DEFAULT_MAX_SIZE);
+
+    private final int maxSize;
+    private final int evictionSize;
+
+    private final ConcurrentMap<String, Entry> patterns = new ConcurrentHashMap<>();
+    private final AtomicLong ticks = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private PatternsAssertor(final int maxSize) {
+        this.maxSize = maxSize;
+        this.evictionSize = Math.max(1, maxSize / 10);
+    }
+
+    /**
+     * @return the cache shared by all steps
+     */
+    public static PatternsAssertor getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Creates a cache
+     * 
+     * @param maxSize
+     *            the maximum number of patterns (if zero, patterns aren't
+     *            kept)
+     * @return the cache
+     * @throws IllegalArgumentException
+     *             if the size is negative
+     */
+    public static PatternsAssertor of(final int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Size cannot be negative");
+        }
+        return new PatternsAssertor(maxSize);
+    }
+
+    /**
+     * Gets the compiled regular expression (compiled on the first call)
+     * 
+     * @param regex
+     *            the regular expression (required, not null)
+     * @return the pattern
+     * @throws NullPointerException
+     *             if regex is {@code null}
+     * @throws PatternSyntaxException
+     *             if the regular expression is invalid (not cached)
+     */
+    public Pattern compile(final CharSequence regex) {
+        Objects.requireNonNull(regex, MISSING_REGEX);
+
+        final String key = regex.toString();
+
+        Entry entry = this.patterns.get(key);
+        if (entry != null) {
+            this.hits.increment();
+            entry.touch(this.ticks.get());
+            return entry.pattern;
+        }
+
+        this.misses.increment();
+        final Pattern pattern = Pattern.compile(key);
+        if (this.maxSize == 0) {
+            return pattern;
+        }
+
+        entry = this.patterns.putIfAbsent(key, new Entry(pattern, this.ticks.incrementAndGet()));
+        if (entry != null) {
+            return entry.pattern;
+        }
+
+        if (this.patterns.size() > this.maxSize) {
+            this.evict();
+        }
+        return pattern;
+    }
+
+    /**
+     * Removes the least recently used patterns (if another thread is already
+     * evicting, nothing is done)
+     */
+    private void evict() {
+        if (!this.evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            final int count = this.patterns.size() - this.maxSize + this.evictionSize;
+            if (count <= this.evictionSize) {
+                return;
+            }
+
+            // ticks are read once, they can be updated during the eviction
+            final List<Map.Entry<String, Entry>> entries = new ArrayList<>(this.patterns.entrySet());
+            final long[] ticks = new long[entries.size()];
+            for (int i = 0; i < ticks.length; ++i) {
+                ticks[i] = entries.get(i).getValue().tick;
+            }
+
+            if (ticks.length == 0) {
+                return;
+            }
+
+            final long[] sorted = ticks.clone();
+            Arrays.sort(sorted);
+            final long threshold = sorted[Math.min(count, sorted.length) - 1];
+
+            int removed = 0;
+            Map.Entry<String, Entry> entry;
+            for (int i = 0; i < ticks.length && removed < count; ++i) {
+                entry = entries.get(i);
+                if (ticks[i] <= threshold && this.patterns.remove(entry.getKey(), entry.getValue())) {
+                    this.evictions.increment();
+                    ++removed;
+                }
+            }
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Removes all patterns and resets the statistics
+     */
+    public void clear() {
+        this.patterns.clear();
+        this.hits.reset();
+        this.misses.reset();
+        this.evictions.reset();
+    }
+
+    /**
+     * @return the maximum number of patterns
+     */
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * @return the current number of patterns
+     */
+    public int size() {
+        return this.patterns.size();
+    }
+
+    /**
+     * @return the number of lookups that found the pattern
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * @return the number of lookups that compiled the pattern
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * @return the number of evicted patterns
+     */
+    public long getEvictions() {
+        return this.evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder("size: ").append(this.size()).append('/').append(this.maxSize).append(", hits: ")
+                .append(this.getHits()).append(", misses: ").append(this.getMisses()).append(", evictions: ")
+                .append(this.getEvictions()).toString();
+    }
+
+    /**
+     * Cached pattern
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    private static final class Entry {
+
+        private final Pattern pattern;
+        private volatile long tick;
+
+        private Entry(final Pattern pattern, final long tick) {
+            this.pattern = pattern;
+            this.tick = tick;
+        }
+
+        private void touch(final long tick) {
+            // avoids writing the shared entry on each lookup
+            if (this.tick != tick) {
+                this.tick = tick;
+            }
+        }
+    }
+}
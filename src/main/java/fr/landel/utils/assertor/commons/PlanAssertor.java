@@ -0,0 +1,293 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.commons;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import fr.landel.utils.assertor.StepAssertor;
+import fr.landel.utils.assertor.enums.EnumOperator;
+import fr.landel.utils.assertor.enums.EnumStep;
+
+/**
+ * Compiled and immutable form of a {@link StepAssertor} chain. The linked list
+ * of steps is flattened once in the execution order, and all static data are
+ * resolved at compile time:
+ * <ul>
+ * <li>NOT steps are folded into the following assertion,</li>
+ * <li>the operator applied by each assertion is resolved,</li>
+ * <li>the sub plans of SUB steps are compiled,</li>
+ * <li>steps without effect (PREDICATE_OBJECT, empty SUB) are removed.</li>
+ * </ul>
+ *
+ * <p>
+ * A plan is built by {@link StepAssertor#getPlan()} and cached on the step, so
+ * a chain evaluated many times (like in predicate mode) is only walked once.
+ * </p>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public final class PlanAssertor {
+
+    private final EnumStep[] stepTypes;
+    private final StepAssertor<?>[] steps;
+    private final EnumOperator[] operators;
+    private final boolean[] nots;
+    private final PlanAssertor[] subPlans;
+    private final int size;
+
+    private final int parametersSize;
+
+    // matcher mode validation data (the last step is excluded)
+    private final boolean predicate;
+    private final boolean creation;
+    private final EnumStep lastStepType;
+
+    private PlanAssertor(final List<StepAssertor<?>> steps, final EnumStep lastStepType, final boolean predicate,
+            final boolean creation) {
+
+        final int size = steps.size();
+
+        this.stepTypes = new EnumStep[size];
+        this.steps = new StepAssertor<?>[size];
+        this.operators = new EnumOperator[size];
+        this.nots = new boolean[size];
+        this.subPlans = new PlanAssertor[size];
+
+        EnumOperator operator = null;
+        boolean not = false;
+        int parametersCount = 0;
+        int index = 0;
+
+        StepAssertor<?> step;
+        for (int i = size - 1; i >= 0; --i) {
+            step = steps.get(i);
+
+            switch (step.getStepType()) {
+            case NOT:
+                not = not ^ step.isNot();
+                continue;
+            case ASSERTION:
+                this.operators[index] = operator;
+                this.nots[index] = not;
+                parametersCount += step.getParameters().size();
+                not = false;
+                break;
+            case SUB:
+                if (!step.getSubStep().isPresent()) {
+                    continue;
+                }
+                operator = step.getOperator();
+                this.operators[index] = operator;
+                this.subPlans[index] = step.getSubStep().get().getPlan();
+                break;
+            case PREDICATE:
+            case CREATION:
+                ++parametersCount;
+                break;
+            case PROPERTY:
+            case OBJECT:
+                ++parametersCount;
+                operator = step.getOperator();
+                this.operators[index] = operator;
+                break;
+            case OPERATOR:
+            case SUB_ASSERTOR:
+                operator = step.getOperator();
+                this.operators[index] = operator;
+                break;
+            default: // PREDICATE_OBJECT (no treatment)
+                continue;
+            }
+
+            this.stepTypes[index] = step.getStepType();
+            this.steps[index] = step;
+            ++index;
+        }
+
+        this.size = index;
+        this.parametersSize = parametersCount;
+
+        this.predicate = predicate;
+        this.creation = creation;
+        this.lastStepType = lastStepType;
+    }
+
+    /**
+     * Compiles the chain ending with the specified step. Prefer
+     * {@link StepAssertor#getPlan()} to take advantage of the cache.
+     *
+     * @param step
+     *            the last step
+     * @return the compiled plan
+     */
+    public static PlanAssertor compile(final StepAssertor<?> step) {
+        PlanAssertor.loadSubPlans(step);
+
+        final List<StepAssertor<?>> steps = new ArrayList<>();
+
+        boolean predicate = false;
+        boolean creation = false;
+
+        StepAssertor<?> currentStep = step;
+        EnumStep stepType;
+        while (currentStep != null) {
+            stepType = currentStep.getStepType();
+
+            if (currentStep != step) {
+                if (EnumStep.PREDICATE.equals(stepType)) {
+                    predicate = true;
+                } else if (EnumStep.CREATION.equals(stepType) || EnumStep.OBJECT.equals(stepType)) {
+                    creation = true;
+                }
+            }
+
+            if (stepType != null) {
+                steps.add(currentStep);
+            }
+
+            currentStep = currentStep.getPreviousStep();
+        }
+
+        return new PlanAssertor(steps, step.getStepType(), predicate, creation);
+    }
+
+    /**
+     * Compiles the sub steps without plan, the deepest first, so sub plans are
+     * already cached when a plan is built (the compilation of nested sub
+     * steps isn't recursive).
+     * 
+     * @param step
+     *            the last step
+     */
+    private static void loadSubPlans(final StepAssertor<?> step) {
+        final List<StepAssertor<?>> subSteps = new ArrayList<>();
+
+        StepAssertor<?> currentStep = step;
+        int index = 0;
+        while (currentStep != null) {
+            for (StepAssertor<?> s = currentStep; s != null; s = s.getPreviousStep()) {
+                if (EnumStep.SUB.equals(s.getStepType()) && s.getSubStep().isPresent() && !s.getSubStep().get().hasPlan()) {
+                    subSteps.add(s.getSubStep().get());
+                }
+            }
+
+            if (index < subSteps.size()) {
+                currentStep = subSteps.get(index++);
+            } else {
+                currentStep = null;
+            }
+        }
+
+        for (int i = subSteps.size() - 1; i >= 0; --i) {
+            subSteps.get(i).getPlan();
+        }
+    }
+
+    /**
+     * Validates the plan in matcher mode
+     *
+     * @param matcherMode
+     *            if in matcher mode
+     * @param includeLast
+     *            if the last step has to be validated (true, if the plan is
+     *            run through a {@link EnumStep#PREDICATE_OBJECT} step)
+     * @throws UnsupportedOperationException
+     *             if in matcher mode and if steps of type
+     *             {@link EnumStep#CREATION}, {@link EnumStep#OBJECT} are found
+     *             in the chain
+     * @throws IllegalArgumentException
+     *             if in matcher mode and no step {@link EnumStep#PREDICATE} is
+     *             found
+     */
+    public void validates(final boolean matcherMode, final boolean includeLast) {
+        if (matcherMode) {
+            if (this.creation
+                    || (includeLast && (EnumStep.CREATION.equals(this.lastStepType) || EnumStep.OBJECT.equals(this.lastStepType)))) {
+                throw new UnsupportedOperationException("Creation step cannot be used in Predicate mode");
+            } else if (!this.predicate && !(includeLast && EnumStep.PREDICATE.equals(this.lastStepType))) {
+                throw new IllegalArgumentException("StepAssertor chain must contain a matcher step");
+            }
+        }
+    }
+
+    /**
+     * @return the number of operations
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @return the number of parameters directly loaded by the plan (sub plans
+     *         excluded)
+     */
+    public int getParametersSize() {
+        return this.parametersSize;
+    }
+
+    /**
+     * @param index
+     *            the operation index
+     * @return the step type
+     */
+    public EnumStep getStepType(final int index) {
+        return this.stepTypes[index];
+    }
+
+    /**
+     * @param index
+     *            the operation index
+     * @return the original step
+     */
+    public StepAssertor<?> getStep(final int index) {
+        return this.steps[index];
+    }
+
+    /**
+     * @param index
+     *            the operation index
+     * @return the operator applied by the operation (for assertions, the
+     *         operator of the previous combination)
+     */
+    public EnumOperator getOperator(final int index) {
+        return this.operators[index];
+    }
+
+    /**
+     * @param index
+     *            the operation index
+     * @return if NOT is applied on the assertion
+     */
+    public boolean isNot(final int index) {
+        return this.nots[index];
+    }
+
+    /**
+     * @param index
+     *            the operation index
+     * @return the sub plan (only for {@link EnumStep#SUB})
+     */
+    public PlanAssertor getSubPlan(final int index) {
+        return this.subPlans[index];
+    }
+}
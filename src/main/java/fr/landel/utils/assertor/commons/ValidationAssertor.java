@@ -0,0 +1,111 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.commons;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Result of a bulk validation (the same predicate chain applied on a batch of
+ * objects). Failures are stored by index in a {@link BitSet}, and only the
+ * messages of the first failures are kept.
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class ValidationAssertor {
+
+    private final int count;
+    private final BitSet failures;
+    private final int failureCount;
+    private final Map<Integer, String> messages;
+
+    /**
+     * Constructor
+     *
+     * @param count
+     *            the number of checked objects
+     * @param failures
+     *            the indexes of failed objects
+     * @param messages
+     *            the messages of the first failures (key: the index)
+     */
+    public ValidationAssertor(final int count, final BitSet failures, final Map<Integer, String> messages) {
+        this.count = count;
+        this.failures = failures;
+        this.failureCount = failures.cardinality();
+        this.messages = Collections.unmodifiableMap(messages);
+    }
+
+    /**
+     * @return the number of checked objects
+     */
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * @return the number of failed objects
+     */
+    public int getFailureCount() {
+        return this.failureCount;
+    }
+
+    /**
+     * @return the number of valid objects
+     */
+    public int getValidCount() {
+        return this.count - this.failureCount;
+    }
+
+    /**
+     * @return true, if all objects are valid
+     */
+    public boolean isOK() {
+        return this.failureCount == 0;
+    }
+
+    /**
+     * @param index
+     *            the object index
+     * @return true, if the object at the specified index failed
+     */
+    public boolean isFailure(final int index) {
+        return this.failures.get(index);
+    }
+
+    /**
+     * @return a copy of the failures (the bit is set for each failed object
+     *         index)
+     */
+    public BitSet getFailures() {
+        return (BitSet) this.failures.clone();
+    }
+
+    /**
+     * @return the messages of the first failures, ordered by index (key: the
+     *         index, value: the message)
+     */
+    public Map<Integer, String> getMessages() {
+        return this.messages;
+    }
+}
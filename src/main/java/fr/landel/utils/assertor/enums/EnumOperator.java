@@ -21,6 +21,7 @@ package fr.landel.utils.assertor.enums;
 
 import java.util.function.BiPredicate;
 
+import fr.landel.utils.assertor.commons.CatalogAssertor;
 import fr.landel.utils.assertor.commons.ConstantsAssertor;
 import fr.landel.utils.assertor.commons.MessageAssertor;
 
@@ -105,11 +106,13 @@ public enum EnumOperator {
     NOR("operator.nor", (a, b) -> !a | !b);
 
     private final String key;
+    private final int id;
     private final BiPredicate<Boolean, Boolean> predicate;
     private MessageAssertor message;
 
     private EnumOperator(final String key, final BiPredicate<Boolean, Boolean> predicate) {
         this.key = key;
+        this.id = ConstantsAssertor.getCatalog().getId(key);
         this.predicate = predicate;
     }
 
@@ -134,17 +137,21 @@ public enum EnumOperator {
     }
 
     /**
-     * @return the message Assertor for the operator
+     * @return the message Assertor for the operator (rendered with the
+     *         current locale)
      */
     public MessageAssertor getMessageAssertor() {
         if (this.message == null) {
-            this.message = MessageAssertor.of(null, false, null, null, null, this.toString());
+            this.message = MessageAssertor.of(this.key, false, null, null, null, null);
         }
         return this.message;
     }
 
     @Override
     public String toString() {
-        return ConstantsAssertor.getProperty(this.key, null).toString();
+        if (this.id != CatalogAssertor.UNKNOWN) {
+            return ConstantsAssertor.getProperty(this.id, null);
+        }
+        return ConstantsAssertor.getProperty(this.key, null);
     }
 }
@@ -19,12 +19,12 @@
  */
 package fr.landel.utils.assertor.enums;
 
+import java.nio.file.Path;
 import java.time.temporal.Temporal;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Map;
 
-import fr.landel.utils.commons.CastUtils;
 import fr.landel.utils.commons.NumberUtils;
 
 /**
@@ -113,10 +113,26 @@ public enum EnumType {
     /**
      * Calendar field (only used by converter)
      */
-    CALENDAR_FIELD;
+    CALENDAR_FIELD,
 
     /**
-     * Get the type of an object
+     * Path type (after the existing types, to keep their ordinals)
+     */
+    PATH;
+
+    /**
+     * Types resolved by class (computed once per class, released with the
+     * class)
+     */
+    private static final ClassValue<EnumType> TYPES = new ClassValue<EnumType>() {
+        @Override
+        protected EnumType computeValue(final Class<?> clazz) {
+            return getTypeFromClass(clazz);
+        }
+    };
+
+    /**
+     * Get the type of an object (the type is resolved once by class)
      * 
      * @param object
      *            the object
@@ -125,7 +141,7 @@ public enum EnumType {
     public static EnumType getType(final Object object) {
         EnumType type = UNKNOWN;
         if (object != null) {
-            type = getTypeFromClass(CastUtils.getClass(object), object);
+            type = TYPES.get(object.getClass());
         }
         return type;
     }
@@ -135,13 +151,11 @@ public enum EnumType {
      * 
      * @param clazz
      *            the class
-     * @param object
-     *            the object (may be {@code null})
      * @param <T>
-     *            the object type
+     *            the class type
      * @return The type or {@link EnumType#UNKNOWN}
      */
-    private static <T> EnumType getTypeFromClass(final Class<T> clazz, final T object) {
+    private static <T> EnumType getTypeFromClass(final Class<T> clazz) {
         EnumType type = UNKNOWN;
 
         if (Number.class.isAssignableFrom(clazz)) {
@@ -158,6 +172,9 @@ public enum EnumType {
             type = CHARACTER;
         } else if (clazz.isArray()) {
             type = ARRAY;
+        } else if (Path.class.isAssignableFrom(clazz)) {
+            // before iterable (a path iterates over its names)
+            type = PATH;
         } else if (Iterable.class.isAssignableFrom(clazz)) {
             type = ITERABLE;
         } else if (Map.class.isAssignableFrom(clazz)) {
@@ -172,7 +189,7 @@ public enum EnumType {
             type = TEMPORAL;
         } else if (Throwable.class.isAssignableFrom(clazz)) {
             type = THROWABLE;
-        } else if (Class.class.isInstance(object)) {
+        } else if (Class.class.equals(clazz)) {
             type = CLASS;
         }
 
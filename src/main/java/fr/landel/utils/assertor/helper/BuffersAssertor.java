@@ -0,0 +1,86 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.helper;
+
+/**
+ * Scratch builder used to render the messages. One builder is kept per thread
+ * and reused, so only the final {@link String} (or nothing if the messages are
+ * appended to a caller buffer) is allocated.
+ * 
+ * <p>
+ * If a rendering is started during another one on the same thread (by a
+ * {@code toString} method for example), a temporary builder is created. A
+ * builder that has grown over {@link #MAX_CAPACITY} is not kept.
+ * </p>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+final class BuffersAssertor {
+
+    /**
+     * Initial capacity of the builder
+     */
+    static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * Maximum capacity of the builder kept between renderings
+     */
+    static final int MAX_CAPACITY = 16_384;
+
+    private static final ThreadLocal<BuffersAssertor> CURRENT = ThreadLocal.withInitial(BuffersAssertor::new);
+
+    private StringBuilder builder = new StringBuilder(INITIAL_CAPACITY);
+    private boolean busy;
+
+    /**
+     * Gets the builder of the current thread.
+     * 
+     * @return the empty buffer (has to be released)
+     */
+    static BuffersAssertor acquire() {
+        BuffersAssertor buffer = CURRENT.get();
+        if (buffer.busy) {
+            buffer = new BuffersAssertor();
+        }
+        buffer.busy = true;
+        return buffer;
+    }
+
+    /**
+     * Releases the buffer, the builder is cleared (or replaced if too large).
+     */
+    void release() {
+        if (this.builder.capacity() > MAX_CAPACITY) {
+            this.builder = new StringBuilder(INITIAL_CAPACITY);
+        } else {
+            this.builder.setLength(0);
+        }
+        this.busy = false;
+    }
+
+    /**
+     * @return the builder
+     */
+    StringBuilder getBuilder() {
+        return this.builder;
+    }
+}
@@ -0,0 +1,191 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.helper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import fr.landel.utils.assertor.commons.MessagesAssertor;
+import fr.landel.utils.assertor.commons.ParameterAssertor;
+import fr.landel.utils.assertor.commons.PlanAssertor;
+
+/**
+ * Explicit stack of frames, used to evaluate the sub steps without recursion.
+ * A frame is pushed for each sub step ({@code SUB} and {@code SUB_ASSERTOR}),
+ * all frames share the same parameters list and the same messages (each frame
+ * only keeps the marks of its first parameter and of its first messages).
+ * 
+ * <p>
+ * Frames are reused, one stack is kept per thread. If an evaluation is started
+ * during another one on the same thread (by a checker for example), a
+ * temporary stack is created.
+ * </p>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+final class FramesAssertor {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private static final ThreadLocal<FramesAssertor> CURRENT = ThreadLocal.withInitial(FramesAssertor::new);
+
+    private final List<ParameterAssertor<?>> parameters = new ArrayList<>();
+
+    private Frame[] frames = new Frame[INITIAL_CAPACITY];
+    private int size;
+    private boolean busy;
+
+    /**
+     * Evaluation state of a plan
+     */
+    static final class Frame {
+        PlanAssertor plan;
+        Object matcherObject;
+        boolean matcherMode;
+        boolean subAssertor;
+
+        int index;
+        boolean valid;
+        Object object;
+        ParameterAssertor<?> parameter;
+
+        int parametersMark;
+        int preconditionsMark;
+        int messagesMark;
+    }
+
+    /**
+     * Gets the stack of the current thread.
+     * 
+     * @return the frames stack (has to be released)
+     */
+    static FramesAssertor acquire() {
+        FramesAssertor frames = CURRENT.get();
+        if (frames.busy) {
+            frames = new FramesAssertor();
+        }
+        frames.busy = true;
+        return frames;
+    }
+
+    /**
+     * Releases the stack, all references are cleared.
+     */
+    void release() {
+        this.reset();
+        this.busy = false;
+    }
+
+    /**
+     * Clears the stack (without releasing it), to start a new evaluation.
+     */
+    void reset() {
+        while (this.size > 0) {
+            this.pop();
+        }
+        this.parameters.clear();
+    }
+
+    /**
+     * @return the parameters shared by all frames
+     */
+    List<ParameterAssertor<?>> getParameters() {
+        return this.parameters;
+    }
+
+    /**
+     * @return the number of frames
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Pushes a new frame
+     * 
+     * @param plan
+     *            the plan to evaluate
+     * @param matcherObject
+     *            the object to test (only in matcher mode)
+     * @param matcherMode
+     *            if it's in matcher mode
+     * @param subAssertor
+     *            if the frame evaluates a sub Assertor
+     * @param messages
+     *            the shared messages (may be {@code null})
+     * @return the new frame
+     */
+    Frame push(final PlanAssertor plan, final Object matcherObject, final boolean matcherMode, final boolean subAssertor,
+            final MessagesAssertor messages) {
+
+        if (this.size == this.frames.length) {
+            this.frames = Arrays.copyOf(this.frames, this.size << 1);
+        }
+
+        Frame frame = this.frames[this.size];
+        if (frame == null) {
+            frame = new Frame();
+            this.frames[this.size] = frame;
+        }
+        ++this.size;
+
+        frame.plan = plan;
+        frame.matcherObject = matcherObject;
+        frame.matcherMode = matcherMode;
+        frame.subAssertor = subAssertor;
+
+        frame.index = 0;
+        frame.valid = true;
+        frame.object = matcherObject;
+        frame.parameter = null;
+
+        frame.parametersMark = this.parameters.size();
+        if (messages != null) {
+            frame.preconditionsMark = messages.getPreconditionsMark();
+            frame.messagesMark = messages.getMessagesMark();
+        } else {
+            frame.preconditionsMark = 0;
+            frame.messagesMark = 0;
+        }
+
+        return frame;
+    }
+
+    /**
+     * Removes the current frame
+     * 
+     * @return the parent frame (or {@code null} if the stack is empty)
+     */
+    Frame pop() {
+        final Frame frame = this.frames[--this.size];
+        frame.plan = null;
+        frame.matcherObject = null;
+        frame.object = null;
+        frame.parameter = null;
+
+        if (this.size > 0) {
+            return this.frames[this.size - 1];
+        }
+        return null;
+    }
+}
@@ -20,32 +20,36 @@
 package fr.landel.utils.assertor.helper;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.function.BiPredicate;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.apache.commons.collections4.Transformer;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.tuple.Pair;
-import org.apache.commons.lang3.tuple.Triple;
 
 import fr.landel.utils.assertor.Step;
 import fr.landel.utils.assertor.StepAssertor;
 import fr.landel.utils.assertor.commons.ConstantsAssertor;
 import fr.landel.utils.assertor.commons.MessagesAssertor;
 import fr.landel.utils.assertor.commons.ParameterAssertor;
+import fr.landel.utils.assertor.commons.PlanAssertor;
 import fr.landel.utils.assertor.commons.ResultAssertor;
+import fr.landel.utils.assertor.commons.ValidationAssertor;
 import fr.landel.utils.assertor.enums.EnumOperator;
 import fr.landel.utils.assertor.enums.EnumStep;
 import fr.landel.utils.assertor.enums.EnumType;
+import fr.landel.utils.assertor.helper.FramesAssertor.Frame;
 import fr.landel.utils.commons.CastUtils;
-import fr.landel.utils.commons.ObjectUtils;
-import fr.landel.utils.commons.tuple.PairIso;
 
 /**
  * Assertor helper class, to combine steps.
@@ -71,78 +75,13 @@ public class HelperAssertor extends ConstantsAssertor {
         }
     };
 
-    /**
-     * When the previous check is valid followed by operator OR, we don't need
-     * to check the next steps, it's OK. Or, when the previous check is invalid
-     * followed by operator NOR, we don't need to check the next steps, it's
-     * also OK.
-     */
-    private static final BiPredicate<Boolean, EnumOperator> VALID = (valid, operator) -> (!valid && EnumOperator.NOR.equals(operator))
-            || (valid && EnumOperator.OR.equals(operator));
-
-    /**
-     * When the previous check is valid followed by operator NAND, we don't need
-     * to check the next steps, it's KO. Or, when the previous check is invalid
-     * followed by operator AND, we don't need to check the next steps, it's
-     * also KO.
-     */
-    private static final BiPredicate<Boolean, EnumOperator> INVALID = (valid, operator) -> (!valid && EnumOperator.AND.equals(operator))
-            || (valid && EnumOperator.NAND.equals(operator));
-
     private static final String ERROR_CHECKER = "checker is missing";
 
-    /**
-     * Validates matcher mode and return the steps list reversed
-     * 
-     * @param step
-     *            the end step
-     * @param matcherMode
-     *            if in matcher mode
-     * @param <T>
-     *            the type of current chcecked object
-     * @return the steps list reversed
-     * @throws UnsupportedOperationException
-     *             if in matcher mode and if steps of type
-     *             {@link EnumStep#CREATION}, {@link EnumStep#OBJECT} are found
-     *             in the chain
-     */
-    private static <T> List<StepAssertor<?>> validatesAndReverse(final StepAssertor<T> step, final boolean matcherMode) {
-
-        final List<StepAssertor<?>> steps = new ArrayList<>();
-        steps.add(step);
-
-        final boolean inMatcherMode = matcherMode || EnumStep.PREDICATE_OBJECT.equals(step.getStepType());
-
-        StepAssertor<?> first = null;
-        StepAssertor<?> currentStep = step;
-        StepAssertor<?> previousStep;
-
-        while ((previousStep = currentStep.getPreviousStep()) != null) {
-
-            if (inMatcherMode) {
-                final EnumStep s = previousStep.getStepType();
-
-                if (EnumStep.PREDICATE.equals(s)) {
-                    first = previousStep;
-
-                } else if (EnumStep.CREATION.equals(s) || EnumStep.OBJECT.equals(s)) {
-                    throw new UnsupportedOperationException("Creation step cannot be used in Predicate mode");
-                }
-            }
-
-            steps.add(previousStep);
-
-            currentStep = previousStep;
-        }
-
-        if (inMatcherMode && first == null) {
-            throw new IllegalArgumentException("StepAssertor chain must contain a matcher step");
-        }
-
-        Collections.reverse(steps);
-
-        return steps;
-    }
+    // evaluation results
+    private static final int EVALUATION_NONE = 0;
+    private static final int EVALUATION_VALID = 1;
+    private static final int EVALUATION_INVALID = 2;
+    private static final int EVALUATION_PRECONDITION = 3;
 
     /**
      * The combine function (the main method). This method is called by each end
@@ -191,301 +130,803 @@ public class HelperAssertor extends ConstantsAssertor {
     public static <T> ResultAssertor combine(final StepAssertor<T> step, final Object object, final boolean marcherMode,
             final boolean loadMessage) {
 
-        final List<StepAssertor<?>> steps = validatesAndReverse(step, marcherMode);
+        final MessagesAssertor messages;
+        if (loadMessage) {
+            messages = new MessagesAssertor();
+        } else {
+            messages = null;
+        }
 
-        boolean not = false;
-        boolean valid = true;
-        PairIso<Boolean> resultValid;
-        EnumOperator operator = null;
-        final MessagesAssertor messages = new MessagesAssertor();
-        Object obj;
+        final FramesAssertor frames = FramesAssertor.acquire();
+        try {
+            final int result = evaluate(frames, step, object, marcherMode, true, messages);
+
+            return new ResultAssertor(result != EVALUATION_PRECONDITION, result == EVALUATION_VALID, messages, frames.getParameters());
+        } finally {
+            frames.release();
+        }
+    }
+
+    /**
+     * Combines the steps asynchronously (same result as
+     * {@link #combine(StepAssertor, boolean)}). The SUB steps of the chain
+     * which cannot be skipped are independent, so they are evaluated
+     * concurrently on the executor, and their results are applied in order
+     * when the main chain is evaluated.
+     * 
+     * <p>
+     * A SUB step cannot be skipped if all the operators until it are
+     * {@code XOR} (the only operator without shortcut, the other operators may
+     * skip the next steps depending on the previous result). The other SUB
+     * steps are evaluated serially with the main chain (like in
+     * {@link #combine(StepAssertor, boolean)}), so their checkers are only
+     * called if their result is required. The dispatched checkers have to be
+     * thread-safe, they're still called if a previous step fails its
+     * precondition or throws an exception (their result is ignored).
+     * </p>
+     * 
+     * <p>
+     * Only the SUB steps of the main chain are dispatched. The SUB_ASSERTOR
+     * steps (like {@code andAssertor(o -> Assertor.that(o.getName())...)})
+     * are built from the current object, which is only known when the main
+     * chain reaches them, so they are evaluated serially with the main chain.
+     * The nested SUB steps (a SUB step inside a SUB step) are evaluated
+     * serially inside their dispatched branch.
+     * </p>
+     * 
+     * @param step
+     *            the last step
+     * @param loadMessage
+     *            if the message has to be loaded and formated
+     * @param executor
+     *            the executor (ex: a virtual-thread-per-task executor)
+     * @param <T>
+     *            the type of checked object
+     * @return the future result (completed exceptionally, if the chain isn't
+     *         valid or if a checker fails)
+     */
+    public static <T> CompletableFuture<ResultAssertor> combineAsync(final StepAssertor<T> step, final boolean loadMessage,
+            final Executor executor) {
+
+        Objects.requireNonNull(executor, "executor");
+
+        final PlanAssertor plan;
         final Object matcherObject;
-        boolean checked = false;
-        EnumType type = null;
-        ParameterAssertor<?> param = null;
+        final boolean matcherMode;
 
-        final List<ParameterAssertor<?>> parameters = new ArrayList<>();
+        try {
+            if (EnumStep.PREDICATE_OBJECT.equals(step.getStepType())) {
+                plan = getPlan(step);
+                plan.validates(true, true);
+                matcherObject = step.getObject();
+                matcherMode = true;
+            } else {
+                plan = step.getPlan();
+                plan.validates(false, false);
+                matcherObject = null;
+                matcherMode = false;
+            }
+        } catch (RuntimeException e) {
+            final CompletableFuture<ResultAssertor> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
 
-        Optional<Pair<Boolean, MessagesAssertor>> dontNeedCheck = Optional.empty();
+        final int size = plan.size();
+        final Branch[] branches = new Branch[size];
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
 
-        // get the object to check
-        // in matcher mode, two ways are available to inject the object:
-        // - first: directly through the combine function
-        boolean inMatcherMode = marcherMode;
-        if (inMatcherMode) {
-            obj = object;
-            // - second:
-        } else if (EnumStep.PREDICATE_OBJECT.equals(step.getStepType())) {
-            obj = step.getObject();
-            inMatcherMode = true;
-        } else {
-            obj = null;
+        for (int i = 0; i < size; ++i) {
+            final EnumOperator operator = plan.getOperator(i);
+            if (operator != null && !EnumOperator.XOR.equals(operator)) {
+                // the next steps may be skipped
+                break;
+            } else if (EnumStep.SUB.equals(plan.getStepType(i))) {
+                final Branch branch = new Branch(plan.getSubPlan(i));
+                branches[i] = branch;
+                futures.add(CompletableFuture.runAsync(() -> branch.evaluate(matcherObject, matcherMode, loadMessage), executor));
+            }
         }
 
-        // create a temporary variable for sub steps (in matcher mode)
-        matcherObject = obj;
+        final Supplier<ResultAssertor> combination = () -> {
+            final MessagesAssertor messages;
+            if (loadMessage) {
+                messages = new MessagesAssertor();
+            } else {
+                messages = null;
+            }
+
+            final FramesAssertor frames = FramesAssertor.acquire();
+            try {
+                final int result = evaluate(frames, plan, matcherObject, matcherMode, true, messages, futures.isEmpty() ? null : branches);
 
-        for (StepAssertor<?> s : steps) {
-            if (s.getStepType() == null) {
-                continue;
+                return new ResultAssertor(result != EVALUATION_PRECONDITION, result == EVALUATION_VALID, messages, frames.getParameters());
+            } finally {
+                frames.release();
             }
+        };
 
-            switch (s.getStepType()) {
+        if (futures.isEmpty()) {
+            return CompletableFuture.supplyAsync(combination, executor);
+        }
 
-            // the first step of an Assertor in predicate mode (ex:
-            // Assertor.ofNumber...)
-            case PREDICATE:
-                type = s.getType();
-                if (EnumType.UNKNOWN.equals(type)) {
-                    type = EnumType.getType(obj);
-                }
-                param = new ParameterAssertor<>(obj, type, true);
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()]))
+                .thenApplyAsync(v -> combination.get(), executor);
+    }
+
+    /**
+     * Checks if the step is valid (boolean only version of the combine
+     * function). No parameter and no message are built, so this function only
+     * allocates through the checkers.
+     * 
+     * @param step
+     *            the last step
+     * @param <T>
+     *            the type of checked object
+     * @return true, if preconditions are OK and the step is valid
+     * @throws IllegalArgumentException
+     *             if in matcher mode and object is not set
+     */
+    public static <T> boolean isOK(final StepAssertor<T> step) {
+        final FramesAssertor frames = FramesAssertor.acquire();
+        try {
+            return evaluate(frames, step, null, false, false, null) == EVALUATION_VALID;
+        } finally {
+            frames.release();
+        }
+    }
 
-                parameters.add(param);
+    /**
+     * Checks if the object matches the predicate step (boolean only version
+     * of the combine function, the object is injected like through a
+     * {@link EnumStep#PREDICATE_OBJECT} step).
+     * 
+     * @param step
+     *            the last predicate step
+     * @param object
+     *            the object to test
+     * @param <T>
+     *            the type of checked object
+     * @return true, if preconditions are OK and the object is valid
+     * @throws UnsupportedOperationException
+     *             if the chain isn't a predicate chain
+     */
+    public static <T> boolean isOK(final StepAssertor<T> step, final T object) {
+        final PlanAssertor plan = step.getPlan();
+        plan.validates(true, true);
 
-                break;
-            // the first step of an Assertor (ex: Assertor.that(object)...)
-            case CREATION:
-                obj = s.getObject();
-                type = s.getType();
-                checked = s.isChecked();
-                param = new ParameterAssertor<>(obj, type, checked);
+        final FramesAssertor frames = FramesAssertor.acquire();
+        try {
+            return evaluate(frames, plan, object, true, false, null) == EVALUATION_VALID;
+        } finally {
+            frames.release();
+        }
+    }
 
-                parameters.add(param);
+    /**
+     * Checks if the object matches the predicate step, the message is loaded
+     * in the same evaluation (the object is injected like through a
+     * {@link EnumStep#PREDICATE_OBJECT} step).
+     * 
+     * @param step
+     *            the last predicate step
+     * @param object
+     *            the object to test
+     * @param <T>
+     *            the type of checked object
+     * @return {@code null}, if preconditions are OK and the object is valid,
+     *         otherwise the message (can be empty)
+     * @throws UnsupportedOperationException
+     *             if the chain isn't a predicate chain
+     */
+    public static <T> String validate(final StepAssertor<T> step, final T object) {
+        final PlanAssertor plan = step.getPlan();
+        plan.validates(true, true);
 
-                break;
-            // the validation step
-            case ASSERTION:
-                parameters.addAll(s.getParameters());
+        final MessagesAssertor messages = new MessagesAssertor();
+        final FramesAssertor frames = FramesAssertor.acquire();
+        try {
+            if (evaluate(frames, plan, object, true, true, messages) == EVALUATION_VALID) {
+                return null;
+            }
+            return getMessage(messages);
+        } finally {
+            frames.release();
+        }
+    }
 
-                // if precondition returns false, we end all treatments
-                if (!HelperAssertor.preCheck(s, obj)) {
-                    return HelperAssertor.getPreconditionMessage(s, param, parameters, loadMessage);
+    /**
+     * Checks all objects against the predicate step (bulk version of the
+     * {@link #isOK(StepAssertor, Object)} function). The plan is validated and
+     * the evaluation frames are acquired once for the whole batch, the
+     * messages are only built for the first failures.
+     * 
+     * @param step
+     *            the last predicate step
+     * @param objects
+     *            the objects to test
+     * @param maxMessages
+     *            the maximum number of failure messages to build
+     * @param <T>
+     *            the type of checked objects
+     * @return the bulk result
+     * @throws UnsupportedOperationException
+     *             if the chain isn't a predicate chain
+     */
+    public static <T> ValidationAssertor validateAll(final StepAssertor<T> step, final Iterator<? extends T> objects,
+            final int maxMessages) {
 
-                } else {
-                    resultValid = HelperAssertor.validatesAndGetMessage(s, param, obj, valid, not, operator, messages, loadMessage);
-                    valid = resultValid.getRight();
-                }
+        final PlanAssertor plan = step.getPlan();
+        plan.validates(true, true);
 
-                if (operator != null && !valid) {
-                    dontNeedCheck = checkValidityAndOperator(resultValid.getLeft(), operator, messages, loadMessage);
-                }
+        final BitSet failures = new BitSet();
+        final Map<Integer, String> errors = new LinkedHashMap<>();
 
-                not = false;
+        final int count = validate(plan, objects, 0, failures, errors, maxMessages);
 
-                break;
-            // the combining step between two validation steps
-            case OPERATOR:
-                operator = s.getOperator();
+        return new ValidationAssertor(count, failures, errors);
+    }
+
+    /**
+     * Checks all objects against the predicate step in parallel. The
+     * spliterator is split into chunks validated by the fork/join pool, each
+     * worker fills its own failures buffer (no shared lock), and buffers are
+     * merged at the end. The indexes of the failures are those of the original
+     * objects.
+     * 
+     * <p>
+     * The spliterator is only split if it's {@link Spliterator#SUBSIZED} (like
+     * the spliterators of arrays and array lists), otherwise the objects are
+     * validated by one task.
+     * </p>
+     * 
+     * @param step
+     *            the last predicate step
+     * @param objects
+     *            the objects to test
+     * @param pool
+     *            the fork/join pool (if {@code null}, the common pool is used)
+     * @param chunkSize
+     *            the number of objects validated by each task (if lower than
+     *            1, the size is computed from the pool parallelism)
+     * @param maxMessages
+     *            the maximum number of failure messages to build
+     * @param <T>
+     *            the type of checked objects
+     * @return the bulk result
+     * @throws UnsupportedOperationException
+     *             if the chain isn't a predicate chain
+     */
+    public static <T> ValidationAssertor validateAll(final StepAssertor<T> step, final Spliterator<? extends T> objects,
+            final ForkJoinPool pool, final int chunkSize, final int maxMessages) {
 
-                dontNeedCheck = checkValidityAndOperator(valid, operator, messages, loadMessage);
+        final PlanAssertor plan = step.getPlan();
+        plan.validates(true, true);
 
-                break;
-            // the not step to reverse the next validation step
-            case NOT:
-                not = not ^ s.isNot();
+        final ForkJoinPool forkJoinPool = pool != null ? pool : ForkJoinPool.commonPool();
 
-                break;
-            // the object provided by the mapper
-            case PROPERTY:
-                if (s.getMapper().isPresent()) {
-                    operator = s.getOperator();
-                    obj = s.getMapper().get().apply(obj);
-                    type = s.getType();
-                    checked = s.isChecked();
-                    param = new ParameterAssertor<>(obj, type, checked);
-
-                    parameters.add(param);
-
-                    dontNeedCheck = checkValidityAndOperator(valid, operator, messages, loadMessage);
-                } else {
-                    throw new IllegalStateException("property cannot be null");
+        final long threshold;
+        if (chunkSize > 0) {
+            threshold = chunkSize;
+        } else {
+            threshold = Math.max(objects.estimateSize() / (forkJoinPool.getParallelism() << 2), 1);
+        }
+
+        final List<ValidationTask.Chunk> chunks = forkJoinPool.invoke(new ValidationTask(plan, objects, 0, threshold, maxMessages));
+        chunks.sort((c1, c2) -> Integer.compare(c1.getOffset(), c2.getOffset()));
+
+        final BitSet failures = new BitSet();
+        final Map<Integer, String> errors = new LinkedHashMap<>();
+        int count = 0;
+
+        BitSet chunkFailures;
+        for (ValidationTask.Chunk chunk : chunks) {
+            chunkFailures = chunk.getFailures();
+            for (int i = chunkFailures.nextSetBit(0); i >= 0; i = chunkFailures.nextSetBit(i + 1)) {
+                failures.set(chunk.getOffset() + i);
+            }
+            for (Map.Entry<Integer, String> error : chunk.getErrors().entrySet()) {
+                if (errors.size() < maxMessages) {
+                    errors.put(error.getKey(), error.getValue());
                 }
-                break;
-            // the other object to validate
-            case OBJECT:
-                operator = s.getOperator();
-                obj = s.getObject();
-                type = s.getType();
-                checked = s.isChecked();
-                param = new ParameterAssertor<>(obj, type, checked);
+            }
+            count += chunk.getCount();
+        }
+
+        return new ValidationAssertor(count, failures, errors);
+    }
 
-                parameters.add(param);
+    /**
+     * Checks the objects against the validated plan, the evaluation frames are
+     * acquired once for all objects.
+     * 
+     * @param plan
+     *            the predicate plan
+     * @param objects
+     *            the objects to test
+     * @param offset
+     *            the index of the first object (only applied on the errors
+     *            keys)
+     * @param failures
+     *            the failures (index from the first object)
+     * @param errors
+     *            the messages of the first failures (key: offset + index)
+     * @param maxMessages
+     *            the maximum number of failure messages to build
+     * @return the number of checked objects
+     */
+    static int validate(final PlanAssertor plan, final Iterator<?> objects, final int offset, final BitSet failures,
+            final Map<Integer, String> errors, final int maxMessages) {
 
-                dontNeedCheck = checkValidityAndOperator(valid, operator, messages, loadMessage);
+        int index = 0;
 
-                break;
-            // the sub step to emulate parenthesis in a check (ex:
-            // Assertor.that(2).isZero().or(Assertor.that(2).isGTE(1).and().isLTE(10)))
-            case SUB:
-                if (s.getSubStep().isPresent()) {
-                    dontNeedCheck = checkValidityAndOperator(valid, s.getOperator(), messages, loadMessage);
-
-                    if (!dontNeedCheck.isPresent()) {
-                        final Triple<Boolean, EnumOperator, ResultAssertor> output = HelperAssertor.managesSub(s, matcherObject,
-                                inMatcherMode, parameters, valid, operator, messages, loadMessage);
-
-                        if (output.getRight() != null) {
-                            return output.getRight();
-                        } else {
-                            valid = output.getLeft();
-                            operator = output.getMiddle();
-                        }
+        final FramesAssertor frames = FramesAssertor.acquire();
+        try {
+            Object object;
+            MessagesAssertor messages;
+            while (objects.hasNext()) {
+                object = objects.next();
+
+                if (evaluate(frames, plan, object, true, false, null) != EVALUATION_VALID) {
+                    failures.set(index);
+
+                    if (errors.size() < maxMessages) {
+                        frames.reset();
+                        messages = new MessagesAssertor();
+                        evaluate(frames, plan, object, true, true, messages);
+                        errors.put(offset + index, getMessage(messages));
                     }
                 }
-                break;
-            // sub assertor step to check sub properties
-            case SUB_ASSERTOR:
-                if (s.getSubAssertor().isPresent()) {
-                    operator = s.getOperator();
 
-                    dontNeedCheck = checkValidityAndOperator(valid, operator, messages, loadMessage);
+                frames.reset();
+                ++index;
+            }
+        } finally {
+            frames.release();
+        }
+
+        return index;
+    }
+
+    private static int evaluate(final FramesAssertor frames, final StepAssertor<?> step, final Object object, final boolean marcherMode,
+            final boolean collect, final MessagesAssertor messages) {
+
+        // in matcher mode, two ways are available to inject the object:
+        // - first: directly through the combine function
+        if (marcherMode) {
+            final PlanAssertor plan = getPlan(step);
+            plan.validates(true, EnumStep.PREDICATE_OBJECT.equals(step.getStepType()));
+            return evaluate(frames, plan, object, true, collect, messages);
+
+            // - second: through the predicate object step (in this mode, the
+            // plan is shared by all checked objects, so it's cached on the
+            // previous step)
+        } else if (EnumStep.PREDICATE_OBJECT.equals(step.getStepType())) {
+            final PlanAssertor plan = getPlan(step);
+            plan.validates(true, true);
+            return evaluate(frames, plan, step.getObject(), true, collect, messages);
+        }
 
-                    if (!dontNeedCheck.isPresent()) {
-                        final Step<?, ?> stepSubAssertor = Objects.requireNonNull(s.getSubAssertor().get().apply(obj),
-                                "Sub assertor mapper cannot be null");
-                        final ResultAssertor intermediateResult = combine(stepSubAssertor.getStep(), null, inMatcherMode, loadMessage);
+        final PlanAssertor plan = step.getPlan();
+        plan.validates(false, false);
+        return evaluate(frames, plan, null, false, collect, messages);
+    }
 
-                        valid = intermediateResult.isPrecondition() && isValid(valid, intermediateResult.isValid(), operator);
+    private static PlanAssertor getPlan(final StepAssertor<?> step) {
+        if (EnumStep.PREDICATE_OBJECT.equals(step.getStepType())) {
+            return step.getPreviousStep().getPlan();
+        }
+        return step.getPlan();
+    }
 
-                        parameters.addAll(intermediateResult.getParameters());
+    /**
+     * Runs the compiled plan. The sub steps are not evaluated recursively, a
+     * frame is pushed on the stack for each of them, and all frames share the
+     * parameters list and the messages. The state is only kept in the frames
+     * (no intermediate result is created).
+     * 
+     * @param frames
+     *            the frames stack
+     * @param plan
+     *            the compiled plan (already validated)
+     * @param matcherObject
+     *            the object to test (only in matcher mode)
+     * @param inMatcherMode
+     *            if it's in matcher mode
+     * @param collect
+     *            if the parameters have to be collected (in the frames
+     *            parameters list)
+     * @param messages
+     *            the messages ({@code null}, if the message hasn't to be
+     *            loaded)
+     * @return the evaluation result ({@link #EVALUATION_VALID},
+     *         {@link #EVALUATION_INVALID} or
+     *         {@link #EVALUATION_PRECONDITION})
+     */
+    private static int evaluate(final FramesAssertor frames, final PlanAssertor plan, final Object matcherObject,
+            final boolean inMatcherMode, final boolean collect, final MessagesAssertor messages) {
+        return evaluate(frames, plan, matcherObject, inMatcherMode, collect, messages, null);
+    }
 
-                        if (!valid && loadMessage && intermediateResult.getMessages() != null) {
-                            if (messages.isNotEmpty()) {
-                                messages.append(operator);
-                            }
-                            messages.append(intermediateResult.getMessages());
+    /**
+     * Runs the compiled plan, the SUB steps of the plan may be already
+     * evaluated (see {@link #combineAsync}).
+     * 
+     * @param frames
+     *            the frames stack
+     * @param plan
+     *            the compiled plan (already validated)
+     * @param matcherObject
+     *            the object to test (only in matcher mode)
+     * @param inMatcherMode
+     *            if it's in matcher mode
+     * @param collect
+     *            if the parameters have to be collected (in the frames
+     *            parameters list)
+     * @param messages
+     *            the messages ({@code null}, if the message hasn't to be
+     *            loaded)
+     * @param branches
+     *            the evaluated SUB steps of the plan, by plan index (may be
+     *            {@code null}, the SUB steps without branch are evaluated
+     *            here)
+     * @return the evaluation result ({@link #EVALUATION_VALID},
+     *         {@link #EVALUATION_INVALID} or
+     *         {@link #EVALUATION_PRECONDITION})
+     */
+    private static int evaluate(final FramesAssertor frames, final PlanAssertor plan, final Object matcherObject,
+            final boolean inMatcherMode, final boolean collect, final MessagesAssertor messages, final Branch[] branches) {
+
+        final boolean loadMessage = messages != null;
+        final List<ParameterAssertor<?>> parameters = frames.getParameters();
+
+        Frame frame = frames.push(plan, matcherObject, inMatcherMode, false, messages);
+        int result;
+
+        StepAssertor<?> s;
+        EnumOperator operator;
+        EnumType type;
+        boolean currentValid;
+        int size;
+
+        frame: for (;;) {
+            result = EVALUATION_NONE;
+            size = frame.plan.size();
+
+            // runs the steps of the current frame
+            step: for (; frame.index < size; ++frame.index) {
+                s = frame.plan.getStep(frame.index);
+                operator = frame.plan.getOperator(frame.index);
+
+                switch (frame.plan.getStepType(frame.index)) {
+
+                // the first step of an Assertor in predicate mode (ex:
+                // Assertor.ofNumber...)
+                case PREDICATE:
+                    if (collect) {
+                        type = s.getType();
+                        if (EnumType.UNKNOWN.equals(type)) {
+                            type = EnumType.getType(frame.object);
                         }
+                        frame.parameter = new ParameterAssertor<>(frame.object, type, true);
 
-                        if (intermediateResult.isPrecondition()) {
-                            dontNeedCheck = checkValidityAndOperator(intermediateResult.isValid(), operator, messages, loadMessage);
-                        } else {
-                            dontNeedCheck = Optional.of(Pair.of(false, intermediateResult.getMessages()));
+                        parameters.add(frame.parameter);
+                    }
+                    break;
+                // the first step of an Assertor (ex: Assertor.that(object)...)
+                case CREATION:
+                    frame.object = s.getObject();
+                    if (collect) {
+                        frame.parameter = new ParameterAssertor<>(frame.object, s.getType(), s.isChecked());
+
+                        parameters.add(frame.parameter);
+                    }
+                    break;
+                // the validation step (NOT steps are already applied)
+                case ASSERTION:
+                    if (collect) {
+                        parameters.addAll(s.getParameters());
+                    }
+
+                    // if precondition returns false, we end all treatments
+                    if (!HelperAssertor.preCheck(s, frame.object)) {
+                        if (loadMessage) {
+                            messages.clear(frame.preconditionsMark, frame.messagesMark);
+                            HelperAssertor.appendPreconditionMessage(s, frame.parameter, messages);
                         }
+                        result = EVALUATION_PRECONDITION;
+                        break step;
                     }
-                } else {
-                    throw new IllegalStateException("sub assertor cannot be null");
-                }
-                break;
-            default: // MATCHER_OBJECT (don't need treatment)
-            }
 
-            if (dontNeedCheck.isPresent()) {
-                return new ResultAssertor(true, dontNeedCheck.get().getKey(), dontNeedCheck.get().getValue(), parameters);
-            }
-        }
+                    currentValid = HelperAssertor.check(s, CastUtils.cast(frame.object), frame.plan.isNot(frame.index));
+                    frame.valid = HelperAssertor.isValid(frame.valid, currentValid, operator);
 
-        return new ResultAssertor(true, valid, messages, parameters);
-    }
+                    if (!frame.valid) {
+                        if (loadMessage) {
+                            HelperAssertor.appendMessage(s, frame, operator, messages);
+                        }
+                        if (operator != null) {
+                            result = HelperAssertor.shortcut(currentValid, operator, frame, messages);
+                        }
+                    }
+                    break;
+                // the combining step between two validation steps
+                case OPERATOR:
+                    result = HelperAssertor.shortcut(frame.valid, operator, frame, messages);
+                    break;
+                // the object provided by the mapper
+                case PROPERTY:
+                    if (s.getMapper().isPresent()) {
+                        frame.object = s.getMapper().get().apply(frame.object);
+                        if (collect) {
+                            frame.parameter = new ParameterAssertor<>(frame.object, s.getType(), s.isChecked());
+
+                            parameters.add(frame.parameter);
+                        }
 
-    private static Optional<Pair<Boolean, MessagesAssertor>> checkValidityAndOperator(final boolean valid, final EnumOperator operator,
-            final MessagesAssertor messages, final boolean loadMessage) {
+                        result = HelperAssertor.shortcut(frame.valid, operator, frame, messages);
+                    } else {
+                        throw new IllegalStateException("property cannot be null");
+                    }
+                    break;
+                // the other object to validate
+                case OBJECT:
+                    frame.object = s.getObject();
+                    if (collect) {
+                        frame.parameter = new ParameterAssertor<>(frame.object, s.getType(), s.isChecked());
+
+                        parameters.add(frame.parameter);
+                    }
 
-        Pair<Boolean, MessagesAssertor> result = null;
+                    result = HelperAssertor.shortcut(frame.valid, operator, frame, messages);
+                    break;
+                // the sub step to emulate parenthesis in a check (ex:
+                // Assertor.that(2).isZero().or(Assertor.that(2).isGTE(1).and().isLTE(10)))
+                case SUB:
+                    result = HelperAssertor.shortcut(frame.valid, operator, frame, messages);
 
-        if (VALID.test(valid, operator)) {
+                    if (result == EVALUATION_NONE && branches != null && frames.size() == 1 && branches[frame.index] != null) {
+                        result = HelperAssertor.completeBranch(branches[frame.index], frame, operator, parameters, collect, messages);
 
-            result = Pair.of(true, messages);
+                    } else if (result == EVALUATION_NONE) {
+                        final PlanAssertor subPlan = frame.plan.getSubPlan(frame.index);
+                        subPlan.validates(frame.matcherMode, false);
 
-        } else if (INVALID.test(valid, operator)) {
+                        frame = frames.push(subPlan, frame.matcherObject, frame.matcherMode, false, messages);
+                        continue frame;
+                    }
+                    break;
+                // sub assertor step to check sub properties
+                case SUB_ASSERTOR:
+                    if (s.getSubAssertor().isPresent()) {
+                        result = HelperAssertor.shortcut(frame.valid, operator, frame, messages);
+
+                        if (result == EVALUATION_NONE) {
+                            final Step<?, ?> stepSubAssertor = Objects.requireNonNull(s.getSubAssertor().get().apply(frame.object),
+                                    "Sub assertor mapper cannot be null");
+
+                            frame = HelperAssertor.pushSubAssertor(frames, stepSubAssertor.getStep(), frame.matcherMode, messages);
+                            continue frame;
+                        }
+                    } else {
+                        throw new IllegalStateException("sub assertor cannot be null");
+                    }
+                    break;
+                default: // compiled plan doesn't contain other steps
+                }
 
-            final MessagesAssertor formattedMessage;
-            if (loadMessage) {
-                if (messages.isNotEmpty()) {
-                    formattedMessage = messages;
+                if (result != EVALUATION_NONE) {
+                    break step;
+                }
+            }
+
+            if (result == EVALUATION_NONE) {
+                result = frame.valid ? EVALUATION_VALID : EVALUATION_INVALID;
+            }
+
+            // the frame is completed, the result is applied to the parent
+            // frames
+            while (frames.size() > 1) {
+                final Frame sub = frame;
+                final boolean subAssertor = sub.subAssertor;
+                final int subParametersMark = sub.parametersMark;
+                final int subPreconditionsMark = sub.preconditionsMark;
+                final int subMessagesMark = sub.messagesMark;
+                final boolean subMatcher = sub.matcherObject != null;
+
+                frame = frames.pop();
+                operator = frame.plan.getOperator(frame.index);
+
+                if (subAssertor) {
+                    result = HelperAssertor.completeSubAssertor(result, frame, operator, messages, subPreconditionsMark, subMessagesMark);
                 } else {
+                    result = HelperAssertor.completeSub(result, frame, operator, parameters, collect, messages, subMatcher,
+                            subParametersMark, subPreconditionsMark, subMessagesMark);
+                }
 
-                    formattedMessage = new MessagesAssertor();
-                    formattedMessage.append(MSG.INVALID_WITHOUT_MESSAGE, false,
-                            new CharSequence[] {String.valueOf(valid), String.valueOf(operator)}, null);
+                if (result == EVALUATION_NONE) {
+                    // the parent frame continues with the next step
+                    ++frame.index;
+                    continue frame;
                 }
-            } else {
-                formattedMessage = null;
             }
 
-            result = Pair.of(false, formattedMessage);
+            return result;
         }
-
-        return Optional.ofNullable(result);
     }
 
-    private static <T> ResultAssertor getPreconditionMessage(final StepAssertor<T> step, final ParameterAssertor<?> param,
-            final List<ParameterAssertor<?>> parameters, final boolean loadMessage) {
+    private static Frame pushSubAssertor(final FramesAssertor frames, final StepAssertor<?> step, final boolean marcherMode,
+            final MessagesAssertor messages) {
 
-        final List<ParameterAssertor<?>> assertParameters = new ArrayList<>();
-        assertParameters.add(param);
-        assertParameters.addAll(step.getParameters());
+        final PlanAssertor plan;
 
-        final MessagesAssertor error;
-        if (loadMessage) {
-            error = new MessagesAssertor();
-            error.append(step.getMessageKey(), false, null, assertParameters);
-        } else {
-            error = null;
+        // same as the combine function without object
+        if (marcherMode) {
+            plan = getPlan(step);
+            plan.validates(true, EnumStep.PREDICATE_OBJECT.equals(step.getStepType()));
+            return frames.push(plan, null, true, true, messages);
+
+        } else if (EnumStep.PREDICATE_OBJECT.equals(step.getStepType())) {
+            plan = getPlan(step);
+            plan.validates(true, true);
+            return frames.push(plan, step.getObject(), true, true, messages);
         }
 
-        return new ResultAssertor(false, false, error, parameters);
+        plan = step.getPlan();
+        plan.validates(false, false);
+        return frames.push(plan, null, false, true, messages);
     }
 
-    private static <T> PairIso<Boolean> validatesAndGetMessage(final StepAssertor<T> step, final ParameterAssertor<?> param,
-            final Object object, final boolean valid, final boolean not, final EnumOperator operator, final MessagesAssertor messages,
-            final boolean loadMessage) {
+    private static int completeBranch(final Branch branch, final Frame frame, final EnumOperator operator,
+            final List<ParameterAssertor<?>> parameters, final boolean collect, final MessagesAssertor messages) {
+
+        // the exception is thrown like if the sub step was evaluated here
+        if (branch.exception != null) {
+            throw branch.exception;
+        }
+
+        final int subParametersMark = parameters.size();
+        int subPreconditionsMark = 0;
+        int subMessagesMark = 0;
+
+        if (collect) {
+            parameters.addAll(branch.parameters);
+        }
+        if (messages != null) {
+            subPreconditionsMark = messages.getPreconditionsMark();
+            subMessagesMark = messages.getMessagesMark();
+            messages.addAll(branch.messages);
+        }
+
+        return HelperAssertor.completeSub(branch.result, frame, operator, parameters, collect, messages, frame.matcherObject != null,
+                subParametersMark, subPreconditionsMark, subMessagesMark);
+    }
 
-        final boolean currentValid = HelperAssertor.check(step, CastUtils.cast(object), not);
-        final boolean nextValid = HelperAssertor.isValid(valid, currentValid, operator);
+    private static int completeSub(final int subResult, final Frame frame, final EnumOperator operator,
+            final List<ParameterAssertor<?>> parameters, final boolean collect, final MessagesAssertor messages, final boolean subMatcher,
+            final int subParametersMark, final int subPreconditionsMark, final int subMessagesMark) {
 
-        if (!nextValid && loadMessage) {
-            if (messages.isNotEmpty() && operator != null) {
-                messages.append(operator);
+        // if precondition returns false, the sub result is returned as is
+        if (subResult == EVALUATION_PRECONDITION) {
+            if (collect && frame.parametersMark < subParametersMark) {
+                parameters.subList(frame.parametersMark, subParametersMark).clear();
             }
+            if (messages != null) {
+                messages.clear(frame.preconditionsMark, frame.messagesMark, subPreconditionsMark, subMessagesMark);
+            }
+            return EVALUATION_PRECONDITION;
+        }
 
-            final List<ParameterAssertor<?>> assertParameters = new ArrayList<>();
-            assertParameters.add(param);
-            assertParameters.addAll(step.getParameters());
+        // in matcher mode, the matcher is not required, so we remove it
+        if (collect && subMatcher && parameters.size() - subParametersMark > 1) {
+            parameters.remove(subParametersMark);
+        }
 
-            messages.append(step.getMessageKey(), not ^ step.isMessageKeyNot(), null, assertParameters, step.getMessage());
+        frame.valid = HelperAssertor.isValid(frame.valid, subResult == EVALUATION_VALID, operator);
+
+        if (messages != null) {
+            if (frame.valid) {
+                messages.clear(subPreconditionsMark, subMessagesMark);
+            } else {
+                messages.append(operator, frame.preconditionsMark, frame.messagesMark, subPreconditionsMark, subMessagesMark);
+            }
         }
 
-        return PairIso.of(currentValid, nextValid);
+        return EVALUATION_NONE;
     }
 
-    private static Triple<Boolean, EnumOperator, ResultAssertor> managesSub(final StepAssertor<?> step, final Object matcherObject,
-            final boolean marcherMode, final List<ParameterAssertor<?>> parameters, final boolean valid, final EnumOperator operator,
-            final MessagesAssertor messages, final boolean loadMessage) {
+    private static int completeSubAssertor(final int subResult, final Frame frame, final EnumOperator operator,
+            final MessagesAssertor messages, final int subPreconditionsMark, final int subMessagesMark) {
 
-        final StepAssertor<?> subStep = step.getSubStep().get();
-        final EnumOperator stepOperator = step.getOperator();
-        EnumOperator nextOperator = operator;
-        boolean nextValid = valid;
+        // if precondition returns false, the result is invalid with the sub
+        // messages
+        if (subResult == EVALUATION_PRECONDITION) {
+            frame.valid = false;
+            if (messages != null) {
+                messages.clear(frame.preconditionsMark, frame.messagesMark, subPreconditionsMark, subMessagesMark);
+            }
+            return EVALUATION_INVALID;
+        }
 
-        final ResultAssertor subResult = HelperAssertor.combine(subStep, matcherObject, marcherMode, loadMessage);
+        final boolean subValid = subResult == EVALUATION_VALID;
+        frame.valid = HelperAssertor.isValid(frame.valid, subValid, operator);
 
-        // in matcher mode, the matcher is not required, so we remove it
-        final int size = subResult.getParameters().size();
-        if (matcherObject != null && size > 1) {
-            parameters.addAll(subResult.getParameters().subList(1, size));
-        } else {
-            parameters.addAll(subResult.getParameters());
+        if (messages != null) {
+            if (frame.valid) {
+                messages.clear(subPreconditionsMark, subMessagesMark);
+            } else {
+                messages.append(operator, frame.preconditionsMark, frame.messagesMark, subPreconditionsMark, subMessagesMark);
+            }
         }
 
-        if (!subResult.isPrecondition()) {
-            return Triple.of(false, null, subResult);
-        } else {
-            nextOperator = stepOperator;
+        return HelperAssertor.shortcut(subValid, operator, frame, messages);
+    }
 
-            nextValid = HelperAssertor.isValid(nextValid, subResult.isValid(), nextOperator);
+    /**
+     * Checks if the next steps need to be checked. When the previous check is
+     * valid followed by operator OR, or invalid followed by operator NOR, we
+     * don't need to check the next steps, it's OK. When the previous check is
+     * valid followed by operator NAND, or invalid followed by operator AND,
+     * it's KO.
+     * 
+     * @param valid
+     *            the previous validity
+     * @param operator
+     *            the next operator
+     * @param frame
+     *            the current frame
+     * @param messages
+     *            the messages (if not {@code null} and if the result is KO
+     *            without message, a default message is appended)
+     * @return {@link #EVALUATION_VALID} or {@link #EVALUATION_INVALID} if the
+     *         next steps don't need to be checked, otherwise
+     *         {@link #EVALUATION_NONE}
+     */
+    private static int shortcut(final boolean valid, final EnumOperator operator, final Frame frame, final MessagesAssertor messages) {
+        if (valid) {
+            if (EnumOperator.OR.equals(operator)) {
+                return EVALUATION_VALID;
+            } else if (EnumOperator.NAND.equals(operator)) {
+                return invalid(valid, operator, frame, messages);
+            }
+        } else if (EnumOperator.NOR.equals(operator)) {
+            return EVALUATION_VALID;
+        } else if (EnumOperator.AND.equals(operator)) {
+            return invalid(valid, operator, frame, messages);
+        }
+        return EVALUATION_NONE;
+    }
 
-            if (!nextValid && loadMessage && subResult.getMessages() != null) {
+    private static int invalid(final boolean valid, final EnumOperator operator, final Frame frame, final MessagesAssertor messages) {
+        if (messages != null && !messages.isNotEmpty(frame.preconditionsMark, frame.messagesMark)) {
+            messages.append(MSG.INVALID_WITHOUT_MESSAGE, false, new CharSequence[] {String.valueOf(valid), String.valueOf(operator)}, null);
+        }
+        return EVALUATION_INVALID;
+    }
 
-                if (messages.isNotEmpty() && nextOperator != null) {
-                    messages.append(nextOperator);
-                }
+    private static <T> void appendPreconditionMessage(final StepAssertor<T> step, final ParameterAssertor<?> param,
+            final MessagesAssertor messages) {
 
-                messages.append(subResult.getMessages());
-            }
+        final List<ParameterAssertor<?>> assertParameters = new ArrayList<>(step.getParameters().size() + 1);
+        assertParameters.add(param);
+        assertParameters.addAll(step.getParameters());
+
+        messages.append(step.getMessageKey(), false, null, assertParameters);
+    }
+
+    private static <T> void appendMessage(final StepAssertor<T> step, final Frame frame, final EnumOperator operator,
+            final MessagesAssertor messages) {
+
+        if (operator != null && messages.isNotEmpty(frame.preconditionsMark, frame.messagesMark)) {
+            messages.append(operator, frame.preconditionsMark, frame.messagesMark);
         }
 
-        return Triple.of(nextValid, nextOperator, null);
+        final List<ParameterAssertor<?>> assertParameters = new ArrayList<>(step.getParameters().size() + 1);
+        assertParameters.add(frame.parameter);
+        assertParameters.addAll(step.getParameters());
+
+        messages.append(step.getMessageKey(), frame.plan.isNot(frame.index) ^ step.isMessageKeyNot(), null, assertParameters,
+                step.getMessage());
     }
 
     private static <T> boolean preCheck(final StepAssertor<T> step, final Object object) {
@@ -510,7 +951,10 @@ public class HelperAssertor extends ConstantsAssertor {
     }
 
     public static boolean isValid(final boolean previousOK, final boolean currentOK, final EnumOperator operator) {
-        return ObjectUtils.defaultIfNull(operator, EnumOperator.AND).isValid(previousOK, currentOK);
+        if (operator == null) {
+            return EnumOperator.AND.isValid(previousOK, currentOK);
+        }
+        return operator.isValid(previousOK, currentOK);
     }
 
     public static boolean isValid(final boolean all, final boolean not, final long found, final int size) {
@@ -570,9 +1014,87 @@ public class HelperAssertor extends ConstantsAssertor {
      */
     public static String getMessage(final ResultAssertor result) {
         if (result.getMessages() != null) {
-            return result.getMessages().build();
+            return getMessage(result.getMessages());
         } else {
             return StringUtils.EMPTY;
         }
     }
+
+    /**
+     * Appends the message from Assertor result to the builder
+     * 
+     * @param result
+     *            the Assertor result
+     * @param sb
+     *            the output builder
+     * @return true, if a message was appended
+     */
+    public static boolean appendMessage(final ResultAssertor result, final StringBuilder sb) {
+        final int length = sb.length();
+        if (result.getMessages() != null) {
+            result.getMessages().appendTo(sb);
+        }
+        return sb.length() > length;
+    }
+
+    /**
+     * Builds the message in the scratch builder of the current thread (only
+     * the result is allocated)
+     * 
+     * @param messages
+     *            the messages
+     * @return the message (can be empty)
+     */
+    private static String getMessage(final MessagesAssertor messages) {
+        if (!messages.isNotEmpty()) {
+            return StringUtils.EMPTY;
+        }
+
+        final BuffersAssertor buffer = BuffersAssertor.acquire();
+        try {
+            return messages.appendTo(buffer.getBuilder()).toString();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * SUB step evaluated independently of the main chain (the result is
+     * applied when the main chain reaches the step)
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    private static final class Branch {
+
+        private final PlanAssertor plan;
+
+        private int result;
+        private List<ParameterAssertor<?>> parameters;
+        private MessagesAssertor messages;
+        private RuntimeException exception;
+
+        private Branch(final PlanAssertor plan) {
+            this.plan = plan;
+        }
+
+        private void evaluate(final Object matcherObject, final boolean matcherMode, final boolean loadMessage) {
+            if (loadMessage) {
+                this.messages = new MessagesAssertor();
+            }
+
+            final FramesAssertor frames = FramesAssertor.acquire();
+            try {
+                this.plan.validates(matcherMode, false);
+
+                this.result = HelperAssertor.evaluate(frames, this.plan, matcherObject, matcherMode, true, this.messages);
+                this.parameters = new ArrayList<>(frames.getParameters());
+            } catch (RuntimeException e) {
+                this.exception = e;
+            } finally {
+                frames.release();
+            }
+        }
+    }
 }
@@ -19,17 +19,27 @@
  */
 package fr.landel.utils.assertor.helper;
 
+import java.io.IOException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import fr.landel.utils.assertor.Assertor;
 import fr.landel.utils.assertor.StepAssertor;
 import fr.landel.utils.assertor.commons.ConstantsAssertor;
+import fr.landel.utils.assertor.commons.LimitAssertor;
 import fr.landel.utils.assertor.commons.ParameterAssertor;
 import fr.landel.utils.assertor.commons.ResultAssertor;
+import fr.landel.utils.assertor.commons.ValidationAssertor;
 import fr.landel.utils.commons.Result;
 import fr.landel.utils.commons.StringUtils;
 import fr.landel.utils.commons.function.FunctionThrowable;
@@ -45,10 +55,18 @@ public final class HelperEnd {
 
     private static final String MISSING_FUNCTION = "function";
     private static final String MISSING_SUPPLIER_EXCEPTION = "exceptionSupplier";
+    private static final String MISSING_BUILDER = "builder";
+    private static final String MISSING_APPENDABLE = "appendable";
 
     public static <T> Result<T> asResult(final StepAssertor<T> step) {
-        final ResultAssertor result = HelperAssertor.combine(step, false);
+        return asResult(HelperAssertor.combine(step, false));
+    }
+
+    public static <T> CompletableFuture<Result<T>> asResultAsync(final StepAssertor<T> step, final Executor executor) {
+        return HelperAssertor.combineAsync(step, false, executor).thenApply(HelperEnd::asResult);
+    }
 
+    private static <T> Result<T> asResult(final ResultAssertor result) {
         if (!result.isPrecondition() || !result.isValid()) {
             return Result.empty();
         }
@@ -57,12 +75,92 @@ public final class HelperEnd {
     }
 
     public static <T> boolean isOK(final StepAssertor<T> step) {
-        final ResultAssertor result = HelperAssertor.combine(step, false);
-        return result.isPrecondition() && result.isValid();
+        return HelperAssertor.isOK(step);
+    }
+
+    public static <T> boolean isOK(final StepAssertor<T> step, final T object) {
+        return HelperAssertor.isOK(step, object);
+    }
+
+    public static <T> String validate(final StepAssertor<T> step, final T object) {
+        return HelperAssertor.validate(step, object);
+    }
+
+    public static <T> CompletableFuture<Boolean> isOKAsync(final StepAssertor<T> step, final Executor executor) {
+        return HelperAssertor.combineAsync(step, false, executor).thenApply(result -> result.isPrecondition() && result.isValid());
+    }
+
+    public static <T> ValidationAssertor validateAll(final StepAssertor<T> step, final Iterator<? extends T> objects,
+            final int maxMessages) {
+        return HelperAssertor.validateAll(step, objects, maxMessages);
+    }
+
+    public static <T> ValidationAssertor validateAll(final StepAssertor<T> step, final Spliterator<? extends T> objects,
+            final ForkJoinPool pool, final int chunkSize, final int maxMessages) {
+        return HelperAssertor.validateAll(step, objects, pool, chunkSize, maxMessages);
     }
 
     public static <T> Optional<String> getErrors(final StepAssertor<T> step) {
-        final String message = HelperAssertor.getMessage(HelperAssertor.combine(step, true));
+        return getErrors(HelperAssertor.combine(step, true));
+    }
+
+    public static <T> Optional<String> getErrors(final StepAssertor<T> step, final Locale locale) {
+        return Assertor.withLocale(Assertor.getLocale(locale), () -> getErrors(step));
+    }
+
+    public static <T> boolean appendErrors(final StepAssertor<T> step, final StringBuilder builder) {
+        Objects.requireNonNull(builder, MISSING_BUILDER);
+
+        return HelperAssertor.appendMessage(HelperAssertor.combine(step, true), builder);
+    }
+
+    public static <T> boolean appendErrors(final StepAssertor<T> step, final Appendable appendable) throws IOException {
+        Objects.requireNonNull(appendable, MISSING_APPENDABLE);
+
+        if (appendable instanceof StringBuilder) {
+            return appendErrors(step, (StringBuilder) appendable);
+        }
+
+        final ResultAssertor result = HelperAssertor.combine(step, true);
+
+        final BuffersAssertor buffer = BuffersAssertor.acquire();
+        try {
+            final StringBuilder builder = buffer.getBuilder();
+            if (HelperAssertor.appendMessage(result, builder)) {
+                appendable.append(builder);
+                return true;
+            }
+            return false;
+        } finally {
+            buffer.release();
+        }
+    }
+
+    public static <T> CompletableFuture<Optional<String>> getErrorsAsync(final StepAssertor<T> step, final Executor executor,
+            final Locale locale) {
+        return HelperAssertor.combineAsync(step, true, executor).thenApply(inCallerScope(locale, result -> getErrors(result)));
+    }
+
+    /**
+     * Captures the scope of the caller (locale and limits) to apply it on the
+     * rendering thread
+     * 
+     * @param locale
+     *            the specific locale (if null, the one of the caller)
+     * @param function
+     *            the rendering function
+     * @param <R>
+     *            the result type
+     * @return the function run in the scope of the caller
+     */
+    private static <R> Function<ResultAssertor, R> inCallerScope(final Locale locale, final Function<ResultAssertor, R> function) {
+        final Locale currentLocale = Assertor.getLocale(locale);
+        final LimitAssertor currentLimit = Assertor.getLimit();
+        return result -> Assertor.withLimit(currentLimit, () -> Assertor.withLocale(currentLocale, () -> function.apply(result)));
+    }
+
+    private static Optional<String> getErrors(final ResultAssertor result) {
+        final String message = HelperAssertor.getMessage(result);
 
         if (StringUtils.isNotEmpty(message)) {
             return Optional.of(message);
@@ -83,16 +181,29 @@ public final class HelperEnd {
     public static <T> T orElseThrow(final StepAssertor<T> step, final Locale locale, final CharSequence message,
             final Object... arguments) {
         return orElseThrow(step, message == null, result -> {
-            final String error;
-            if (message != null) {
-                error = HelperMessage.getMessage(ConstantsAssertor.DEFAULT_ASSERTION, locale, message, result.getParameters(), arguments);
-            } else {
-                error = HelperAssertor.getMessage(result);
-            }
-            throw new IllegalArgumentException(error);
+            throw new IllegalArgumentException(getError(result, locale, message, arguments));
         });
     }
 
+    public static <T> CompletableFuture<T> orElseThrowAsync(final StepAssertor<T> step, final Executor executor, final Locale locale,
+            final CharSequence message, final Object... arguments) {
+        return HelperAssertor.combineAsync(step, message == null, executor).thenApply(inCallerScope(locale, result -> {
+            if (!result.isPrecondition() || !result.isValid()) {
+                throw new IllegalArgumentException(getError(result, locale, message, arguments));
+            }
+            return HelperAssertor.<T> getLastChecked(result.getParameters());
+        }));
+    }
+
+    private static String getError(final ResultAssertor result, final Locale locale, final CharSequence message,
+            final Object... arguments) {
+        if (message != null) {
+            return HelperMessage.getMessage(ConstantsAssertor.DEFAULT_ASSERTION, locale, message, result.getParameters(), arguments);
+        } else {
+            return Assertor.withLocale(Assertor.getLocale(locale), () -> HelperAssertor.getMessage(result));
+        }
+    }
+
     public static <T, E extends Throwable> T orElseThrow(final StepAssertor<T> step,
             final BiFunction<String, List<ParameterAssertor<?>>, E> function) throws E {
         Objects.requireNonNull(function, MISSING_FUNCTION);
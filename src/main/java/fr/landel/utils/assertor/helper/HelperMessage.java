@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -32,12 +33,13 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ObjectUtils;
 
 import fr.landel.utils.assertor.Assertor;
+import fr.landel.utils.assertor.commons.CatalogAssertor;
 import fr.landel.utils.assertor.commons.ConstantsAssertor;
+import fr.landel.utils.assertor.commons.LimitAssertor;
 import fr.landel.utils.assertor.commons.MessageAssertor;
 import fr.landel.utils.assertor.commons.ParameterAssertor;
 import fr.landel.utils.assertor.enums.EnumType;
 import fr.landel.utils.commons.CollectionUtils2;
-import fr.landel.utils.commons.EnumChar;
 import fr.landel.utils.commons.StringUtils;
 
 /**
@@ -76,6 +78,17 @@ public final class HelperMessage extends ConstantsAssertor {
     private static final String MISSING_DEFAULT_MESSAGE_KEY = "default message key";
     private static final String MISSING_PARAM_TYPE = "parameter type";
 
+    private static final int TEMPLATES_MAX_SIZE = 10_000;
+    private static final Map<TemplateKey, String> TEMPLATES = new ConcurrentHashMap<>();
+    private static final Map<FormatKey, TemplateAssertor> FORMATS = new ConcurrentHashMap<>();
+
+    /**
+     * The base catalog of the prepared default messages (on override, the
+     * messages of the previous catalogs are dropped, see
+     * {@link ConstantsAssertor#setMessages(Map)})
+     */
+    private static volatile CatalogAssertor templatesCatalog = ConstantsAssertor.getCatalog();
+
     /**
      * Converts parameters list into array and also converts types to improve
      * readability (ex: {@link Calendar} into {@link java.util.Date})
@@ -90,6 +103,7 @@ public final class HelperMessage extends ConstantsAssertor {
             // The object, the type and if it's a checked object
             ParameterAssertor<?> param;
             int calendarField = -1;
+            final LimitAssertor limit = Assertor.getLimit();
 
             // in order for binary search
             final EnumType[] surroundable = new EnumType[] {EnumType.ARRAY, EnumType.ITERABLE, EnumType.MAP};
@@ -107,7 +121,8 @@ public final class HelperMessage extends ConstantsAssertor {
                     } else if (EnumType.CLASS.equals(param.getType())) {
                         convertedParams.set(i, ((Class<?>) param.getObject()).getSimpleName());
                     } else if (Arrays.binarySearch(surroundable, param.getType()) > -1) {
-                        convertedParams.set(i, HelperMessage.surroundByBrackets(param.getObject(), param.getType()));
+                        // rendered on demand with the current limits
+                        convertedParams.set(i, new JoinAssertor(param.getObject(), param.getType(), limit));
                     }
                 }
             }
@@ -116,19 +131,6 @@ public final class HelperMessage extends ConstantsAssertor {
         return new Object[0];
     }
 
-    private static StringBuilder surroundByBrackets(final Object object, final EnumType type) {
-        final StringBuilder sb = new StringBuilder(EnumChar.BRACKET_OPEN.getUnicode());
-        if (EnumType.ARRAY.equals(type)) {
-            sb.append(StringUtils.joinComma((Object[]) object));
-        } else if (EnumType.ITERABLE.equals(type)) {
-            sb.append(StringUtils.joinComma((Iterable<?>) object));
-        } else { // see surroundable
-            Map<?, ?> map = (Map<?, ?>) object;
-            sb.append(StringUtils.joinComma(map.entrySet()));
-        }
-        return sb.append(EnumChar.BRACKET_CLOSE.getUnicode());
-    }
-
     /**
      * Gets the formatted message (if the locale is not specified, function uses
      * the locale defined through {@link Assertor#setLocale(Locale)}). Supports
@@ -140,19 +142,17 @@ public final class HelperMessage extends ConstantsAssertor {
      */
     public static String getMessage(final MessageAssertor message) {
 
-        final Locale locale;
+        final Locale locale = Assertor.getLocale(message.getLocale());
         final String currentMessage;
         final Object[] currentArguments;
         if (message.getMessage() != null) {
             currentMessage = message.getMessage().toString();
             currentArguments = message.getArguments();
-            locale = message.getLocale();
         } else {
-            currentMessage = HelperMessage.getDefaultMessage(message.getKey(), message.isPrecondition(), message.isNot(),
+            currentMessage = HelperMessage.getDefaultMessage(locale, message.getKey(), message.isPrecondition(), message.isNot(),
                     message.getValues(), message.getParameters()).toString();
 
             currentArguments = null;
-            locale = null;
         }
 
         if (currentMessage.indexOf(PERCENT) > -1) {
@@ -185,15 +185,12 @@ public final class HelperMessage extends ConstantsAssertor {
         String msg;
 
         if (StringUtils.isNotEmpty(message)) {
-            if (message.toString().indexOf(PREFIX) > -1) {
-                Object[] params = HelperMessage.convertParams(parameters);
-                Object[] args = ObjectUtils.defaultIfNull(arguments, EMPTY_ARRAY);
-
-                msg = StringUtils.prepareFormat(message, params.length, 1, args.length, 1).toString();
+            final String format = message.toString();
+            if (format.indexOf(PREFIX) > -1) {
+                final Object[] params = HelperMessage.convertParams(parameters);
+                final Object[] args = ObjectUtils.defaultIfNull(arguments, EMPTY_ARRAY);
 
-                if (msg.indexOf(PERCENT) > -1) {
-                    msg = String.format(Assertor.getLocale(locale), msg, ArrayUtils.addAll(params, args));
-                }
+                msg = HelperMessage.getTemplate(format, params.length, args.length).format(Assertor.getLocale(locale), params, args);
             } else {
                 msg = message.toString();
             }
@@ -203,9 +200,110 @@ public final class HelperMessage extends ConstantsAssertor {
         return msg;
     }
 
+    /**
+     * Appends the formatted message to the builder, without intermediate
+     * {@link String} (see {@link #getMessage(MessageAssertor)}).
+     * 
+     * @param sb
+     *            the output builder
+     * @param message
+     *            the message object
+     * @return the builder
+     */
+    public static StringBuilder appendMessage(final StringBuilder sb, final MessageAssertor message) {
+
+        final Locale locale = Assertor.getLocale(message.getLocale());
+        final String currentMessage;
+        final Object[] currentArguments;
+        if (message.getMessage() != null) {
+            currentMessage = message.getMessage().toString();
+            currentArguments = message.getArguments();
+        } else {
+            currentMessage = HelperMessage.getDefaultMessage(locale, message.getKey(), message.isPrecondition(), message.isNot(),
+                    message.getValues(), message.getParameters());
+
+            currentArguments = null;
+        }
+
+        if (currentMessage.indexOf(PERCENT) > -1) {
+            return HelperMessage.appendMessage(sb, ConstantsAssertor.DEFAULT_ASSERTION, locale, currentMessage, message.getParameters(),
+                    currentArguments);
+        } else {
+            return sb.append(currentMessage);
+        }
+    }
+
+    /**
+     * Appends the message to the builder, without intermediate {@link String}
+     * (see {@link #getMessage(CharSequence, Locale, CharSequence, List, Object[])}).
+     * 
+     * @param sb
+     *            the output builder
+     * @param defaultString
+     *            The default message provided by each method
+     * @param locale
+     *            The message locale
+     * @param message
+     *            The user message
+     * @param parameters
+     *            The method parameters
+     * @param arguments
+     *            The user arguments
+     * @return the builder
+     */
+    public static StringBuilder appendMessage(final StringBuilder sb, final CharSequence defaultString, final Locale locale,
+            final CharSequence message, final List<ParameterAssertor<?>> parameters, final Object[] arguments) {
+
+        if (StringUtils.isNotEmpty(message)) {
+            final String format = message.toString();
+            if (format.indexOf(PREFIX) > -1) {
+                final Object[] params = HelperMessage.convertParams(parameters);
+                final Object[] args = ObjectUtils.defaultIfNull(arguments, EMPTY_ARRAY);
+
+                return HelperMessage.getTemplate(format, params.length, args.length).appendTo(sb, Assertor.getLocale(locale), params,
+                        args);
+            } else {
+                return sb.append(message);
+            }
+        } else {
+            return sb.append(defaultString);
+        }
+    }
+
+    /**
+     * Gets the parsed template of the message (the parameters and arguments
+     * references are prepared and the format is parsed once, the result is
+     * cached).
+     * 
+     * @param message
+     *            the user message
+     * @param paramsLength
+     *            the number of parameters
+     * @param argsLength
+     *            the number of arguments
+     * @return the template
+     */
+    static TemplateAssertor getTemplate(final String message, final int paramsLength, final int argsLength) {
+        final FormatKey formatKey = new FormatKey(message, paramsLength, argsLength);
+
+        TemplateAssertor template = FORMATS.get(formatKey);
+        if (template == null) {
+            final String format = StringUtils.prepareFormat(message, paramsLength, 1, argsLength, 1).toString();
+            template = TemplateAssertor.compile(format, paramsLength + argsLength);
+
+            if (FORMATS.size() < TEMPLATES_MAX_SIZE) {
+                FORMATS.putIfAbsent(formatKey, template);
+            }
+        }
+        return template;
+    }
+
     /**
      * Get the message and define that the current condition uses a personalized
-     * message, not the default one
+     * message, not the default one. Without values, the prepared message only
+     * depends on the key, the precondition and not flags, and on the parameter
+     * types, so it's loaded once and cached. The message is read from the
+     * catalog of the current locale (see {@link Assertor#getLocale()}).
      * 
      * @param key
      *            The message key (required, not null)
@@ -221,9 +319,82 @@ public final class HelperMessage extends ConstantsAssertor {
      */
     public static String getDefaultMessage(final CharSequence key, final boolean precondition, final boolean not,
             final CharSequence[] values, final List<ParameterAssertor<?>> parameters) {
+        return HelperMessage.getDefaultMessage(Assertor.getLocale(), key, precondition, not, values, parameters);
+    }
+
+    /**
+     * Get the message of the locale (see
+     * {@link #getDefaultMessage(CharSequence, boolean, boolean, CharSequence[], List)}).
+     * Prepared messages are cached by catalog, so locales without localized
+     * messages share the same entries.
+     * 
+     * @param locale
+     *            The locale of the catalog
+     * @param key
+     *            The message key (required, not null)
+     * @param precondition
+     *            If 'precondition' suffix has to be appended
+     * @param not
+     *            If 'not' suffix has to be appended
+     * @param values
+     *            the message values
+     * @param parameters
+     *            The parameters
+     * @return The loaded property
+     */
+    public static String getDefaultMessage(final Locale locale, final CharSequence key, final boolean precondition, final boolean not,
+            final CharSequence[] values, final List<ParameterAssertor<?>> parameters) {
 
         Objects.requireNonNull(key, MISSING_DEFAULT_MESSAGE_KEY);
 
+        if (ArrayUtils.isNotEmpty(values)) {
+            return HelperMessage.loadDefaultMessage(locale, key, precondition, not, values, parameters);
+        }
+
+        final int size = parameters != null ? parameters.size() : 0;
+        final EnumType[] types = new EnumType[size];
+        for (int i = 0; i < size; ++i) {
+            types[i] = Objects.requireNonNull(parameters.get(i).getType(), MISSING_PARAM_TYPE);
+        }
+
+        // the keys of the previous catalogs cannot be used anymore
+        final CatalogAssertor catalog = ConstantsAssertor.getCatalog();
+        if (catalog != templatesCatalog) {
+            templatesCatalog = catalog;
+            TEMPLATES.clear();
+        }
+
+        // NOT is ignored in precondition mode
+        final TemplateKey templateKey = new TemplateKey(ConstantsAssertor.getCatalog(locale), key.toString(), precondition,
+                !precondition && not, types);
+
+        String template = TEMPLATES.get(templateKey);
+        if (template == null) {
+            template = HelperMessage.loadDefaultMessage(locale, key, precondition, not, values, parameters);
+
+            // keys and types are finite, the limit only protects against
+            // generated keys
+            if (TEMPLATES.size() < TEMPLATES_MAX_SIZE) {
+                TEMPLATES.putIfAbsent(templateKey, template);
+            }
+        }
+        return template;
+    }
+
+    /**
+     * Clears the cache of prepared default messages and parsed templates (an
+     * override of the messages through
+     * {@link ConstantsAssertor#setMessages(Map)} is detected without calling
+     * this method).
+     */
+    public static void clearDefaultMessages() {
+        TEMPLATES.clear();
+        FORMATS.clear();
+    }
+
+    private static String loadDefaultMessage(final Locale locale, final CharSequence key, final boolean precondition, final boolean not,
+            final CharSequence[] values, final List<ParameterAssertor<?>> parameters) {
+
         final StringBuilder keyProperty = new StringBuilder(key);
 
         if (precondition) {
@@ -242,9 +413,9 @@ public final class HelperMessage extends ConstantsAssertor {
                 arguments[i] = HelperMessage.getParam(i + 1, parameters.get(i).getType());
             }
 
-            return getProperty(keyProperty, values, arguments);
+            return getProperty(locale, keyProperty, values, arguments);
         } else {
-            return getProperty(keyProperty, values);
+            return getProperty(locale, keyProperty, values);
         }
     }
 
@@ -289,4 +460,84 @@ public final class HelperMessage extends ConstantsAssertor {
 
         return stringBuilder;
     }
+
+    /**
+     * Key of the prepared default messages cache
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    private static final class TemplateKey {
+
+        private final CatalogAssertor catalog;
+        private final String key;
+        private final boolean precondition;
+        private final boolean not;
+        private final EnumType[] types;
+        private final int hashCode;
+
+        private TemplateKey(final CatalogAssertor catalog, final String key, final boolean precondition, final boolean not,
+                final EnumType[] types) {
+            this.catalog = catalog;
+            this.key = key;
+            this.precondition = precondition;
+            this.not = not;
+            this.types = types;
+            this.hashCode = Objects.hash(System.identityHashCode(catalog), key, precondition, not, Arrays.hashCode(types));
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            } else if (!(obj instanceof TemplateKey)) {
+                return false;
+            }
+            final TemplateKey other = (TemplateKey) obj;
+            return this.catalog == other.catalog && this.precondition == other.precondition && this.not == other.not
+                    && this.key.equals(other.key) && Arrays.equals(this.types, other.types);
+        }
+    }
+
+    /**
+     * Key of the parsed templates cache
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    private static final class FormatKey {
+
+        private final String message;
+        private final int paramsLength;
+        private final int argsLength;
+
+        private FormatKey(final String message, final int paramsLength, final int argsLength) {
+            this.message = message;
+            this.paramsLength = paramsLength;
+            this.argsLength = argsLength;
+        }
+
+        @Override
+        public int hashCode() {
+            return (this.message.hashCode() * 31 + this.paramsLength) * 31 + this.argsLength;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            } else if (!(obj instanceof FormatKey)) {
+                return false;
+            }
+            final FormatKey other = (FormatKey) obj;
+            return this.paramsLength == other.paramsLength && this.argsLength == other.argsLength && this.message.equals(other.message);
+        }
+    }
 }
@@ -0,0 +1,194 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.helper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Formattable;
+import java.util.FormattableFlags;
+import java.util.Formatter;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+
+import fr.landel.utils.assertor.commons.LimitAssertor;
+import fr.landel.utils.assertor.enums.EnumType;
+
+/**
+ * Bounded rendering of an array, an iterable or a map parameter (like
+ * {@code [a, b, c]}). The elements are appended straight into the output
+ * buffer of the formatter (no intermediate joined string), and the rendering
+ * stops at the limits with an ellipsis and the number of remaining elements
+ * (if known): [a, b, c, &hellip; (4999997 more)].
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+final class JoinAssertor implements Formattable {
+
+    private static final char BRACKET_OPEN = '[';
+    private static final char BRACKET_CLOSE = ']';
+    private static final String SEPARATOR = ", ";
+    private static final char ELLIPSIS = '\u2026';
+    private static final String MORE_START = " (";
+    private static final String MORE_END = " more)";
+
+    private final Object object;
+    private final EnumType type;
+    private final LimitAssertor limit;
+
+    /**
+     * Constructor
+     * 
+     * @param object
+     *            the array, the iterable or the map
+     * @param type
+     *            the type ({@link EnumType#ARRAY}, {@link EnumType#ITERABLE}
+     *            or {@link EnumType#MAP})
+     * @param limit
+     *            the limits
+     */
+    JoinAssertor(final Object object, final EnumType type, final LimitAssertor limit) {
+        this.object = object;
+        this.type = type;
+        this.limit = limit;
+    }
+
+    /**
+     * Appends the rendering
+     * 
+     * @param sb
+     *            the output buffer
+     * @return the output buffer
+     */
+    StringBuilder appendTo(final StringBuilder sb) {
+        final Iterator<?> iterator;
+        final long size;
+        if (EnumType.ARRAY.equals(this.type)) {
+            final Object[] array = (Object[]) this.object;
+            iterator = Arrays.asList(array).iterator();
+            size = array.length;
+        } else if (EnumType.ITERABLE.equals(this.type)) {
+            final Iterable<?> iterable = (Iterable<?>) this.object;
+            iterator = iterable.iterator();
+            size = iterable instanceof Collection ? ((Collection<?>) iterable).size() : -1;
+        } else {
+            final Map<?, ?> map = (Map<?, ?>) this.object;
+            iterator = map.entrySet().iterator();
+            size = map.size();
+        }
+
+        sb.append(BRACKET_OPEN);
+        final int start = sb.length();
+        final int maxElements = this.limit.getMaxElements();
+        final int maxCharacters = this.limit.getMaxCharacters();
+
+        long count = 0;
+        boolean truncated = false;
+        String element;
+        int remaining;
+        while (iterator.hasNext()) {
+            remaining = maxCharacters - (sb.length() - start);
+            if (count >= maxElements || remaining <= 0) {
+                if (count > 0) {
+                    sb.append(SEPARATOR);
+                }
+                truncated = true;
+                break;
+            } else if (count > 0) {
+                sb.append(SEPARATOR);
+                remaining -= SEPARATOR.length();
+            }
+
+            // like the joiner, null elements are rendered as empty strings
+            element = toString(iterator.next());
+            ++count;
+
+            if (element.length() > remaining) {
+                if (remaining > 0) {
+                    sb.append(element, 0, remaining);
+                } else {
+                    // nothing rendered
+                    --count;
+                }
+                truncated = true;
+                break;
+            }
+            sb.append(element);
+        }
+
+        if (truncated) {
+            sb.append(ELLIPSIS);
+            if (size > count) {
+                sb.append(MORE_START).append(size - count).append(MORE_END);
+            }
+        }
+
+        return sb.append(BRACKET_CLOSE);
+    }
+
+    private static String toString(final Object element) {
+        return element != null ? String.valueOf(element) : "";
+    }
+
+    @Override
+    public void formatTo(final Formatter formatter, final int flags, final int width, final int precision) {
+        final Appendable out = formatter.out();
+
+        if (width < 0 && precision < 0 && (flags & FormattableFlags.UPPERCASE) == 0 && out instanceof StringBuilder) {
+            this.appendTo((StringBuilder) out);
+            return;
+        }
+
+        String text = this.toString();
+        if (precision > -1 && precision < text.length()) {
+            text = text.substring(0, precision);
+        }
+        if ((flags & FormattableFlags.UPPERCASE) != 0) {
+            text = text.toUpperCase(formatter.locale() != null ? formatter.locale() : Locale.getDefault());
+        }
+
+        final StringBuilder sb = new StringBuilder(Math.max(width, text.length()));
+        final boolean left = (flags & FormattableFlags.LEFT_JUSTIFY) != 0;
+        if (left) {
+            sb.append(text);
+        }
+        for (int i = text.length(); i < width; ++i) {
+            sb.append(' ');
+        }
+        if (!left) {
+            sb.append(text);
+        }
+
+        try {
+            out.append(sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.appendTo(new StringBuilder()).toString();
+    }
+}
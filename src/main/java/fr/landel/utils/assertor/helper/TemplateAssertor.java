@@ -0,0 +1,414 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.helper;
+
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.List;
+import java.util.IllegalFormatException;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+
+import org.apache.commons.lang3.ArrayUtils;
+
+/**
+ * Format string parsed once (same syntax as {@link Formatter}). The template
+ * is split into literal and argument segments, and is rendered straight into
+ * a {@link StringBuilder} (see {@link #appendTo}):
+ * <ul>
+ * <li>literals, {@code %%} and {@code %n} are appended as is,</li>
+ * <li>{@code %s}, {@code %b} and {@code %B} without flag, width or precision
+ * are converted directly,</li>
+ * <li>other specifiers (like {@code %,d}, {@code %,.3f} or {@code %tY}) are
+ * rendered by a {@link Formatter} writing into the builder.</li>
+ * </ul>
+ * 
+ * <p>
+ * Arguments are read from the parameters and the arguments arrays without
+ * merging them (index 1 is the first parameter, and the first argument
+ * follows the last parameter). If the format cannot be parsed, the template
+ * falls back to {@link String#format(Locale, String, Object...)} (to keep the
+ * same errors).
+ * </p>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+final class TemplateAssertor {
+
+    private static final char PERCENT = '%';
+    private static final String FLAGS = "-#+ 0,(<";
+
+    private static final int TYPE_LITERAL = 0;
+    private static final int TYPE_STRING = 1;
+    private static final int TYPE_BOOLEAN = 2;
+    private static final int TYPE_BOOLEAN_UPPER = 3;
+    private static final int TYPE_FORMATTER = 4;
+
+    private final String format;
+    private final boolean fallback;
+
+    // segments
+    private final int[] types;
+    private final String[] texts;
+    private final int[] indexes;
+    private final int length;
+
+    private TemplateAssertor(final String format, final List<Segment> segments) {
+        this.format = format;
+        this.fallback = segments == null;
+
+        final int size = segments != null ? segments.size() : 0;
+        this.types = new int[size];
+        this.texts = new String[size];
+        this.indexes = new int[size];
+
+        int literalLength = 0;
+        Segment segment;
+        for (int i = 0; i < size; ++i) {
+            segment = segments.get(i);
+            this.types[i] = segment.type;
+            this.texts[i] = segment.text;
+            this.indexes[i] = segment.index;
+            if (segment.type == TYPE_LITERAL) {
+                literalLength += segment.text.length();
+            }
+        }
+        this.length = literalLength;
+    }
+
+    /**
+     * Parses the format
+     * 
+     * @param format
+     *            the format (standard {@link Formatter} syntax)
+     * @param count
+     *            the number of available arguments
+     * @return the template
+     */
+    static TemplateAssertor compile(final String format, final int count) {
+        return new TemplateAssertor(format, parse(format, count));
+    }
+
+    /**
+     * @return the format
+     */
+    String getFormat() {
+        return this.format;
+    }
+
+    /**
+     * @return true, if the format is rendered by {@link String#format}
+     */
+    boolean isFallback() {
+        return this.fallback;
+    }
+
+    /**
+     * Renders the template
+     * 
+     * @param locale
+     *            the locale
+     * @param parameters
+     *            the parameters (first indexes)
+     * @param arguments
+     *            the arguments (following indexes)
+     * @return the formatted string
+     */
+    String format(final Locale locale, final Object[] parameters, final Object[] arguments) {
+        if (this.fallback) {
+            return String.format(locale, this.format, ArrayUtils.addAll(parameters, arguments));
+        } else if (this.types.length == 1 && this.types[0] == TYPE_LITERAL) {
+            return this.texts[0];
+        }
+
+        return this.appendTo(new StringBuilder(this.length + (this.types.length << 3)), locale, parameters, arguments).toString();
+    }
+
+    /**
+     * Renders the template at the end of the builder. If the rendering fails,
+     * the builder is restored to its previous length.
+     * 
+     * @param sb
+     *            the output builder
+     * @param locale
+     *            the locale
+     * @param parameters
+     *            the parameters (first indexes)
+     * @param arguments
+     *            the arguments (following indexes)
+     * @return the builder
+     */
+    StringBuilder appendTo(final StringBuilder sb, final Locale locale, final Object[] parameters, final Object[] arguments) {
+        final int mark = sb.length();
+        try {
+            if (this.fallback) {
+                new Formatter(sb, locale).format(this.format, ArrayUtils.addAll(parameters, arguments));
+            } else {
+                this.render(sb, locale, parameters, arguments);
+            }
+        } catch (RuntimeException e) {
+            sb.setLength(mark);
+            throw e;
+        }
+        return sb;
+    }
+
+    private void render(final StringBuilder sb, final Locale locale, final Object[] parameters, final Object[] arguments) {
+        Formatter formatter = null;
+        Object argument;
+
+        for (int i = 0; i < this.types.length; ++i) {
+            if (this.types[i] == TYPE_LITERAL) {
+                sb.append(this.texts[i]);
+                continue;
+            }
+
+            argument = get(this.indexes[i], parameters, arguments);
+
+            switch (this.types[i]) {
+            case TYPE_STRING:
+                if (!(argument instanceof Formattable)) {
+                    sb.append(argument);
+                    break;
+                }
+                // Formattable objects are rendered by the formatter
+            case TYPE_FORMATTER:
+                if (formatter == null) {
+                    formatter = new Formatter(sb, locale);
+                }
+                formatter.format(this.texts[i], argument);
+                break;
+            case TYPE_BOOLEAN:
+                sb.append(toBoolean(argument));
+                break;
+            case TYPE_BOOLEAN_UPPER:
+                sb.append(toBoolean(argument) ? "TRUE" : "FALSE");
+                break;
+            default: // literals are already appended
+            }
+        }
+    }
+
+    private static Object get(final int index, final Object[] parameters, final Object[] arguments) {
+        if (index < parameters.length) {
+            return parameters[index];
+        }
+        return arguments[index - parameters.length];
+    }
+
+    private static boolean toBoolean(final Object argument) {
+        if (argument == null) {
+            return false;
+        } else if (argument instanceof Boolean) {
+            return (Boolean) argument;
+        }
+        return true;
+    }
+
+    /**
+     * Parses the format like {@link Formatter}
+     * ({@code %[index$][flags][width][.precision][t]conversion})
+     * 
+     * @param format
+     *            the format
+     * @param count
+     *            the number of arguments
+     * @return the segments, or {@code null} if the format isn't supported
+     */
+    private static List<Segment> parse(final String format, final int count) {
+        final List<Segment> segments = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        final int length = format.length();
+
+        int ordinaryIndex = -1;
+        int lastIndex = -1;
+
+        int i = 0;
+        while (i < length) {
+            final char c = format.charAt(i);
+            if (c != PERCENT) {
+                literal.append(c);
+                ++i;
+                continue;
+            }
+
+            final int start = i++;
+
+            // explicit index
+            int index = -1;
+            int j = i;
+            while (j < length && Character.isDigit(format.charAt(j))) {
+                ++j;
+            }
+            if (j > i && j < length && format.charAt(j) == '$') {
+                index = parseInt(format, i, j);
+                if (index < 1) {
+                    return null;
+                }
+                --index;
+                i = j + 1;
+            }
+
+            // flags
+            final int flagsStart = i;
+            while (i < length && FLAGS.indexOf(format.charAt(i)) > -1) {
+                ++i;
+            }
+            final String flags = format.substring(flagsStart, i);
+
+            // width
+            final int widthStart = i;
+            while (i < length && Character.isDigit(format.charAt(i))) {
+                ++i;
+            }
+            final boolean width = i > widthStart;
+
+            // precision
+            boolean precision = false;
+            if (i < length && format.charAt(i) == '.') {
+                final int precisionStart = ++i;
+                while (i < length && Character.isDigit(format.charAt(i))) {
+                    ++i;
+                }
+                if (i == precisionStart) {
+                    return null;
+                }
+                precision = true;
+            }
+
+            // conversion
+            boolean time = false;
+            if (i < length && (format.charAt(i) == 't' || format.charAt(i) == 'T')) {
+                time = true;
+                ++i;
+            }
+            if (i >= length || !isConversion(format.charAt(i))) {
+                return null;
+            }
+            final char conversion = format.charAt(i++);
+
+            if (!time && (conversion == PERCENT || conversion == 'n')) {
+                if (index > -1 || !flags.isEmpty() || width || precision) {
+                    // unusual specifiers keep the formatter errors
+                    return null;
+                }
+                literal.append(conversion == PERCENT ? String.valueOf(PERCENT) : System.lineSeparator());
+                continue;
+            }
+
+            // argument index
+            if (flags.indexOf('<') > -1) {
+                if (index > -1 || lastIndex < 0 || flags.length() > 1) {
+                    return null;
+                }
+                index = lastIndex;
+            } else if (index < 0) {
+                index = ++ordinaryIndex;
+            }
+            if (index >= count) {
+                return null;
+            }
+            lastIndex = index;
+
+            if (literal.length() > 0) {
+                segments.add(new Segment(TYPE_LITERAL, literal.toString(), -1));
+                literal.setLength(0);
+            }
+
+            final boolean simple = !time && flags.isEmpty() && !width && !precision;
+            if (simple && conversion == 's') {
+                segments.add(new Segment(TYPE_STRING, "%s", index));
+            } else if (simple && conversion == 'b') {
+                segments.add(new Segment(TYPE_BOOLEAN, null, index));
+            } else if (simple && conversion == 'B') {
+                segments.add(new Segment(TYPE_BOOLEAN_UPPER, null, index));
+            } else {
+                // the specifier without index (the argument is provided)
+                final StringBuilder specifier = new StringBuilder(i - start).append(PERCENT);
+                specifier.append(flags.replace("<", "")).append(format, flagsStart + flags.length(), i);
+                if (!isValid(specifier.toString())) {
+                    return null;
+                }
+                segments.add(new Segment(TYPE_FORMATTER, specifier.toString(), index));
+            }
+        }
+
+        if (literal.length() > 0 || segments.isEmpty()) {
+            segments.add(new Segment(TYPE_LITERAL, literal.toString(), -1));
+        }
+
+        return segments;
+    }
+
+    /**
+     * Checks the specifier syntax (conversion, flags...). The formatter
+     * validates the whole format before reading the first argument, so the
+     * missing argument error is only thrown for valid specifiers.
+     * 
+     * @param specifier
+     *            the specifier without index
+     * @return true, if valid
+     */
+    private static boolean isValid(final String specifier) {
+        try (Formatter formatter = new Formatter(new StringBuilder(), Locale.ROOT)) {
+            formatter.format(specifier);
+        } catch (MissingFormatArgumentException e) {
+            return true;
+        } catch (IllegalFormatException e) {
+            return false;
+        }
+        return false;
+    }
+
+    private static boolean isConversion(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == PERCENT;
+    }
+
+    private static int parseInt(final String format, final int start, final int end) {
+        try {
+            return Integer.parseInt(format.substring(start, end));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Parsed segment
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    private static final class Segment {
+
+        private final int type;
+        private final String text;
+        private final int index;
+
+        private Segment(final int type, final String text, final int index) {
+            this.type = type;
+            this.text = text;
+            this.index = index;
+        }
+    }
+}
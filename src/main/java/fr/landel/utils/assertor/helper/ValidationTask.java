@@ -0,0 +1,159 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.helper;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.RecursiveTask;
+
+import fr.landel.utils.assertor.commons.PlanAssertor;
+
+/**
+ * Fork/join task of the parallel bulk validation. The spliterator is split
+ * while it's larger than the threshold, the prefixes are forked and the
+ * remaining objects are validated by the current worker into its own chunk.
+ * The chunks of the forked tasks are collected on join (no shared state).
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+final class ValidationTask extends RecursiveTask<List<ValidationTask.Chunk>> {
+
+    /**
+     * serialVersionUID
+     */
+    private static final long serialVersionUID = -2875104962018273540L;
+
+    private final transient PlanAssertor plan;
+    private final transient Spliterator<?> spliterator;
+    private final int offset;
+    private final long threshold;
+    private final int maxMessages;
+
+    /**
+     * Constructor
+     *
+     * @param plan
+     *            the validated predicate plan
+     * @param spliterator
+     *            the objects to test
+     * @param offset
+     *            the index of the first object
+     * @param threshold
+     *            the size under which the spliterator isn't split
+     * @param maxMessages
+     *            the maximum number of failure messages to build
+     */
+    ValidationTask(final PlanAssertor plan, final Spliterator<?> spliterator, final int offset, final long threshold,
+            final int maxMessages) {
+        this.plan = plan;
+        this.spliterator = spliterator;
+        this.offset = offset;
+        this.threshold = threshold;
+        this.maxMessages = maxMessages;
+    }
+
+    @Override
+    protected List<Chunk> compute() {
+        final List<ValidationTask> tasks = new ArrayList<>();
+        int currentOffset = this.offset;
+
+        if (this.spliterator.hasCharacteristics(Spliterator.SUBSIZED)) {
+            Spliterator<?> prefix;
+            ValidationTask task;
+            while (this.spliterator.estimateSize() > this.threshold && (prefix = this.spliterator.trySplit()) != null) {
+                task = new ValidationTask(this.plan, prefix, currentOffset, this.threshold, this.maxMessages);
+                task.fork();
+                tasks.add(task);
+                currentOffset += (int) prefix.getExactSizeIfKnown();
+            }
+        }
+
+        final BitSet failures = new BitSet();
+        final Map<Integer, String> errors = new LinkedHashMap<>();
+        final int count = HelperAssertor.validate(this.plan, Spliterators.iterator(this.spliterator), currentOffset, failures, errors,
+                this.maxMessages);
+
+        final List<Chunk> chunks = new ArrayList<>();
+        chunks.add(new Chunk(currentOffset, count, failures, errors));
+
+        for (int i = tasks.size() - 1; i >= 0; --i) {
+            chunks.addAll(tasks.get(i).join());
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Result of the validation of a chunk
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    static final class Chunk {
+
+        private final int offset;
+        private final int count;
+        private final BitSet failures;
+        private final Map<Integer, String> errors;
+
+        private Chunk(final int offset, final int count, final BitSet failures, final Map<Integer, String> errors) {
+            this.offset = offset;
+            this.count = count;
+            this.failures = failures;
+            this.errors = errors;
+        }
+
+        /**
+         * @return the index of the first object
+         */
+        int getOffset() {
+            return this.offset;
+        }
+
+        /**
+         * @return the number of checked objects
+         */
+        int getCount() {
+            return this.count;
+        }
+
+        /**
+         * @return the failures (index from the first object)
+         */
+        BitSet getFailures() {
+            return this.failures;
+        }
+
+        /**
+         * @return the messages of the first failures (key: the original index)
+         */
+        Map<Integer, String> getErrors() {
+            return this.errors;
+        }
+    }
+}
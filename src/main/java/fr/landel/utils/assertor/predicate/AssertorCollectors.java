@@ -0,0 +1,122 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.predicate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collector;
+
+import fr.landel.utils.assertor.commons.PartitionAssertor;
+import fr.landel.utils.assertor.helper.HelperEnd;
+import fr.landel.utils.commons.StringUtils;
+
+/**
+ * {@link Collector} factories based on predicate steps.
+ * 
+ * <pre>
+ * final PartitionAssertor&lt;String&gt; partition = values.parallelStream()
+ *         .collect(AssertorCollectors.partitioning(Assertor.ofString().isNotBlank()));
+ * partition.getValid(); // -&gt; the valid elements
+ * partition.getInvalid(); // -&gt; the invalid elements
+ * partition.getMessages(); // -&gt; the messages of invalid elements
+ * </pre>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public final class AssertorCollectors {
+
+    /**
+     * Creates a collector which splits the elements into valid and invalid
+     * elements in one pass. The predicate chain is compiled once, and each
+     * element is evaluated once (the message parts are loaded during the
+     * evaluation, the message is only built for invalid elements).
+     * 
+     * <p>
+     * The collector supports parallel streams: each thread fills its own
+     * buffers (no contention), which are merged in the encounter order.
+     * </p>
+     * 
+     * @param step
+     *            the predicate step
+     * @param <T>
+     *            the type of elements
+     * @return the collector
+     */
+    public static <T> Collector<T, ?, PartitionAssertor<T>> partitioning(final PredicateStep<?, T> step) {
+        return partitioning(Objects.requireNonNull(step, "step").compile());
+    }
+
+    /**
+     * Creates a collector which splits the elements into valid and invalid
+     * elements in one pass (see {@link #partitioning(PredicateStep)}).
+     * 
+     * @param validator
+     *            the compiled predicate chain
+     * @param <T>
+     *            the type of elements
+     * @return the collector
+     */
+    public static <T> Collector<T, ?, PartitionAssertor<T>> partitioning(final PredicateValidator<T> validator) {
+        Objects.requireNonNull(validator, "validator");
+
+        return Collector.of(Partition<T>::new, (partition, element) -> partition.add(validator, element), Partition::merge,
+                Partition::finish);
+    }
+
+    /**
+     * Mutable container of the partitioning collector
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     * @param <T>
+     *            the type of elements
+     */
+    private static final class Partition<T> {
+
+        private final List<T> valid = new ArrayList<>();
+        private final List<T> invalid = new ArrayList<>();
+        private final List<String> messages = new ArrayList<>();
+
+        private void add(final PredicateValidator<T> validator, final T element) {
+            final String message = HelperEnd.validate(validator.getStep(), element);
+            if (message == null) {
+                this.valid.add(element);
+            } else {
+                this.invalid.add(element);
+                this.messages.add(StringUtils.isNotEmpty(message) ? message : null);
+            }
+        }
+
+        private Partition<T> merge(final Partition<T> other) {
+            this.valid.addAll(other.valid);
+            this.invalid.addAll(other.invalid);
+            this.messages.addAll(other.messages);
+            return this;
+        }
+
+        private PartitionAssertor<T> finish() {
+            return new PartitionAssertor<>(this.valid, this.invalid, this.messages);
+        }
+    }
+}
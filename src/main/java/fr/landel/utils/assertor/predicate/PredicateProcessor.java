@@ -0,0 +1,192 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.predicate;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import fr.landel.utils.assertor.commons.ValidationAssertor;
+import fr.landel.utils.assertor.helper.HelperEnd;
+
+/**
+ * Operator which validates streamed items against a compiled predicate chain
+ * (see {@link PredicateStep#processor(int, BiConsumer)}). Valid items pass
+ * through untouched, invalid items are routed with their error message to the
+ * side channel.
+ * 
+ * <p>
+ * The operator is driven by the downstream demand: items are only read from
+ * the source when the consumer requests the next item, by micro-batches of
+ * the configured size. So at most one batch is buffered, and each batch is
+ * validated at once (the compiled chain is shared by the whole stream).
+ * </p>
+ * 
+ * <pre>
+ * final PredicateProcessor&lt;String&gt; processor = Assertor.ofString().isNotBlank().processor(100,
+ *         (item, error) -&gt; deadLetters.add(error));
+ * processor.process(events).forEach(this::handle);
+ * </pre>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ * @param <T>
+ *            the type of checked object
+ */
+public final class PredicateProcessor<T> {
+
+    private final PredicateValidator<T> validator;
+    private final int batchSize;
+    private final BiConsumer<? super T, String> invalidConsumer;
+
+    /**
+     * Constructor
+     *
+     * @param validator
+     *            the compiled predicate chain
+     * @param batchSize
+     *            the number of items validated at once
+     * @param invalidConsumer
+     *            the side channel of invalid items (the item and the error
+     *            message)
+     * @throws IllegalArgumentException
+     *             if batch size is lower than 1
+     */
+    PredicateProcessor(final PredicateValidator<T> validator, final int batchSize, final BiConsumer<? super T, String> invalidConsumer) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be greater than 0");
+        }
+
+        this.validator = Objects.requireNonNull(validator, "validator");
+        this.batchSize = batchSize;
+        this.invalidConsumer = Objects.requireNonNull(invalidConsumer, "invalidConsumer");
+    }
+
+    /**
+     * @return the number of items validated at once
+     */
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    /**
+     * Validates lazily the items of the source.
+     * 
+     * @param source
+     *            the source items
+     * @return the valid items (the source is only read on demand)
+     */
+    public Iterator<T> process(final Iterator<? extends T> source) {
+        return new BatchIterator<>(this, Objects.requireNonNull(source, "source"));
+    }
+
+    /**
+     * Validates lazily the items of the source stream. The returned stream is
+     * sequential and ordered, closing it closes the source.
+     * 
+     * @param source
+     *            the source stream
+     * @return the stream of valid items (the source is only read on demand)
+     */
+    public Stream<T> process(final Stream<? extends T> source) {
+        final Iterator<T> iterator = this.process(Objects.requireNonNull(source, "source").iterator());
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false).onClose(source::close);
+    }
+
+    /**
+     * Iterator which reads and validates the source by batches
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     * @param <T>
+     *            the type of checked object
+     */
+    private static final class BatchIterator<T> implements Iterator<T> {
+
+        private final PredicateProcessor<T> processor;
+        private final Iterator<? extends T> source;
+
+        // valid items of the current batch
+        private final Object[] buffer;
+        private int size;
+        private int index;
+
+        private BatchIterator(final PredicateProcessor<T> processor, final Iterator<? extends T> source) {
+            this.processor = processor;
+            this.source = source;
+            this.buffer = new Object[processor.batchSize];
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.index == this.size && this.source.hasNext()) {
+                this.load();
+            }
+            return this.index < this.size;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final T item = (T) this.buffer[this.index];
+            this.buffer[this.index++] = null;
+            return item;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void load() {
+            int count = 0;
+            while (count < this.buffer.length && this.source.hasNext()) {
+                this.buffer[count++] = this.source.next();
+            }
+
+            final ValidationAssertor result = HelperEnd.validateAll(this.processor.validator.getStep(),
+                    (Iterator<T>) Arrays.asList(this.buffer).subList(0, count).iterator(), count);
+
+            // valid items are moved to the start of the buffer
+            this.size = 0;
+            this.index = 0;
+            for (int i = 0; i < count; ++i) {
+                if (result.isFailure(i)) {
+                    this.processor.invalidConsumer.accept((T) this.buffer[i], result.getMessages().get(i));
+                    this.buffer[i] = null;
+                } else {
+                    this.buffer[this.size++] = this.buffer[i];
+                }
+            }
+            for (int i = this.size; i < count; ++i) {
+                this.buffer[i] = null;
+            }
+        }
+    }
+}
@@ -19,12 +19,17 @@
  */
 package fr.landel.utils.assertor.predicate;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import fr.landel.utils.assertor.Assertor;
 import fr.landel.utils.assertor.AssertorEnd;
 import fr.landel.utils.assertor.StepAssertor;
+import fr.landel.utils.assertor.commons.ValidationAssertor;
 import fr.landel.utils.assertor.helper.HelperStep;
 import fr.landel.utils.commons.CastUtils;
 import fr.landel.utils.commons.Default;
@@ -144,10 +149,188 @@ public interface PredicateStep<S extends PredicateStep<S, T>, T>
      * predicate.test(5); // -&gt; returns false
      * </pre>
      * 
+     * <p>
+     * The steps are loaded once, and each test only evaluates the validity
+     * (no parameter and no message are built). The returned predicate is
+     * thread-safe (see {@link #compile()}).
+     * </p>
+     * 
      * @return the predicate object
      */
     default Predicate<T> asPredicate() {
-        final PredicateStep<S, T> predicateStep = this;
-        return object -> predicateStep.that(object).isOK();
+        return this.compile();
+    }
+
+    /**
+     * Compiles the predicate chain into an immutable and thread-safe
+     * validator. The steps are loaded once, and no step is created to test
+     * an object.
+     * 
+     * <pre>
+     * private static final PredicateValidator&lt;Integer&gt; VALIDATOR = Assertor.&lt;Integer&gt; ofNumber().isGT(10).compile();
+     * // ...
+     * VALIDATOR.test(15); // -&gt; returns true
+     * VALIDATOR.that(5).orElseThrow(); // -&gt; throws an Exception
+     * </pre>
+     * 
+     * @return the validator
+     */
+    default PredicateValidator<T> compile() {
+        return new PredicateValidator<>(this.getStep());
+    }
+
+    /**
+     * Checks all objects against the predicate chain. The chain is compiled
+     * once for the whole batch, and the result only stores the failed
+     * indexes (no message is built).
+     * 
+     * <pre>
+     * Assertor.&lt;Integer&gt; ofNumber().isGT(10).validateAll(Arrays.asList(15, 5, 20)).getFailureCount(); // -&gt; returns 1
+     * </pre>
+     * 
+     * @param objects
+     *            the objects to check
+     * @return the bulk result
+     */
+    default ValidationAssertor validateAll(final Iterable<? extends T> objects) {
+        return this.compile().validateAll(objects);
+    }
+
+    /**
+     * Checks all objects against the predicate chain. The chain is compiled
+     * once for the whole batch, and only the messages of the first failures
+     * are built.
+     * 
+     * @param objects
+     *            the objects to check
+     * @param maxMessages
+     *            the maximum number of failure messages to build
+     * @return the bulk result
+     */
+    default ValidationAssertor validateAll(final Iterable<? extends T> objects, final int maxMessages) {
+        return this.compile().validateAll(objects, maxMessages);
+    }
+
+    /**
+     * Checks all objects against the predicate chain (see
+     * {@link #validateAll(Iterable)}).
+     * 
+     * @param objects
+     *            the objects to check
+     * @return the bulk result
+     */
+    default ValidationAssertor validateAll(final T[] objects) {
+        return this.compile().validateAll(objects);
+    }
+
+    /**
+     * Checks all objects against the predicate chain (see
+     * {@link #validateAll(Iterable, int)}).
+     * 
+     * @param objects
+     *            the objects to check
+     * @param maxMessages
+     *            the maximum number of failure messages to build
+     * @return the bulk result
+     */
+    default ValidationAssertor validateAll(final T[] objects, final int maxMessages) {
+        return this.compile().validateAll(objects, maxMessages);
+    }
+
+    /**
+     * Checks all objects against the predicate chain (see
+     * {@link #validateAll(Iterable)}). The stream is consumed sequentially.
+     * 
+     * @param objects
+     *            the objects to check
+     * @return the bulk result
+     */
+    default ValidationAssertor validateAll(final Stream<? extends T> objects) {
+        return this.compile().validateAll(objects);
+    }
+
+    /**
+     * Checks all objects against the predicate chain (see
+     * {@link #validateAll(Iterable, int)}). The stream is consumed
+     * sequentially.
+     * 
+     * @param objects
+     *            the objects to check
+     * @param maxMessages
+     *            the maximum number of failure messages to build
+     * @return the bulk result
+     */
+    default ValidationAssertor validateAll(final Stream<? extends T> objects, final int maxMessages) {
+        return this.compile().validateAll(objects, maxMessages);
+    }
+
+    /**
+     * Checks all objects against the predicate chain in parallel. The list is
+     * split into chunks validated by fork/join tasks, each task keeps its own
+     * failures, merged at the end. The failures keep the list indexes.
+     * 
+     * <pre>
+     * final ForkJoinPool pool = new ForkJoinPool(32);
+     * Assertor.ofString().isNotBlank().validateAll(rows, pool, 10_000, 100);
+     * </pre>
+     * 
+     * @param objects
+     *            the objects to check
+     * @param pool
+     *            the fork/join pool (if {@code null}, the common pool is used)
+     * @param chunkSize
+     *            the number of objects validated by each task (if lower than
+     *            1, the size is computed from the pool parallelism)
+     * @param maxMessages
+     *            the maximum number of failure messages to build
+     * @return the bulk result
+     */
+    default ValidationAssertor validateAll(final List<? extends T> objects, final ForkJoinPool pool, final int chunkSize,
+            final int maxMessages) {
+        return this.compile().validateAll(objects, pool, chunkSize, maxMessages);
+    }
+
+    /**
+     * Checks all objects against the predicate chain in parallel (see
+     * {@link #validateAll(List, ForkJoinPool, int, int)}).
+     * 
+     * @param objects
+     *            the objects to check
+     * @param pool
+     *            the fork/join pool (if {@code null}, the common pool is used)
+     * @param chunkSize
+     *            the number of objects validated by each task (if lower than
+     *            1, the size is computed from the pool parallelism)
+     * @param maxMessages
+     *            the maximum number of failure messages to build
+     * @return the bulk result
+     */
+    default ValidationAssertor validateAll(final T[] objects, final ForkJoinPool pool, final int chunkSize, final int maxMessages) {
+        return this.compile().validateAll(objects, pool, chunkSize, maxMessages);
+    }
+
+    /**
+     * Creates an operator which validates streamed items against the
+     * predicate chain (compiled once for the whole stream). Items are read on
+     * demand by micro-batches, valid items pass through untouched, and invalid
+     * items are routed with their error message to the side channel.
+     * 
+     * <pre>
+     * final List&lt;String&gt; errors = new ArrayList&lt;&gt;();
+     * Assertor.ofString().isNotBlank().processor(100, (item, error) -&gt; errors.add(error)).process(Stream.of("a", " ", "b"))
+     *         .collect(Collectors.toList()); // -&gt; returns ["a", "b"], and errors contains the message for " "
+     * </pre>
+     * 
+     * @param batchSize
+     *            the number of items validated at once
+     * @param invalidConsumer
+     *            the side channel of invalid items (the item and the error
+     *            message)
+     * @return the processor
+     * @throws IllegalArgumentException
+     *             if batch size is lower than 1
+     */
+    default PredicateProcessor<T> processor(final int batchSize, final BiConsumer<? super T, String> invalidConsumer) {
+        return this.compile().processor(batchSize, invalidConsumer);
     }
 }
@@ -0,0 +1,272 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.predicate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import fr.landel.utils.assertor.AssertorEnd;
+import fr.landel.utils.assertor.StepAssertor;
+import fr.landel.utils.assertor.commons.ValidationAssertor;
+import fr.landel.utils.assertor.helper.HelperEnd;
+import fr.landel.utils.assertor.helper.HelperStep;
+
+/**
+ * Validator bound to a compiled predicate chain (see
+ * {@link PredicateStep#compile()}). The steps are loaded and the plan is
+ * compiled once at creation, each test only evaluates the plan (no step is
+ * created).
+ * 
+ * <p>
+ * The validator is immutable and thread-safe: steps and compiled plan are
+ * immutable and the evaluation state is confined to the calling thread. So a
+ * validator can be stored in a static field and used concurrently by many
+ * threads.
+ * </p>
+ * 
+ * <pre>
+ * private static final PredicateValidator&lt;String&gt; VALIDATOR = Assertor.ofString().isNotBlank().and().hasLengthLTE(10).compile();
+ * // ...
+ * VALIDATOR.test("text"); // -&gt; returns true
+ * VALIDATOR.that("").getErrors(); // -&gt; returns the error message
+ * VALIDATOR.validateAll(Arrays.asList("a", "", "b"), 10); // -&gt; returns the bulk result (1 failure at index 1, with its message)
+ * </pre>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ * @param <T>
+ *            the type of checked object
+ */
+public final class PredicateValidator<T> implements Predicate<T> {
+
+    private static final String OBJECTS = "objects";
+
+    private final StepAssertor<T> step;
+
+    /**
+     * Constructor
+     *
+     * @param step
+     *            the last step of the predicate chain
+     */
+    PredicateValidator(final StepAssertor<T> step) {
+        this.step = Objects.requireNonNull(step, "step");
+
+        // compiles the plan
+        this.step.getPlan();
+    }
+
+    /**
+     * @return the last step of the predicate chain
+     */
+    public StepAssertor<T> getStep() {
+        return this.step;
+    }
+
+    /**
+     * Checks if the object matches the predicate chain (no parameter and no
+     * message are built).
+     * 
+     * @param object
+     *            the object to check
+     * @return true, if preconditions are OK and the object is valid
+     * @throws UnsupportedOperationException
+     *             if the chain contains creation steps
+     */
+    @Override
+    public boolean test(final T object) {
+        return HelperEnd.isOK(this.step, object);
+    }
+
+    /**
+     * Inject the checked object into an 'end' step, to get the errors, the
+     * result or to throw an exception. Only the 'end' step is created, the
+     * compiled plan is reused.
+     * 
+     * @param object
+     *            the object to check
+     * @return the predicate end step
+     */
+    public AssertorEnd<T> that(final T object) {
+        final StepAssertor<T> objectStep = HelperStep.object(this.step, object);
+        return () -> objectStep;
+    }
+
+    /**
+     * Checks all objects (no message is built).
+     * 
+     * @param objects
+     *            the objects to check
+     * @return the bulk result (failures are indexed in the iteration order)
+     * @throws UnsupportedOperationException
+     *             if the chain contains creation steps
+     */
+    public ValidationAssertor validateAll(final Iterable<? extends T> objects) {
+        return this.validateAll(objects, 0);
+    }
+
+    /**
+     * Checks all objects, the messages of the first failures are built.
+     * 
+     * @param objects
+     *            the objects to check
+     * @param maxMessages
+     *            the maximum number of failure messages to build
+     * @return the bulk result (failures are indexed in the iteration order)
+     * @throws UnsupportedOperationException
+     *             if the chain contains creation steps
+     */
+    public ValidationAssertor validateAll(final Iterable<? extends T> objects, final int maxMessages) {
+        Objects.requireNonNull(objects, OBJECTS);
+        return HelperEnd.validateAll(this.step, objects.iterator(), maxMessages);
+    }
+
+    /**
+     * Checks all objects (no message is built).
+     * 
+     * @param objects
+     *            the objects to check
+     * @return the bulk result (failures are indexed like the array)
+     * @throws UnsupportedOperationException
+     *             if the chain contains creation steps
+     */
+    public ValidationAssertor validateAll(final T[] objects) {
+        return this.validateAll(objects, 0);
+    }
+
+    /**
+     * Checks all objects, the messages of the first failures are built.
+     * 
+     * @param objects
+     *            the objects to check
+     * @param maxMessages
+     *            the maximum number of failure messages to build
+     * @return the bulk result (failures are indexed like the array)
+     * @throws UnsupportedOperationException
+     *             if the chain contains creation steps
+     */
+    public ValidationAssertor validateAll(final T[] objects, final int maxMessages) {
+        Objects.requireNonNull(objects, OBJECTS);
+        return HelperEnd.validateAll(this.step, Arrays.asList(objects).iterator(), maxMessages);
+    }
+
+    /**
+     * Checks all objects (no message is built). The stream is consumed
+     * sequentially.
+     * 
+     * @param objects
+     *            the objects to check
+     * @return the bulk result (failures are indexed in the encounter order)
+     * @throws UnsupportedOperationException
+     *             if the chain contains creation steps
+     */
+    public ValidationAssertor validateAll(final Stream<? extends T> objects) {
+        return this.validateAll(objects, 0);
+    }
+
+    /**
+     * Checks all objects, the messages of the first failures are built. The
+     * stream is consumed sequentially.
+     * 
+     * @param objects
+     *            the objects to check
+     * @param maxMessages
+     *            the maximum number of failure messages to build
+     * @return the bulk result (failures are indexed in the encounter order)
+     * @throws UnsupportedOperationException
+     *             if the chain contains creation steps
+     */
+    public ValidationAssertor validateAll(final Stream<? extends T> objects, final int maxMessages) {
+        Objects.requireNonNull(objects, OBJECTS);
+        return HelperEnd.validateAll(this.step, objects.iterator(), maxMessages);
+    }
+
+    /**
+     * Checks all objects in parallel, through fork/join tasks (each task
+     * validates a chunk of the list). The messages of the first failures are
+     * built.
+     * 
+     * @param objects
+     *            the objects to check
+     * @param pool
+     *            the fork/join pool (if {@code null}, the common pool is used)
+     * @param chunkSize
+     *            the number of objects validated by each task (if lower than
+     *            1, the size is computed from the pool parallelism)
+     * @param maxMessages
+     *            the maximum number of failure messages to build
+     * @return the bulk result (failures are indexed like the list)
+     * @throws UnsupportedOperationException
+     *             if the chain contains creation steps
+     */
+    public ValidationAssertor validateAll(final List<? extends T> objects, final ForkJoinPool pool, final int chunkSize,
+            final int maxMessages) {
+        Objects.requireNonNull(objects, OBJECTS);
+        return HelperEnd.validateAll(this.step, objects.spliterator(), pool, chunkSize, maxMessages);
+    }
+
+    /**
+     * Checks all objects in parallel, through fork/join tasks (each task
+     * validates a chunk of the array). The messages of the first failures are
+     * built.
+     * 
+     * @param objects
+     *            the objects to check
+     * @param pool
+     *            the fork/join pool (if {@code null}, the common pool is used)
+     * @param chunkSize
+     *            the number of objects validated by each task (if lower than
+     *            1, the size is computed from the pool parallelism)
+     * @param maxMessages
+     *            the maximum number of failure messages to build
+     * @return the bulk result (failures are indexed like the array)
+     * @throws UnsupportedOperationException
+     *             if the chain contains creation steps
+     */
+    public ValidationAssertor validateAll(final T[] objects, final ForkJoinPool pool, final int chunkSize, final int maxMessages) {
+        Objects.requireNonNull(objects, OBJECTS);
+        return HelperEnd.validateAll(this.step, Arrays.spliterator(objects), pool, chunkSize, maxMessages);
+    }
+
+    /**
+     * Creates an operator which validates streamed items by micro-batches.
+     * Valid items pass through untouched, invalid items are routed to the side
+     * channel.
+     * 
+     * @param batchSize
+     *            the number of items validated at once (and the maximum
+     *            number of buffered items)
+     * @param invalidConsumer
+     *            the side channel of invalid items (the item and the error
+     *            message)
+     * @return the processor
+     * @throws IllegalArgumentException
+     *             if batch size is lower than 1
+     */
+    public PredicateProcessor<T> processor(final int batchSize, final BiConsumer<? super T, String> invalidConsumer) {
+        return new PredicateProcessor<>(this, batchSize, invalidConsumer);
+    }
+}
@@ -21,7 +21,6 @@ package fr.landel.utils.assertor.utils;
 
 import java.util.Arrays;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -394,7 +393,9 @@ public class AssertorArray extends ConstantsAssertor {
 
         final Predicate<T[]> preChecker = (object) -> ArrayUtils.isNotEmpty(array) && ArrayUtils.isNotEmpty(object);
 
-        final BiPredicate<T[], Boolean> checker = (object, not) -> AssertorArray.hasInOrder(object, array, not, step.getAnalysisMode());
+        final InOrderAssertor<T, T> inOrder = InOrderAssertor.of(array);
+
+        final BiPredicate<T[], Boolean> checker = (object, not) -> AssertorArray.hasInOrder(object, inOrder, not, step.getAnalysisMode());
 
         return new StepAssertor<>(step, preChecker, checker, true, message, MSG.ARRAY.CONTAINS_IN_ORDER, false,
                 new ParameterAssertor<>(array, EnumType.ARRAY));
@@ -475,49 +476,9 @@ public class AssertorArray extends ConstantsAssertor {
         return HelperAssertor.isValid(all, not, found, array2.length);
     }
 
-    private static <T> boolean hasInOrder(final T[] array1, final T[] array2, final boolean not, final EnumAnalysisMode analysisMode) {
-
-        int found = 0;
-
-        final int size1 = array1.length;
-        final int size2 = array2.length;
-
-        if (size1 < size2) {
-            return not;
-        } else if (size1 == size2) {
-            return not ^ Arrays.equals(array1, array2);
-        }
-
-        if (EnumAnalysisMode.STANDARD.equals(analysisMode)) {
-            for (int i = 0; i < size1 && found < size2; ++i) {
-                if (Objects.equals(array1[i], array2[found])) {
-                    ++found;
-                } else if (found > 0) {
-                    found = 0;
-                }
-            }
-        } else {
-            final AtomicInteger count = new AtomicInteger(0);
-
-            Stream<T> stream = Stream.of(array1);
-            if (EnumAnalysisMode.PARALLEL.equals(analysisMode)) {
-                stream = stream.parallel();
-            }
-
-            stream.forEachOrdered(o -> {
-                int inc = count.get();
-                if (inc < size2) {
-                    if (Objects.equals(o, array2[inc])) {
-                        count.incrementAndGet();
-                    } else if (inc > 0) {
-                        count.set(0);
-                    }
-                }
-            });
-
-            found = count.get();
-        }
+    private static <T> boolean hasInOrder(final T[] array1, final InOrderAssertor<T, T> inOrder, final boolean not,
+            final EnumAnalysisMode analysisMode) {
 
-        return not ^ (found == size2);
+        return not ^ inOrder.isIn(Arrays.asList(array1), EnumAnalysisMode.PARALLEL.equals(analysisMode));
     }
 }
@@ -22,12 +22,15 @@ package fr.landel.utils.assertor.utils;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import fr.landel.utils.assertor.StepAssertor;
 import fr.landel.utils.assertor.commons.ConstantsAssertor;
 import fr.landel.utils.assertor.commons.MessageAssertor;
 import fr.landel.utils.assertor.commons.ParameterAssertor;
+import fr.landel.utils.assertor.commons.PatternsAssertor;
 import fr.landel.utils.assertor.enums.EnumType;
+import fr.landel.utils.assertor.helper.HelperAssertor;
 import fr.landel.utils.commons.StringUtils;
 
 /**
@@ -39,9 +42,6 @@ import fr.landel.utils.commons.StringUtils;
  */
 public class AssertorCharSequence extends ConstantsAssertor {
 
-    private static final String CR = "\r";
-    private static final String LF = "\n";
-
     /**
      * Prepare the next step to validate if the {@link CharSequence} has the
      * specified length
@@ -303,7 +303,9 @@ public class AssertorCharSequence extends ConstantsAssertor {
     public static <T extends CharSequence> StepAssertor<T> isEqual(final StepAssertor<T> step, final CharSequence string,
             final boolean ignoreCase, final boolean ignoreLineReturns, final MessageAssertor message) {
 
-        final BiPredicate<T, Boolean> checker = (object, not) -> isEqualInternal(string, object, ignoreCase, ignoreLineReturns);
+        final FoldingAssertor folding = getFolding(string, ignoreCase && !ignoreLineReturns);
+        final BiPredicate<T, Boolean> checker = (object, not) -> isEqualInternal(string, folding, object, ignoreCase,
+                ignoreLineReturns);
 
         return new StepAssertor<>(step, checker, false, message, MSG.CSQ.EQUALS, false,
                 new ParameterAssertor<>(string, EnumType.CHAR_SEQUENCE));
@@ -334,55 +336,88 @@ public class AssertorCharSequence extends ConstantsAssertor {
     public static <T extends CharSequence> StepAssertor<T> isNotEqual(final StepAssertor<T> step, final CharSequence string,
             final boolean ignoreCase, final boolean ignoreLineReturns, final MessageAssertor message) {
 
-        final BiPredicate<T, Boolean> checker = (object, not) -> !isEqualInternal(string, object, ignoreCase, ignoreLineReturns);
+        final FoldingAssertor folding = getFolding(string, ignoreCase && !ignoreLineReturns);
+        final BiPredicate<T, Boolean> checker = (object, not) -> !isEqualInternal(string, folding, object, ignoreCase,
+                ignoreLineReturns);
 
         return new StepAssertor<>(step, checker, false, message, MSG.CSQ.EQUALS, true,
                 new ParameterAssertor<>(string, EnumType.CHAR_SEQUENCE));
     }
 
-    private static <T extends CharSequence> boolean isEqualInternal(final T object1, final CharSequence object2, final boolean ignoreCase,
-            final boolean ignoreLineReturns) {
+    private static FoldingAssertor getFolding(final CharSequence string, final boolean ignoreCase) {
+        if (ignoreCase && string != null) {
+            return FoldingAssertor.of(string);
+        }
+        return null;
+    }
+
+    private static <T extends CharSequence> boolean isEqualInternal(final T object1, final FoldingAssertor folding,
+            final CharSequence object2, final boolean ignoreCase, final boolean ignoreLineReturns) {
         boolean step = false;
         if (object1 == object2) {
             step = true;
         } else if (object1 != null && object2 != null) {
-            final String s1;
-            final String s2;
-
             if (ignoreLineReturns) {
-                final StringBuilder sb1 = new StringBuilder(object1);
-                final StringBuilder sb2 = new StringBuilder(object2);
-
-                deleteLineReturns(sb1);
-                deleteLineReturns(sb2);
-
-                s1 = sb1.toString();
-                s2 = sb2.toString();
+                step = isEqualIgnoreLineReturns(object1, object2, ignoreCase);
+            } else if (ignoreCase) {
+                step = folding.isEqualTo(object2);
             } else {
-                s1 = object1.toString();
-                s2 = object2.toString();
-            }
-
-            if (ignoreCase) {
-                step = s1.equalsIgnoreCase(s2);
-            } else {
-                step = s1.equals(s2);
+                step = object1.toString().equals(object2.toString());
             }
         }
         return step;
     }
 
-    private static void deleteLineReturns(final StringBuilder sb) {
-        int pos = 0;
-        while ((pos = sb.indexOf(CR, pos)) > -1) {
-            sb.deleteCharAt(pos);
-        }
-        pos = 0;
-        while ((pos = sb.indexOf(LF, pos)) > -1) {
-            sb.deleteCharAt(pos);
+    /**
+     * Compares both sequences in one pass, the line return characters
+     * ({@code \r} and {@code \n}) are skipped on the fly (without copy)
+     * 
+     * @param object1
+     *            the first sequence (not null)
+     * @param object2
+     *            the second sequence (not null)
+     * @param ignoreCase
+     *            {@code true} to ignore the case (like
+     *            {@link String#equalsIgnoreCase})
+     * @return true, if equal
+     */
+    private static boolean isEqualIgnoreLineReturns(final CharSequence object1, final CharSequence object2, final boolean ignoreCase) {
+        final int length1 = object1.length();
+        final int length2 = object2.length();
+
+        int i = 0;
+        int j = 0;
+        char c1;
+        char c2;
+        for (;;) {
+            while (i < length1 && isLineReturn(object1.charAt(i))) {
+                ++i;
+            }
+            while (j < length2 && isLineReturn(object2.charAt(j))) {
+                ++j;
+            }
+            if (i == length1 || j == length2) {
+                return i == length1 && j == length2;
+            }
+
+            c1 = object1.charAt(i++);
+            c2 = object2.charAt(j++);
+            if (c1 != c2 && (!ignoreCase || !isEqualIgnoreCase(c1, c2))) {
+                return false;
+            }
         }
     }
 
+    private static boolean isLineReturn(final char c) {
+        return c == '\r' || c == '\n';
+    }
+
+    private static boolean isEqualIgnoreCase(final char c1, final char c2) {
+        final char u1 = Character.toUpperCase(c1);
+        final char u2 = Character.toUpperCase(c2);
+        return u1 == u2 || Character.toLowerCase(u1) == Character.toLowerCase(u2);
+    }
+
     /**
      * Prepare the next step to validate if the {@link CharSequence} contains
      * the specified character
@@ -407,7 +442,7 @@ public class AssertorCharSequence extends ConstantsAssertor {
 
         final Predicate<T> preChecker = (object) -> object != null && character != null;
 
-        final BiPredicate<T, Boolean> checker = (object, not) -> object.toString().indexOf(character) > -1;
+        final BiPredicate<T, Boolean> checker = (object, not) -> SubstringAssertor.indexOf(object, character) > -1;
 
         return new StepAssertor<>(step, preChecker, checker, false, message, MSG.CSQ.CONTAINS, false,
                 new ParameterAssertor<>(character, EnumType.CHARACTER));
@@ -422,6 +457,11 @@ public class AssertorCharSequence extends ConstantsAssertor {
      * {@code substring} cannot be {@code null} or empty
      * </p>
      * 
+     * <p>
+     * The search is prepared once, when the step is created (see
+     * {@link SubstringAssertor}).
+     * </p>
+     * 
      * @param step
      *            the current step
      * @param substring
@@ -437,12 +477,228 @@ public class AssertorCharSequence extends ConstantsAssertor {
 
         final Predicate<T> preChecker = (object) -> object != null && StringUtils.isNotEmpty(substring);
 
-        final BiPredicate<T, Boolean> checker = (object, not) -> containsCharSequence(object, substring);
+        final SubstringAssertor search = StringUtils.isNotEmpty(substring) ? SubstringAssertor.of(substring) : null;
+        final BiPredicate<T, Boolean> checker = (object, not) -> search.isIn(object);
 
         return new StepAssertor<>(step, preChecker, checker, false, message, MSG.CSQ.CONTAINS, false,
                 new ParameterAssertor<>(substring, EnumType.CHAR_SEQUENCE));
     }
 
+    /**
+     * Prepare the next step to validate if the {@link CharSequence} contains all the
+     * specified substrings (with NOT, like for {@link Iterable}, at least one
+     * substring but not all have to be found)
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain
+     * {@code null} or empty substrings
+     * </p>
+     * 
+     * @param step
+     *            the current step
+     * @param substrings
+     *            the substrings to find
+     * @param message
+     *            the message if invalid
+     * @param <T>
+     *            the char sequence type
+     * @return the next step
+     */
+    public static <T extends CharSequence> StepAssertor<T> containsAll(final StepAssertor<T> step, final CharSequence[] substrings,
+            final MessageAssertor message) {
+
+        return AssertorCharSequence.contains(step, substrings, true, false, false, MSG.CSQ.CONTAINS_ALL, message);
+    }
+
+    /**
+     * Prepare the next step to validate if the {@link CharSequence} contains at least
+     * one of the specified substrings
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain
+     * {@code null} or empty substrings
+     * </p>
+     * 
+     * @param step
+     *            the current step
+     * @param substrings
+     *            the substrings to find
+     * @param message
+     *            the message if invalid
+     * @param <T>
+     *            the char sequence type
+     * @return the next step
+     */
+    public static <T extends CharSequence> StepAssertor<T> containsAny(final StepAssertor<T> step, final CharSequence[] substrings,
+            final MessageAssertor message) {
+
+        return AssertorCharSequence.contains(step, substrings, false, false, false, MSG.CSQ.CONTAINS_ANY, message);
+    }
+
+    /**
+     * Prepare the next step to validate if the {@link CharSequence} doesn't contain
+     * any of the specified substrings
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain
+     * {@code null} or empty substrings
+     * </p>
+     * 
+     * @param step
+     *            the current step
+     * @param substrings
+     *            the substrings to find
+     * @param message
+     *            the message if invalid
+     * @param <T>
+     *            the char sequence type
+     * @return the next step
+     */
+    public static <T extends CharSequence> StepAssertor<T> containsNone(final StepAssertor<T> step, final CharSequence[] substrings,
+            final MessageAssertor message) {
+
+        return AssertorCharSequence.contains(step, substrings, false, true, false, MSG.CSQ.CONTAINS_NONE, message);
+    }
+
+    /**
+     * Prepare the next step to validate if the {@link CharSequence} contains all the
+     * specified substrings, ignoring case considerations (with NOT, at least
+     * one substring but not all have to be found)
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain
+     * {@code null} or empty substrings
+     * </p>
+     * 
+     * @param step
+     *            the current step
+     * @param substrings
+     *            the substrings to find
+     * @param message
+     *            the message if invalid
+     * @param <T>
+     *            the char sequence type
+     * @return the next step
+     */
+    public static <T extends CharSequence> StepAssertor<T> containsAllIgnoreCase(final StepAssertor<T> step, final CharSequence[] substrings,
+            final MessageAssertor message) {
+
+        return AssertorCharSequence.contains(step, substrings, true, false, true, MSG.CSQ.CONTAINS_ALL, message);
+    }
+
+    /**
+     * Prepare the next step to validate if the {@link CharSequence} contains at least
+     * one of the specified substrings, ignoring case considerations
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain
+     * {@code null} or empty substrings
+     * </p>
+     * 
+     * @param step
+     *            the current step
+     * @param substrings
+     *            the substrings to find
+     * @param message
+     *            the message if invalid
+     * @param <T>
+     *            the char sequence type
+     * @return the next step
+     */
+    public static <T extends CharSequence> StepAssertor<T> containsAnyIgnoreCase(final StepAssertor<T> step, final CharSequence[] substrings,
+            final MessageAssertor message) {
+
+        return AssertorCharSequence.contains(step, substrings, false, false, true, MSG.CSQ.CONTAINS_ANY, message);
+    }
+
+    /**
+     * Prepare the next step to validate if the {@link CharSequence} doesn't contain
+     * any of the specified substrings, ignoring case considerations
+     * 
+     * <p>
+     * precondition: {@link CharSequence} cannot be {@code null} and
+     * {@code substrings} cannot be {@code null}, empty or contain
+     * {@code null} or empty substrings
+     * </p>
+     * 
+     * @param step
+     *            the current step
+     * @param substrings
+     *            the substrings to find
+     * @param message
+     *            the message if invalid
+     * @param <T>
+     *            the char sequence type
+     * @return the next step
+     */
+    public static <T extends CharSequence> StepAssertor<T> containsNoneIgnoreCase(final StepAssertor<T> step, final CharSequence[] substrings,
+            final MessageAssertor message) {
+
+        return AssertorCharSequence.contains(step, substrings, false, true, true, MSG.CSQ.CONTAINS_NONE, message);
+    }
+
+    /**
+     * Prepare the next step to search substrings, the automaton is built once,
+     * when the step is created (see {@link AutomatonAssertor}), so the text is
+     * read in a single pass.
+     * 
+     * @param step
+     *            the current step
+     * @param substrings
+     *            the substrings to find
+     * @param all
+     *            if all substrings have to be found (otherwise any)
+     * @param none
+     *            if no substring has to be found
+     * @param ignoreCase
+     *            if case has to be ignored
+     * @param key
+     *            the message key
+     * @param message
+     *            the message if invalid
+     * @param <T>
+     *            the char sequence type
+     * @return the next step
+     */
+    private static <T extends CharSequence> StepAssertor<T> contains(final StepAssertor<T> step, final CharSequence[] substrings,
+            final boolean all, final boolean none, final boolean ignoreCase, final CharSequence key, final MessageAssertor message) {
+
+        final boolean valid = isValid(substrings);
+        final AutomatonAssertor automaton = valid ? AutomatonAssertor.of(substrings, ignoreCase) : null;
+
+        final Predicate<T> preChecker = (object) -> object != null && valid;
+
+        // NOT ALL means some but not all (NOT is applied by the checker)
+        final BiPredicate<T, Boolean> checker;
+        if (all) {
+            checker = (object, not) -> HelperAssertor.isValid(all, not, automaton.countIn(object), automaton.size());
+        } else if (none) {
+            checker = (object, not) -> not ^ !automaton.isAnyIn(object);
+        } else {
+            checker = (object, not) -> not ^ automaton.isAnyIn(object);
+        }
+
+        return new StepAssertor<>(step, preChecker, checker, true, message, key, false,
+                new ParameterAssertor<>(substrings, EnumType.ARRAY));
+    }
+
+    private static boolean isValid(final CharSequence[] substrings) {
+        if (substrings == null || substrings.length == 0) {
+            return false;
+        }
+        for (final CharSequence substring : substrings) {
+            if (StringUtils.isEmpty(substring)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Prepare the next step to validate if the {@link CharSequence} starts with
      * the specified substring
@@ -497,7 +753,8 @@ public class AssertorCharSequence extends ConstantsAssertor {
 
         final Predicate<T> preChecker = (object) -> object != null && StringUtils.isNotEmpty(substring);
 
-        final BiPredicate<T, Boolean> checker = (object, not) -> StringUtils.startsWithIgnoreCase(object, substring);
+        final FoldingAssertor folding = getFolding(substring, StringUtils.isNotEmpty(substring));
+        final BiPredicate<T, Boolean> checker = (object, not) -> folding.isPrefixOf(object);
 
         return new StepAssertor<>(step, preChecker, checker, false, message, MSG.CSQ.STARTS, false,
                 new ParameterAssertor<>(substring, EnumType.CHAR_SEQUENCE));
@@ -557,7 +814,8 @@ public class AssertorCharSequence extends ConstantsAssertor {
 
         final Predicate<T> preChecker = (object) -> object != null && StringUtils.isNotEmpty(substring);
 
-        final BiPredicate<T, Boolean> checker = (object, not) -> StringUtils.endsWithIgnoreCase(object, substring);
+        final FoldingAssertor folding = getFolding(substring, StringUtils.isNotEmpty(substring));
+        final BiPredicate<T, Boolean> checker = (object, not) -> folding.isSuffixOf(object);
 
         return new StepAssertor<>(step, preChecker, checker, false, message, MSG.CSQ.ENDS, false,
                 new ParameterAssertor<>(substring, EnumType.CHAR_SEQUENCE));
@@ -602,6 +860,11 @@ public class AssertorCharSequence extends ConstantsAssertor {
      * expression cannot be {@code null} or empty
      * </p>
      * 
+     * <p>
+     * The regular expression is compiled once, when the step is created (see
+     * {@link PatternsAssertor}).
+     * </p>
+     * 
      * @param step
      *            the current step
      * @param regex
@@ -617,7 +880,8 @@ public class AssertorCharSequence extends ConstantsAssertor {
 
         final Predicate<T> preChecker = (object) -> object != null && StringUtils.isNotEmpty(regex);
 
-        final BiPredicate<T, Boolean> checker = (object, not) -> Pattern.matches(regex.toString(), object);
+        final Pattern pattern = compile(regex);
+        final BiPredicate<T, Boolean> checker = (object, not) -> getPattern(pattern, regex).matcher(object).matches();
 
         return new StepAssertor<>(step, preChecker, checker, false, message, MSG.CSQ.MATCHES, false,
                 new ParameterAssertor<>(regex, EnumType.CHAR_SEQUENCE));
@@ -662,6 +926,11 @@ public class AssertorCharSequence extends ConstantsAssertor {
      * expression cannot be {@code null} or empty
      * </p>
      * 
+     * <p>
+     * The regular expression is compiled once, when the step is created (see
+     * {@link PatternsAssertor}).
+     * </p>
+     * 
      * @param step
      *            the current step
      * @param regex
@@ -677,32 +946,37 @@ public class AssertorCharSequence extends ConstantsAssertor {
 
         final Predicate<T> preChecker = (object) -> object != null && StringUtils.isNotEmpty(regex);
 
-        final BiPredicate<T, Boolean> checker = (object, not) -> Pattern.compile(regex.toString()).matcher(object).find();
+        final Pattern pattern = compile(regex);
+        final BiPredicate<T, Boolean> checker = (object, not) -> getPattern(pattern, regex).matcher(object).find();
 
         return new StepAssertor<>(step, preChecker, checker, false, message, MSG.CSQ.FIND, false,
                 new ParameterAssertor<>(regex, EnumType.CHAR_SEQUENCE));
     }
 
     /**
-     * Search in char sequence, if the specified sub sequence exists in.
-     * {@code null} values have to be checked first.
+     * Compiles the regular expression once, when the step is created (through
+     * the shared cache, see {@link PatternsAssertor#getDefault()})
      * 
-     * @param textToSearch
-     *            where to search
-     * @param substring
-     *            chat to search
-     * @return {@code true} if found, {@code false} otherwise
+     * @param regex
+     *            the regular expression
+     * @return the pattern, or {@code null} if empty or invalid (the checker
+     *         fails on evaluation)
      */
-    private static boolean containsCharSequence(final CharSequence textToSearch, final CharSequence substring) {
-        int p = 0;
-        int l = substring.length();
-        for (int i = 0; i < textToSearch.length() && p < l; i++) {
-            if (textToSearch.charAt(i) == substring.charAt(p)) {
-                p++;
-            } else {
-                p = 0;
+    private static Pattern compile(final CharSequence regex) {
+        if (StringUtils.isNotEmpty(regex)) {
+            try {
+                return PatternsAssertor.getDefault().compile(regex);
+            } catch (PatternSyntaxException e) {
+                // the syntax error is thrown by the checker
             }
         }
-        return p == l;
+        return null;
+    }
+
+    private static Pattern getPattern(final Pattern pattern, final CharSequence regex) {
+        if (pattern != null) {
+            return pattern;
+        }
+        return Pattern.compile(regex.toString());
     }
 }
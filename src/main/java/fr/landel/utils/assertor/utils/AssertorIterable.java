@@ -19,10 +19,9 @@
  */
 package fr.landel.utils.assertor.utils;
 
-import java.util.Iterator;
-import java.util.List;
+import java.util.HashSet;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -47,6 +46,31 @@ import fr.landel.utils.assertor.helper.HelperAssertor;
  */
 public class AssertorIterable extends ConstantsAssertor {
 
+    /**
+     * Number of values to find from which the checked {@link Iterable} is
+     * indexed (below, scanning it for each value is cheaper than hashing all
+     * its elements)
+     */
+    private static final int INDEX_THRESHOLD = 8;
+
+    /**
+     * If the instances of the class can be looked up in a {@link HashSet}:
+     * false, if {@code equals} is overridden in a subclass of the class which
+     * declares {@code hashCode} (equal objects may have different hash codes)
+     */
+    private static final ClassValue<Boolean> HASHABLE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> clazz) {
+            try {
+                final Class<?> equals = clazz.getMethod("equals", Object.class).getDeclaringClass();
+                final Class<?> hashCode = clazz.getMethod("hashCode").getDeclaringClass();
+                return equals == hashCode || !hashCode.isAssignableFrom(equals);
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     /**
      * Prepare the next step to validate that the {@link Iterable} size is equal
      * to {@code size}.
@@ -367,6 +391,14 @@ public class AssertorIterable extends ConstantsAssertor {
      * precondition: neither {@link Iterable} can be {@code null} or empty
      * </p>
      * 
+     * <p>
+     * The elements are compared with {@code equals}. From 8 values, or if the
+     * {@link Iterable} is a {@link HashSet}, they're looked up by
+     * {@code hashCode}, so {@code hashCode} has to be consistent with
+     * {@code equals}. The classes which override {@code equals} without
+     * {@code hashCode} are detected and scanned instead.
+     * </p>
+     * 
      * @param step
      *            the current step
      * @param values
@@ -393,6 +425,14 @@ public class AssertorIterable extends ConstantsAssertor {
      * precondition: neither {@link Iterable} can be {@code null} or empty
      * </p>
      * 
+     * <p>
+     * The elements are compared with {@code equals}. From 8 values, or if the
+     * {@link Iterable} is a {@link HashSet}, they're looked up by
+     * {@code hashCode}, so {@code hashCode} has to be consistent with
+     * {@code equals}. The classes which override {@code equals} without
+     * {@code hashCode} are detected and scanned instead.
+     * </p>
+     * 
      * @param step
      *            the current step
      * @param values
@@ -436,7 +476,9 @@ public class AssertorIterable extends ConstantsAssertor {
 
         final Predicate<I> preChecker = (iterable1) -> !IterableUtils.isEmpty(iterable1) && !IterableUtils.isEmpty(values);
 
-        final BiPredicate<I, Boolean> checker = (iterable1, not) -> AssertorIterable.hasInOrder(iterable1, values, not,
+        final InOrderAssertor<T, T> inOrder = InOrderAssertor.of(values);
+
+        final BiPredicate<I, Boolean> checker = (iterable1, not) -> AssertorIterable.hasInOrder(iterable1, inOrder, not,
                 step.getAnalysisMode());
 
         return new StepAssertor<>(step, preChecker, checker, true, message, MSG.ITERABLE.CONTAINS_IN_ORDER, false,
@@ -487,21 +529,31 @@ public class AssertorIterable extends ConstantsAssertor {
 
         final int size2 = IterableUtils.size(iterable2);
 
-        if (all && !not && size2 > IterableUtils.size(iterable1)) {
-            return false;
+        // the checked size is only counted if it's used (a non Collection
+        // iterable is traversed to be counted)
+        final int size1;
+        if (all && !not) {
+            size1 = IterableUtils.size(iterable1);
+            if (size2 > size1) {
+                return false;
+            }
+        } else {
+            size1 = -1;
         }
 
+        final Predicate<T> index = AssertorIterable.index(iterable1, iterable2, size1, size2, analysisMode);
+
         if (EnumAnalysisMode.STANDARD.equals(analysisMode)) {
             if (all && !not) {
                 for (final T objectRef : iterable2) {
-                    if (!AssertorIterable.has(iterable1, objectRef, analysisMode)) {
+                    if (!index.test(objectRef)) {
                         return false;
                     }
                 }
                 return true;
             } else if (!all) { // any and not any
                 for (final T objectRef : iterable2) {
-                    if (AssertorIterable.has(iterable1, objectRef, analysisMode)) {
+                    if (index.test(objectRef)) {
                         return !not;
                     }
                 }
@@ -509,7 +561,7 @@ public class AssertorIterable extends ConstantsAssertor {
             } else { // not all
                 long found = 0;
                 for (final T objectRef : iterable2) {
-                    if (AssertorIterable.has(iterable1, objectRef, analysisMode)) {
+                    if (index.test(objectRef)) {
                         ++found;
                     }
                 }
@@ -518,60 +570,85 @@ public class AssertorIterable extends ConstantsAssertor {
 
         } else {
             return HelperAssertor.isValid(StreamSupport.stream(iterable2.spliterator(), EnumAnalysisMode.PARALLEL.equals(analysisMode)),
-                    o -> AssertorIterable.has(iterable1, o, analysisMode), all, not, () -> size2);
+                    index, all, not, () -> size2);
         }
     }
 
-    private static <I extends Iterable<T>, T> boolean hasInOrder(final I iterable1, final Iterable<T> iterable2, final boolean not,
-            final EnumAnalysisMode analysisMode) {
-
-        long found = 0;
-        final int size1 = IterableUtils.size(iterable1);
-        final int size2 = IterableUtils.size(iterable2);
+    /**
+     * Gets the lookup function of the {@link Iterable} to check each value:
+     * <ul>
+     * <li>a {@link HashSet} (or subclass) is used as is (other sets like
+     * {@code TreeSet} may not be based on {@code equals}),</li>
+     * <li>from {@link #INDEX_THRESHOLD} values and if the {@link Iterable} has
+     * more elements than values, a {@link HashSet} is built once (instead of
+     * scanning the {@link Iterable} for each value),</li>
+     * <li>otherwise, or if an element or a value overrides {@code equals}
+     * without {@code hashCode} (see {@link #HASHABLE}), the {@link Iterable}
+     * is scanned for each value.</li>
+     * </ul>
+     * 
+     * @param iterable
+     *            the checked {@link Iterable}
+     * @param values
+     *            the values to find
+     * @param size
+     *            the {@link Iterable} size (-1, if not counted yet, it's only
+     *            counted if there are enough values)
+     * @param sizeValues
+     *            the number of values to find
+     * @param analysisMode
+     *            the analysis mode (for scans)
+     * @param <I>
+     *            the {@link Iterable} type
+     * @param <T>
+     *            the {@link Iterable} elements type
+     * @return the lookup function
+     */
+    private static <I extends Iterable<T>, T> Predicate<T> index(final I iterable, final Iterable<T> values, final int size,
+            final int sizeValues, final EnumAnalysisMode analysisMode) {
 
-        if (size1 < size2) {
-            return not;
-        } else if (size1 == size2) {
-            return not ^ iterable1.equals(iterable2);
-        }
+        final Predicate<T> scan = object -> AssertorIterable.has(iterable, object, analysisMode);
 
-        if (EnumAnalysisMode.STANDARD.equals(analysisMode)) {
-            final Iterator<T> iterator1 = iterable1.iterator();
-            Iterator<T> iterator2 = iterable2.iterator();
-
-            // not empty pre-check, so we call next directly
-            T value2 = iterator2.next();
-            while (iterator1.hasNext() && found < size2) {
-                if (Objects.equals(iterator1.next(), value2)) {
-                    ++found;
-                    if (iterator2.hasNext()) {
-                        value2 = iterator2.next();
+        if (iterable instanceof HashSet) {
+            if (AssertorIterable.isHashable(iterable) && AssertorIterable.isHashable(values)) {
+                return ((Set<?>) iterable)::contains;
+            }
+        } else if (sizeValues >= INDEX_THRESHOLD) {
+            final int sizeIterable = size < 0 ? IterableUtils.size(iterable) : size;
+            if (sizeIterable > sizeValues && AssertorIterable.isHashable(values)) {
+                final Set<T> set = new HashSet<>(Math.max((int) (sizeIterable / .75f) + 1, 16));
+                Class<?> previous = null;
+                for (final T object : iterable) {
+                    if (object != null && object.getClass() != previous) {
+                        previous = object.getClass();
+                        if (!HASHABLE.get(previous)) {
+                            return scan;
+                        }
                     }
-                } else if (found > 0) {
-                    found = 0;
-                    iterator2 = iterable2.iterator();
-                    value2 = iterator2.next();
+                    set.add(object);
                 }
+                return set::contains;
             }
-        } else {
-            final AtomicInteger count = new AtomicInteger(0);
-
-            final List<T> list2 = IterableUtils.toList(iterable2);
+        }
+        return scan;
+    }
 
-            StreamSupport.stream(iterable1.spliterator(), EnumAnalysisMode.PARALLEL.equals(analysisMode)).forEachOrdered(o -> {
-                int inc = count.get();
-                if (inc < size2) {
-                    if (Objects.equals(o, list2.get(inc))) {
-                        count.incrementAndGet();
-                    } else if (inc > 0) {
-                        count.set(0);
-                    }
+    private static boolean isHashable(final Iterable<?> iterable) {
+        Class<?> previous = null;
+        for (final Object object : iterable) {
+            if (object != null && object.getClass() != previous) {
+                previous = object.getClass();
+                if (!HASHABLE.get(previous)) {
+                    return false;
                 }
-            });
-
-            found = count.get();
+            }
         }
+        return true;
+    }
+
+    private static <I extends Iterable<T>, T> boolean hasInOrder(final I iterable1, final InOrderAssertor<T, T> inOrder,
+            final boolean not, final EnumAnalysisMode analysisMode) {
 
-        return not ^ (found == size2);
+        return not ^ inOrder.isIn(iterable1, EnumAnalysisMode.PARALLEL.equals(analysisMode));
     }
 }
@@ -19,11 +19,9 @@
  */
 package fr.landel.utils.assertor.utils;
 
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -39,7 +37,6 @@ import fr.landel.utils.assertor.commons.ParameterAssertor;
 import fr.landel.utils.assertor.enums.EnumAnalysisMode;
 import fr.landel.utils.assertor.enums.EnumType;
 import fr.landel.utils.assertor.helper.HelperAssertor;
-import fr.landel.utils.commons.CastUtils;
 import fr.landel.utils.commons.MapUtils2;
 
 /**
@@ -774,8 +771,9 @@ public class AssertorMap extends ConstantsAssertor {
 
         final Predicate<M> preChecker = map1 -> MapUtils.isNotEmpty(map1) && !IterableUtils.isEmpty(keys);
 
-        final BiPredicate<M, Boolean> checker = (map1, not) -> AssertorMap.hasInOrder(map1, keys, not, step.getAnalysisMode(),
-                MapUtils2::areKeysEqual, CastUtils.cast(Object.class));
+        final InOrderAssertor<Entry<K, V>, K> inOrder = InOrderAssertor.of(keys, MapUtils2::areKeysEqual);
+
+        final BiPredicate<M, Boolean> checker = (map1, not) -> AssertorMap.hasInOrder(map1, inOrder, not, step.getAnalysisMode());
 
         return new StepAssertor<>(step, preChecker, checker, true, message, MSG.MAP.CONTAINS_KEYS_IN_ORDER, false,
                 new ParameterAssertor<>(keys, EnumType.ITERABLE));
@@ -810,8 +808,9 @@ public class AssertorMap extends ConstantsAssertor {
 
         final Predicate<M> preChecker = map1 -> MapUtils.isNotEmpty(map1) && !IterableUtils.isEmpty(values);
 
-        final BiPredicate<M, Boolean> checker = (map1, not) -> AssertorMap.hasInOrder(map1, values, not, step.getAnalysisMode(),
-                MapUtils2::areValuesEqual, CastUtils.cast(Object.class));
+        final InOrderAssertor<Entry<K, V>, V> inOrder = InOrderAssertor.of(values, MapUtils2::areValuesEqual);
+
+        final BiPredicate<M, Boolean> checker = (map1, not) -> AssertorMap.hasInOrder(map1, inOrder, not, step.getAnalysisMode());
 
         return new StepAssertor<>(step, preChecker, checker, true, message, MSG.MAP.CONTAINS_VALUES_IN_ORDER, false,
                 new ParameterAssertor<>(values, EnumType.ITERABLE));
@@ -845,62 +844,18 @@ public class AssertorMap extends ConstantsAssertor {
 
         final Predicate<M> preChecker = map1 -> MapUtils.isNotEmpty(map1) && MapUtils.isNotEmpty(map);
 
-        final BiPredicate<M, Boolean> checker = (map1, not) -> AssertorMap.hasInOrder(map1, IterableUtils.toList(map.entrySet()), not,
-                step.getAnalysisMode(), MapUtils2::areEntriesEqual, CastUtils.cast(Entry.class));
+        final Set<Entry<K, V>> entries = map != null ? map.entrySet() : null;
+        final InOrderAssertor<Entry<K, V>, Entry<K, V>> inOrder = InOrderAssertor.of(entries, MapUtils2::areEntriesEqual);
+
+        final BiPredicate<M, Boolean> checker = (map1, not) -> AssertorMap.hasInOrder(map1, inOrder, not, step.getAnalysisMode());
 
         return new StepAssertor<>(step, preChecker, checker, true, message, MSG.MAP.CONTAINS_MAP_IN_ORDER, false,
                 new ParameterAssertor<>(map, EnumType.MAP));
     }
 
-    private static <M extends Map<K, V>, K, V, T> boolean hasInOrder(final M map, final Iterable<T> objects, final boolean not,
-            final EnumAnalysisMode analysisMode, final BiPredicate<Entry<K, V>, T> entriesEqualChecker, final Class<T> objectsClass) {
-
-        int found = 0;
-
-        final int size1 = map.size();
-        final int size2 = IterableUtils.size(objects);
-
-        if (size1 < size2) {
-            return not;
-        }
-
-        final Set<Entry<K, V>> entries1 = map.entrySet();
-        final List<T> entries2 = IterableUtils.toList(objects);
-
-        if (EnumAnalysisMode.STANDARD.equals(analysisMode)) {
-            for (Entry<K, V> entry1 : entries1) {
-                if (found < size2) {
-                    if (entriesEqualChecker.test(entry1, entries2.get(found))) {
-                        ++found;
-                    } else if (found > 0) {
-                        found = 0;
-                    }
-                }
-            }
-        } else {
-            final AtomicInteger count = new AtomicInteger(0);
-
-            final Stream<Entry<K, V>> stream;
-            if (EnumAnalysisMode.PARALLEL.equals(analysisMode)) {
-                stream = entries1.parallelStream();
-            } else {
-                stream = entries1.stream();
-            }
-
-            stream.forEachOrdered(o -> {
-                int inc = count.get();
-                if (inc < size2) {
-                    if (entriesEqualChecker.test(o, entries2.get(inc))) {
-                        count.incrementAndGet();
-                    } else if (inc > 0) {
-                        count.set(0);
-                    }
-                }
-            });
-
-            found = count.get();
-        }
+    private static <M extends Map<K, V>, K, V, T> boolean hasInOrder(final M map, final InOrderAssertor<Entry<K, V>, T> inOrder,
+            final boolean not, final EnumAnalysisMode analysisMode) {
 
-        return not ^ (found == size2);
+        return not ^ inOrder.isIn(map.entrySet(), EnumAnalysisMode.PARALLEL.equals(analysisMode));
     }
 }
@@ -0,0 +1,328 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import fr.landel.utils.assertor.StepAssertor;
+import fr.landel.utils.assertor.commons.ConstantsAssertor;
+import fr.landel.utils.assertor.commons.MessageAssertor;
+import fr.landel.utils.assertor.commons.ParameterAssertor;
+import fr.landel.utils.assertor.enums.EnumType;
+import fr.landel.utils.commons.StringUtils;
+
+/**
+ * Utility class to prepare the check of {@link Path}. The content checks
+ * stream the file by chunks (the file is never loaded in memory), see
+ * {@link ChannelAssertor}.
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class AssertorPath extends ConstantsAssertor {
+
+    /**
+     * Prepare the next step to validate if the {@link Path} exists
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be {@code null}
+     * </p>
+     * 
+     * @param step
+     *            the current step
+     * @param message
+     *            the message if invalid
+     * @return the next step
+     */
+    public static StepAssertor<Path> exists(final StepAssertor<Path> step, final MessageAssertor message) {
+
+        final Predicate<Path> preChecker = (path) -> path != null;
+
+        final BiPredicate<Path, Boolean> checker = (path, not) -> Files.exists(path);
+
+        return new StepAssertor<>(step, preChecker, checker, false, message, MSG.PATH.EXISTS, false);
+    }
+
+    /**
+     * Prepare the next step to validate if the file has the specified size
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be {@code null} and size cannot be
+     * lower than zero
+     * </p>
+     * 
+     * @param step
+     *            the current step
+     * @param size
+     *            the expected size (in bytes)
+     * @param message
+     *            the message if invalid
+     * @return the next step
+     */
+    public static StepAssertor<Path> hasSize(final StepAssertor<Path> step, final long size, final MessageAssertor message) {
+
+        final BiPredicate<Path, Boolean> checker = (path, not) -> size(path) == size;
+
+        return checkSize(step, size, checker, MSG.PATH.SIZE, message);
+    }
+
+    /**
+     * Prepare the next step to validate if the file has a size greater than
+     * {@code size}.
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be {@code null} and size cannot be
+     * lower than zero
+     * </p>
+     * 
+     * @param step
+     *            the current step
+     * @param size
+     *            the expected size (in bytes)
+     * @param message
+     *            the message if invalid
+     * @return the next step
+     */
+    public static StepAssertor<Path> hasSizeGT(final StepAssertor<Path> step, final long size, final MessageAssertor message) {
+
+        final BiPredicate<Path, Boolean> checker = (path, not) -> size(path) > size;
+
+        return checkSize(step, size, checker, MSG.PATH.SIZE_GT, message);
+    }
+
+    /**
+     * Prepare the next step to validate if the file has a size greater than or
+     * equal to {@code size}.
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be {@code null} and size cannot be
+     * lower than zero
+     * </p>
+     * 
+     * @param step
+     *            the current step
+     * @param size
+     *            the expected size (in bytes)
+     * @param message
+     *            the message if invalid
+     * @return the next step
+     */
+    public static StepAssertor<Path> hasSizeGTE(final StepAssertor<Path> step, final long size, final MessageAssertor message) {
+
+        final BiPredicate<Path, Boolean> checker = (path, not) -> size(path) >= size;
+
+        return checkSize(step, size, checker, MSG.PATH.SIZE_GTE, message);
+    }
+
+    /**
+     * Prepare the next step to validate if the file has a size lower than
+     * {@code size}.
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be {@code null} and size cannot be
+     * lower than zero
+     * </p>
+     * 
+     * @param step
+     *            the current step
+     * @param size
+     *            the expected size (in bytes)
+     * @param message
+     *            the message if invalid
+     * @return the next step
+     */
+    public static StepAssertor<Path> hasSizeLT(final StepAssertor<Path> step, final long size, final MessageAssertor message) {
+
+        final BiPredicate<Path, Boolean> checker = (path, not) -> size(path) < size;
+
+        return checkSize(step, size, checker, MSG.PATH.SIZE_LT, message);
+    }
+
+    /**
+     * Prepare the next step to validate if the file has a size lower than or
+     * equal to {@code size}.
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be {@code null} and size cannot be
+     * lower than zero
+     * </p>
+     * 
+     * @param step
+     *            the current step
+     * @param size
+     *            the expected size (in bytes)
+     * @param message
+     *            the message if invalid
+     * @return the next step
+     */
+    public static StepAssertor<Path> hasSizeLTE(final StepAssertor<Path> step, final long size, final MessageAssertor message) {
+
+        final BiPredicate<Path, Boolean> checker = (path, not) -> size(path) <= size;
+
+        return checkSize(step, size, checker, MSG.PATH.SIZE_LTE, message);
+    }
+
+    private static StepAssertor<Path> checkSize(final StepAssertor<Path> step, final long size, final BiPredicate<Path, Boolean> checker,
+            final String messageKey, final MessageAssertor message) {
+
+        final Predicate<Path> preChecker = (path) -> size >= 0 && path != null;
+
+        return new StepAssertor<>(step, preChecker, checker, false, message, messageKey, false,
+                new ParameterAssertor<>(size, EnumType.NUMBER_INTEGER));
+    }
+
+    private static long size(final Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Prepare the next step to validate if the file content contains the
+     * specified substring (the file is decoded by chunks, a substring across
+     * two chunks is found)
+     * 
+     * <p>
+     * precondition: {@link Path} and {@code charset} cannot be {@code null},
+     * {@code substring} cannot be {@code null} or empty
+     * </p>
+     * 
+     * @param step
+     *            the current step
+     * @param substring
+     *            the substring to find
+     * @param charset
+     *            the file charset
+     * @param message
+     *            the message if invalid
+     * @return the next step
+     */
+    public static StepAssertor<Path> contains(final StepAssertor<Path> step, final CharSequence substring, final Charset charset,
+            final MessageAssertor message) {
+
+        final Predicate<Path> preChecker = (path) -> path != null && StringUtils.isNotEmpty(substring) && charset != null;
+
+        final SubstringAssertor search = StringUtils.isNotEmpty(substring) ? SubstringAssertor.of(substring) : null;
+        final BiPredicate<Path, Boolean> checker = (path, not) -> ChannelAssertor.of(path, charset).contains(search);
+
+        return new StepAssertor<>(step, preChecker, checker, false, message, MSG.PATH.CONTAINS, false,
+                new ParameterAssertor<>(substring, EnumType.CHAR_SEQUENCE));
+    }
+
+    /**
+     * Prepare the next step to validate if a line of the file contains a
+     * sequence matching the pattern (a match cannot span several lines)
+     * 
+     * <p>
+     * precondition: {@link Path}, {@code pattern} and {@code charset} cannot
+     * be {@code null}
+     * </p>
+     * 
+     * @param step
+     *            the current step
+     * @param pattern
+     *            the pattern
+     * @param charset
+     *            the file charset
+     * @param message
+     *            the message if invalid
+     * @return the next step
+     */
+    public static StepAssertor<Path> find(final StepAssertor<Path> step, final Pattern pattern, final Charset charset,
+            final MessageAssertor message) {
+
+        final Predicate<Path> preChecker = (path) -> path != null && pattern != null && charset != null;
+
+        final BiPredicate<Path, Boolean> checker = (path, not) -> ChannelAssertor.of(path, charset).find(pattern);
+
+        return new StepAssertor<>(step, preChecker, checker, false, message, MSG.PATH.FIND, false,
+                new ParameterAssertor<>(pattern, EnumType.UNKNOWN));
+    }
+
+    /**
+     * Prepare the next step to validate if the file starts with the specified
+     * bytes (only the first bytes are read)
+     * 
+     * <p>
+     * precondition: {@link Path} cannot be {@code null}, {@code bytes} cannot
+     * be {@code null} or empty
+     * </p>
+     * 
+     * @param step
+     *            the current step
+     * @param bytes
+     *            the expected first bytes
+     * @param message
+     *            the message if invalid
+     * @return the next step
+     */
+    public static StepAssertor<Path> startsWith(final StepAssertor<Path> step, final byte[] bytes, final MessageAssertor message) {
+
+        final Predicate<Path> preChecker = (path) -> path != null && bytes != null && bytes.length > 0;
+
+        final BiPredicate<Path, Boolean> checker = (path, not) -> ChannelAssertor.startsWith(path, bytes);
+
+        return new StepAssertor<>(step, preChecker, checker, false, message, MSG.PATH.STARTS, false,
+                new ParameterAssertor<>(bytes != null ? Arrays.toString(bytes) : null, EnumType.CHAR_SEQUENCE));
+    }
+
+    /**
+     * Prepare the next step to validate if all the lines of the file match the
+     * predicate (a file without line is valid). The lines are split like
+     * {@link java.io.BufferedReader#readLine()}, the line passed to the
+     * predicate is reused (it cannot be kept).
+     * 
+     * <p>
+     * precondition: {@link Path}, {@code predicate} and {@code charset} cannot
+     * be {@code null}
+     * </p>
+     * 
+     * @param step
+     *            the current step
+     * @param predicate
+     *            the predicate used to check each line
+     * @param charset
+     *            the file charset
+     * @param message
+     *            the message on predicate failed
+     * @return the next step
+     */
+    public static StepAssertor<Path> allMatch(final StepAssertor<Path> step, final Predicate<CharSequence> predicate,
+            final Charset charset, final MessageAssertor message) {
+
+        final Predicate<Path> preChecker = (path) -> path != null && predicate != null && charset != null;
+
+        final BiPredicate<Path, Boolean> checker = (path, not) -> ChannelAssertor.of(path, charset).allLinesMatch(predicate);
+
+        return new StepAssertor<>(step, preChecker, checker, false, message, MSG.PATH.MATCH_ALL, false,
+                new ParameterAssertor<>(predicate, EnumType.UNKNOWN));
+    }
+}
@@ -0,0 +1,265 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick automaton, built once for a list of substrings (at step
+ * creation), to search all substrings in a single pass over the text. The
+ * text is read through {@link CharSequence#charAt(int)} without copy.
+ * 
+ * <p>
+ * The transitions of each node are stored in sorted arrays (the ASCII
+ * transitions of the root are indexed directly), the failure links are
+ * followed on mismatch. In case insensitive mode, the characters of the
+ * substrings and of the text are folded like
+ * {@link String#equalsIgnoreCase(String)}.
+ * </p>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+final class AutomatonAssertor {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+    private static final int ASCII = 128;
+
+    private final boolean ignoreCase;
+
+    // number of substrings (duplicates included)
+    private final int size;
+    // occurrences of each distinct substring
+    private final int[] weights;
+
+    private final int[] rootAscii;
+    private final char[][] keys;
+    private final int[][] children;
+    private final int[] failures;
+    // distinct substring ending on the node
+    private final int[] terminals;
+    // next node with a terminal through the failure links
+    private final int[] outputs;
+
+    private AutomatonAssertor(final CharSequence[] substrings, final boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+        this.size = substrings.length;
+
+        // trie
+        final List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        final List<Integer> terminals = new ArrayList<>();
+        final Map<Integer, Integer> weights = new HashMap<>();
+        trie.add(new TreeMap<>());
+        terminals.add(NONE);
+
+        int distinct = 0;
+        for (final CharSequence substring : substrings) {
+            int node = ROOT;
+            for (int i = 0; i < substring.length(); ++i) {
+                final char c = this.fold(substring.charAt(i));
+                Integer child = trie.get(node).get(c);
+                if (child == null) {
+                    child = trie.size();
+                    trie.get(node).put(c, child);
+                    trie.add(new TreeMap<>());
+                    terminals.add(NONE);
+                }
+                node = child;
+            }
+            if (terminals.get(node) == NONE) {
+                terminals.set(node, distinct++);
+            }
+            weights.merge(terminals.get(node), 1, Integer::sum);
+        }
+
+        final int nodes = trie.size();
+        this.keys = new char[nodes][];
+        this.children = new int[nodes][];
+        this.terminals = new int[nodes];
+        for (int node = 0; node < nodes; ++node) {
+            final TreeMap<Character, Integer> transitions = trie.get(node);
+            this.keys[node] = new char[transitions.size()];
+            this.children[node] = new int[transitions.size()];
+            int i = 0;
+            for (final Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+                this.keys[node][i] = transition.getKey();
+                this.children[node][i++] = transition.getValue();
+            }
+            this.terminals[node] = terminals.get(node);
+        }
+
+        this.weights = new int[distinct];
+        for (final Map.Entry<Integer, Integer> weight : weights.entrySet()) {
+            this.weights[weight.getKey()] = weight.getValue();
+        }
+
+        this.rootAscii = new int[ASCII];
+        Arrays.fill(this.rootAscii, ROOT);
+        for (int i = 0; i < this.keys[ROOT].length && this.keys[ROOT][i] < ASCII; ++i) {
+            this.rootAscii[this.keys[ROOT][i]] = this.children[ROOT][i];
+        }
+
+        // failure and output links (breadth first)
+        this.failures = new int[nodes];
+        this.outputs = new int[nodes];
+        this.outputs[ROOT] = NONE;
+
+        final Deque<Integer> queue = new ArrayDeque<>();
+        for (final int child : this.children[ROOT]) {
+            this.failures[child] = ROOT;
+            this.outputs[child] = NONE;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            final int node = queue.poll();
+            for (int i = 0; i < this.keys[node].length; ++i) {
+                final int child = this.children[node][i];
+                final int failure = this.next(this.failures[node], this.keys[node][i]);
+                this.failures[child] = failure;
+                this.outputs[child] = this.terminals[failure] != NONE ? failure : this.outputs[failure];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Builds the automaton
+     * 
+     * @param substrings
+     *            the substrings (not null, without null or empty element)
+     * @param ignoreCase
+     *            if case has to be ignored
+     * @return the automaton
+     */
+    static AutomatonAssertor of(final CharSequence[] substrings, final boolean ignoreCase) {
+        return new AutomatonAssertor(substrings, ignoreCase);
+    }
+
+    /**
+     * @return the number of substrings
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Checks if at least one substring is in the text (stops on the first
+     * match)
+     * 
+     * @param text
+     *            where to search (not null)
+     * @return true, if found
+     */
+    boolean isAnyIn(final CharSequence text) {
+        final int length = text.length();
+        int node = ROOT;
+        for (int i = 0; i < length; ++i) {
+            node = this.next(node, this.fold(text.charAt(i)));
+            if (this.terminals[node] != NONE || this.outputs[node] != NONE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Counts the substrings found in the text (duplicated substrings are
+     * counted for each occurrence in the list, stops when all are found)
+     * 
+     * @param text
+     *            where to search (not null)
+     * @return the number of found substrings
+     */
+    int countIn(final CharSequence text) {
+        final boolean[] found = new boolean[this.weights.length];
+        final int length = text.length();
+
+        int count = 0;
+        int node = ROOT;
+        int output;
+        for (int i = 0; i < length && count < this.size; ++i) {
+            node = this.next(node, this.fold(text.charAt(i)));
+
+            output = this.terminals[node] != NONE ? node : this.outputs[node];
+            while (output != NONE) {
+                final int terminal = this.terminals[output];
+                if (!found[terminal]) {
+                    found[terminal] = true;
+                    count += this.weights[terminal];
+                }
+                output = this.outputs[output];
+            }
+        }
+        return count;
+    }
+
+    private int next(final int node, final char c) {
+        int current = node;
+        int child;
+        while (true) {
+            if (current == ROOT && c < ASCII) {
+                return this.rootAscii[c];
+            }
+            child = this.child(current, c);
+            if (child != NONE) {
+                return child;
+            } else if (current == ROOT) {
+                return ROOT;
+            }
+            current = this.failures[current];
+        }
+    }
+
+    private int child(final int node, final char c) {
+        final char[] transitions = this.keys[node];
+        final int index;
+        if (transitions.length < 8) {
+            index = indexOf(transitions, c);
+        } else {
+            index = Arrays.binarySearch(transitions, c);
+        }
+        return index > -1 ? this.children[node][index] : NONE;
+    }
+
+    private static int indexOf(final char[] transitions, final char c) {
+        for (int i = 0; i < transitions.length; ++i) {
+            if (transitions[i] == c) {
+                return i;
+            }
+        }
+        return NONE;
+    }
+
+    private char fold(final char c) {
+        if (this.ignoreCase) {
+            return Character.toLowerCase(Character.toUpperCase(c));
+        }
+        return c;
+    }
+}
@@ -0,0 +1,321 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * File content reader, the file is never loaded in memory:
+ * <ul>
+ * <li>the file is read by chunks through a {@link FileChannel} into a direct
+ * {@link ByteBuffer} (one buffer is kept per thread and reused),</li>
+ * <li>each chunk is decoded into a reused {@link CharBuffer} (malformed input
+ * and unmappable characters are replaced, like
+ * {@link String#String(byte[], Charset)}),</li>
+ * <li>the scan stops as soon as the result is known.</li>
+ * </ul>
+ * 
+ * <p>
+ * The lines are split like {@link java.io.BufferedReader#readLine()} ({@code \n},
+ * {@code \r} or {@code \r\n}), the line passed to the predicates and the
+ * matchers is reused (it cannot be kept after the call). A line longer than
+ * {@link #MAX_LINE_LENGTH} characters isn't buffered, an
+ * {@link IllegalStateException} is thrown (the checker evaluates to false).
+ * </p>
+ * 
+ * <p>
+ * I/O errors are thrown as {@link UncheckedIOException} (the checker
+ * evaluates to false).
+ * </p>
+ * 
+ * <p>
+ * The buffers are flipped and positioned through {@link Buffer}: built on
+ * Java 9+, the {@link ByteBuffer} and {@link CharBuffer} overrides don't
+ * exist on a Java 8 runtime.
+ * </p>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+final class ChannelAssertor {
+
+    /**
+     * Maximum length of a line (in chars), a longer line fails the line checks
+     */
+    static final int MAX_LINE_LENGTH = 1 << 20; // 1 M chars
+
+    private static final int READ_SIZE = 1 << 16; // 64 KB
+    private static final int BUFFER_SIZE = 1 << 13; // 8 K chars
+
+    /**
+     * The direct buffer of the current thread (empty while it's used, a scan
+     * started during another one on the same thread allocates its own buffer)
+     */
+    private static final ThreadLocal<ByteBuffer[]> BYTES = ThreadLocal.withInitial(() -> new ByteBuffer[1]);
+
+    private final Path path;
+    private final Charset charset;
+    private final int readSize;
+    private final int bufferSize;
+    private final int maxLineLength;
+
+    private ChannelAssertor(final Path path, final Charset charset, final int readSize, final int bufferSize, final int maxLineLength) {
+        this.path = path;
+        this.charset = charset;
+        this.readSize = readSize;
+        this.bufferSize = bufferSize;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * Prepares the reader
+     * 
+     * @param path
+     *            the file path (not null)
+     * @param charset
+     *            the file charset (not null)
+     * @return the reader
+     */
+    static ChannelAssertor of(final Path path, final Charset charset) {
+        return new ChannelAssertor(path, charset, READ_SIZE, BUFFER_SIZE, MAX_LINE_LENGTH);
+    }
+
+    /**
+     * Prepares the reader with specific sizes (to check the boundaries)
+     * 
+     * @param path
+     *            the file path (not null)
+     * @param charset
+     *            the file charset (not null)
+     * @param readSize
+     *            the number of bytes read at once (at most
+     *            {@link #READ_SIZE})
+     * @param bufferSize
+     *            the size of the decoded chunks (in chars)
+     * @param maxLineLength
+     *            the maximum length of a line (in chars)
+     * @return the reader
+     */
+    static ChannelAssertor of(final Path path, final Charset charset, final int readSize, final int bufferSize,
+            final int maxLineLength) {
+        return new ChannelAssertor(path, charset, Math.min(readSize, READ_SIZE), bufferSize, maxLineLength);
+    }
+
+    /**
+     * Checks if the file starts with the bytes (only the first bytes are
+     * read)
+     * 
+     * @param path
+     *            the file path (not null)
+     * @param bytes
+     *            the expected bytes (not null)
+     * @return true, if the file starts with the bytes
+     */
+    static boolean startsWith(final Path path, final byte[] bytes) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < bytes.length) {
+                return false;
+            }
+
+            final ByteBuffer buffer = ByteBuffer.allocate(bytes.length);
+            while (buffer.hasRemaining() && channel.read(buffer) > -1) {
+                // read until the buffer is full
+            }
+            if (buffer.hasRemaining()) {
+                return false;
+            }
+            ((Buffer) buffer).flip();
+            return buffer.equals(ByteBuffer.wrap(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Searches the substring in the file content (the end of each chunk is
+     * kept to find the substrings across two chunks)
+     * 
+     * @param search
+     *            the prepared search
+     * @return true, if found
+     */
+    boolean contains(final SubstringAssertor search) {
+        final int overlap = search.getNeedle().length() - 1;
+
+        return this.scan(Math.max(this.bufferSize, overlap << 1), (chars, last) -> {
+            if (search.isIn(chars)) {
+                return true;
+            }
+            ((Buffer) chars).position(chars.limit() - Math.min(overlap, chars.remaining()));
+            return false;
+        });
+    }
+
+    /**
+     * Searches the pattern line by line (a match cannot span several lines)
+     * 
+     * @param pattern
+     *            the pattern
+     * @return true, if a line contains a matching sequence
+     */
+    boolean find(final Pattern pattern) {
+        final Matcher matcher = pattern.matcher("");
+        return this.anyLine(line -> matcher.reset(line).find());
+    }
+
+    /**
+     * Checks if all lines match the predicate
+     * 
+     * @param predicate
+     *            the predicate (the line is reused)
+     * @return true, if all lines match (or if the file has no line)
+     */
+    boolean allLinesMatch(final Predicate<CharSequence> predicate) {
+        return !this.anyLine(predicate.negate());
+    }
+
+    private boolean anyLine(final Predicate<CharSequence> predicate) {
+        final StringBuilder line = new StringBuilder();
+        final boolean[] state = new boolean[2]; // pending line, previous CR
+
+        return this.scan(this.bufferSize, (chars, last) -> {
+            char c;
+            while (chars.hasRemaining()) {
+                c = chars.get();
+                if (c == '\n' && state[1]) {
+                    state[1] = false;
+                } else if (c == '\n' || c == '\r') {
+                    state[0] = false;
+                    state[1] = c == '\r';
+                    if (predicate.test(line)) {
+                        return true;
+                    }
+                    line.setLength(0);
+                } else if (line.length() < this.maxLineLength) {
+                    state[0] = true;
+                    state[1] = false;
+                    line.append(c);
+                } else {
+                    throw new IllegalStateException("Line longer than " + this.maxLineLength + " characters in " + this.path);
+                }
+            }
+            return last && state[0] && predicate.test(line);
+        });
+    }
+
+    /**
+     * Decodes the file by chunks
+     * 
+     * @param capacity
+     *            the chunk capacity
+     * @param scanner
+     *            the chunk scanner
+     * @return true, if the scanner has stopped the reading
+     */
+    private boolean scan(final int capacity, final Scanner scanner) {
+        final CharsetDecoder decoder = this.charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        final CharBuffer chars = CharBuffer.allocate(capacity);
+
+        final ByteBuffer[] current = BYTES.get();
+        final ByteBuffer bytes = current[0] != null ? current[0] : ByteBuffer.allocateDirect(READ_SIZE);
+        current[0] = null;
+        ((Buffer) bytes).clear();
+
+        try (FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+            boolean endOfInput = false;
+            CoderResult result;
+            while (!endOfInput) {
+                // the bytes of an incomplete character are kept for the next
+                // read
+                ((Buffer) bytes).limit(Math.max(this.readSize, bytes.position() + 1));
+                endOfInput = channel.read(bytes) < 0;
+
+                ((Buffer) bytes).flip();
+                do {
+                    result = decoder.decode(bytes, chars, endOfInput);
+                    if (scan(chars, scanner, false)) {
+                        return true;
+                    }
+                } while (result.isOverflow());
+                bytes.compact();
+            }
+
+            do {
+                result = decoder.flush(chars);
+                if (result.isOverflow() && scan(chars, scanner, false)) {
+                    return true;
+                }
+            } while (result.isOverflow());
+
+            ((Buffer) chars).flip();
+            return scanner.scan(chars, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            current[0] = bytes;
+        }
+    }
+
+    private static boolean scan(final CharBuffer chars, final Scanner scanner, final boolean last) {
+        ((Buffer) chars).flip();
+        final boolean stop = scanner.scan(chars, last);
+        chars.compact();
+        return stop;
+    }
+
+    /**
+     * Decoded chunk scanner
+     *
+     * @since Oct 18, 2026
+     * @author Gilles
+     *
+     */
+    @FunctionalInterface
+    private interface Scanner {
+
+        /**
+         * Scans the chunk, the remaining characters are kept at the start of
+         * the next chunk
+         * 
+         * @param chars
+         *            the decoded characters
+         * @param last
+         *            true, if it's the last chunk
+         * @return true, to stop the reading
+         */
+        boolean scan(CharBuffer chars, boolean last);
+    }
+}
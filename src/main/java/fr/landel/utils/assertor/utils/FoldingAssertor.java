@@ -0,0 +1,161 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.utils;
+
+/**
+ * Case insensitive comparison prepared once for an expected sequence (at step
+ * creation). The expected sequence is stored as folded code points, and the
+ * text is read through {@link CharSequence#charAt(int)} without copy (a
+ * {@link StringBuilder} is never converted into a {@link String}).
+ * 
+ * <p>
+ * The folding follows {@link String#equalsIgnoreCase(String)}: two code
+ * points are equal if their upper cases or the lower cases of their upper
+ * cases are equal (supplementary code points are read as pairs).
+ * </p>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+final class FoldingAssertor {
+
+    private static final int ASCII_LIMIT = 0x80;
+
+    private final int[] folded;
+
+    private FoldingAssertor(final CharSequence expected) {
+        final int length = expected.length();
+        final int[] codePoints = new int[length];
+
+        int count = 0;
+        int codePoint;
+        for (int i = 0; i < length; i += Character.charCount(codePoint)) {
+            codePoint = Character.codePointAt(expected, i);
+            codePoints[count++] = fold(codePoint);
+        }
+
+        if (count < length) {
+            this.folded = new int[count];
+            System.arraycopy(codePoints, 0, this.folded, 0, count);
+        } else {
+            this.folded = codePoints;
+        }
+    }
+
+    /**
+     * Prepares the comparison
+     * 
+     * @param expected
+     *            the expected sequence (not null)
+     * @return the comparison
+     */
+    static FoldingAssertor of(final CharSequence expected) {
+        return new FoldingAssertor(expected);
+    }
+
+    /**
+     * Checks if the text starts with the expected sequence
+     * 
+     * @param text
+     *            the text (not null)
+     * @return true, if the text starts with it
+     */
+    boolean isPrefixOf(final CharSequence text) {
+        return this.matchesFrom(text) > -1;
+    }
+
+    /**
+     * Checks if the text is equal to the expected sequence
+     * 
+     * @param text
+     *            the text (not null)
+     * @return true, if equal
+     */
+    boolean isEqualTo(final CharSequence text) {
+        return this.matchesFrom(text) == text.length();
+    }
+
+    /**
+     * Checks if the text ends with the expected sequence (the text is read
+     * backward)
+     * 
+     * @param text
+     *            the text (not null)
+     * @return true, if the text ends with it
+     */
+    boolean isSuffixOf(final CharSequence text) {
+        int index = text.length();
+        int codePoint;
+        for (int i = this.folded.length - 1; i >= 0; --i) {
+            if (index == 0) {
+                return false;
+            }
+            codePoint = Character.codePointBefore(text, index);
+            index -= Character.charCount(codePoint);
+            if (fold(codePoint) != this.folded[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares the start of the text
+     * 
+     * @param text
+     *            the text
+     * @return the end index of the matching region, or -1
+     */
+    private int matchesFrom(final CharSequence text) {
+        final int length = text.length();
+
+        int index = 0;
+        int codePoint;
+        for (int i = 0; i < this.folded.length; ++i) {
+            if (index == length) {
+                return -1;
+            }
+            codePoint = Character.codePointAt(text, index);
+            index += Character.charCount(codePoint);
+            if (fold(codePoint) != this.folded[i]) {
+                return -1;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Folds the code point (lower case of its upper case)
+     * 
+     * @param codePoint
+     *            the code point
+     * @return the folded code point
+     */
+    static int fold(final int codePoint) {
+        if (codePoint < ASCII_LIMIT) {
+            if (codePoint >= 'A' && codePoint <= 'Z') {
+                return codePoint + ('a' - 'A');
+            }
+            return codePoint;
+        }
+        return Character.toLowerCase(Character.toUpperCase(codePoint));
+    }
+}
@@ -0,0 +1,212 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.utils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.BiPredicate;
+import java.util.stream.IntStream;
+
+import org.apache.commons.collections4.IterableUtils;
+import org.apache.commons.lang3.ArrayUtils;
+
+/**
+ * In order search of values (contiguous sequence) prepared once at step
+ * creation, based on Knuth-Morris-Pratt: the failure table of the values is
+ * computed once, the checked elements are read in one forward pass (no
+ * backtracking, overlapping prefixes are found).
+ * 
+ * <p>
+ * In parallel mode, large {@link RandomAccess} lists are split in chunks (each
+ * chunk overlaps the next one by the number of values minus one, so a match
+ * across two chunks is found).
+ * </p>
+ * 
+ * <p>
+ * The values are compared between them with {@link Objects#equals}, the
+ * matcher has to be consistent with it.
+ * </p>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ * @param <E>
+ *            the checked elements type
+ * @param <T>
+ *            the values type
+ */
+final class InOrderAssertor<E, T> {
+
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+    private static final int CHUNK_SIZE = 1 << 12;
+
+    private final List<T> values;
+    private final int[] failures;
+    private final BiPredicate<? super E, ? super T> matcher;
+
+    private InOrderAssertor(final List<T> values, final BiPredicate<? super E, ? super T> matcher) {
+        this.values = values;
+        this.matcher = matcher;
+
+        // failures[i]: length of the longest proper prefix of values[0..i]
+        // which is also a suffix
+        final int size = values.size();
+        this.failures = new int[size];
+        for (int i = 1, k = 0; i < size; ++i) {
+            while (k > 0 && !Objects.equals(values.get(i), values.get(k))) {
+                k = this.failures[k - 1];
+            }
+            if (Objects.equals(values.get(i), values.get(k))) {
+                ++k;
+            }
+            this.failures[i] = k;
+        }
+    }
+
+    /**
+     * Prepares the search (elements and values are compared with
+     * {@link Objects#equals})
+     * 
+     * @param values
+     *            the values to find
+     * @param <T>
+     *            the elements and values type
+     * @return the search or {@code null} if there is no value
+     */
+    static <T> InOrderAssertor<T, T> of(final Iterable<T> values) {
+        return of(values, Objects::equals);
+    }
+
+    /**
+     * Prepares the search (elements and values are compared with
+     * {@link Objects#equals})
+     * 
+     * @param values
+     *            the values to find
+     * @param <T>
+     *            the elements and values type
+     * @return the search or {@code null} if there is no value
+     */
+    static <T> InOrderAssertor<T, T> of(final T[] values) {
+        if (ArrayUtils.isEmpty(values)) {
+            return null;
+        }
+        return of(Arrays.asList(values));
+    }
+
+    /**
+     * Prepares the search
+     * 
+     * @param values
+     *            the values to find
+     * @param matcher
+     *            the function to compare a checked element with a value
+     * @param <E>
+     *            the checked elements type
+     * @param <T>
+     *            the values type
+     * @return the search or {@code null} if there is no value
+     */
+    static <E, T> InOrderAssertor<E, T> of(final Iterable<T> values, final BiPredicate<? super E, ? super T> matcher) {
+        if (IterableUtils.isEmpty(values)) {
+            return null;
+        }
+        return new InOrderAssertor<>(IterableUtils.toList(values), matcher);
+    }
+
+    /**
+     * Checks if all values are in the elements in the same order (without
+     * other element between them)
+     * 
+     * @param elements
+     *            the checked elements (not null)
+     * @param parallel
+     *            if large {@link RandomAccess} lists can be checked in
+     *            parallel
+     * @return true, if found
+     */
+    boolean isIn(final Iterable<? extends E> elements, final boolean parallel) {
+        final int size = this.values.size();
+
+        if (elements instanceof Collection) {
+            final int sizeElements = ((Collection<?>) elements).size();
+            if (sizeElements < size) {
+                return false;
+            } else if (parallel && sizeElements >= PARALLEL_THRESHOLD && elements instanceof List && elements instanceof RandomAccess) {
+                return this.isInParallel((List<? extends E>) elements);
+            }
+        }
+
+        int k = 0;
+        for (final E element : elements) {
+            k = this.next(k, element);
+            if (k == size) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isInParallel(final List<? extends E> elements) {
+        final int size = this.values.size();
+        final int sizeElements = elements.size();
+        final int chunkSize = Math.max(CHUNK_SIZE, size);
+
+        // each chunk checks the matches starting in it
+        final int chunks = (sizeElements - size) / chunkSize + 1;
+
+        return IntStream.range(0, chunks).parallel().anyMatch(chunk -> {
+            final int start = chunk * chunkSize;
+            final int end = Math.min(sizeElements, start + chunkSize + size - 1);
+
+            int k = 0;
+            for (int i = start; i < end; ++i) {
+                k = this.next(k, elements.get(i));
+                if (k == size) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Reads the next element
+     * 
+     * @param matched
+     *            the number of values already matched
+     * @param element
+     *            the element
+     * @return the number of values matched after the element
+     */
+    private int next(final int matched, final E element) {
+        int k = matched;
+        while (!this.matcher.test(element, this.values.get(k))) {
+            if (k == 0) {
+                return 0;
+            }
+            k = this.failures[k - 1];
+        }
+        return k + 1;
+    }
+}
@@ -0,0 +1,162 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.utils;
+
+import java.util.Arrays;
+
+/**
+ * Substring search prepared once for a needle (at step creation), the text is
+ * read through {@link CharSequence#charAt(int)} without copy:
+ * <ul>
+ * <li>{@link String} and {@link StringBuilder} texts use their own
+ * {@code indexOf},</li>
+ * <li>a single character is searched by a simple scan,</li>
+ * <li>other needles are searched with Boyer-Moore-Horspool (the skip table is
+ * indexed by the low byte of the characters, colliding characters keep the
+ * shortest shift).</li>
+ * </ul>
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+final class SubstringAssertor {
+
+    private static final int TABLE_SIZE = 256;
+    private static final int TABLE_MASK = TABLE_SIZE - 1;
+
+    private final String needle;
+    private final char[] chars;
+    private final int[] skips;
+
+    private SubstringAssertor(final String needle) {
+        this.needle = needle;
+        this.chars = needle.toCharArray();
+
+        final int length = this.chars.length;
+        if (length > 1) {
+            this.skips = new int[TABLE_SIZE];
+            Arrays.fill(this.skips, length);
+            for (int i = 0; i < length - 1; ++i) {
+                this.skips[this.chars[i] & TABLE_MASK] = length - 1 - i;
+            }
+        } else {
+            this.skips = null;
+        }
+    }
+
+    /**
+     * Prepares the search
+     * 
+     * @param needle
+     *            the sequence to search (not null)
+     * @return the search
+     */
+    static SubstringAssertor of(final CharSequence needle) {
+        return new SubstringAssertor(needle.toString());
+    }
+
+    /**
+     * @return the searched sequence
+     */
+    String getNeedle() {
+        return this.needle;
+    }
+
+    /**
+     * Checks if the needle is in the text
+     * 
+     * @param text
+     *            where to search (not null)
+     * @return true, if found
+     */
+    boolean isIn(final CharSequence text) {
+        return this.indexIn(text) > -1;
+    }
+
+    /**
+     * Searches the first index of the needle in the text
+     * 
+     * @param text
+     *            where to search (not null)
+     * @return the index or -1 if not found
+     */
+    int indexIn(final CharSequence text) {
+        final int length = this.chars.length;
+        final int textLength = text.length();
+
+        if (text instanceof String) {
+            return ((String) text).indexOf(this.needle);
+        } else if (text instanceof StringBuilder) {
+            return ((StringBuilder) text).indexOf(this.needle);
+        } else if (length == 0) {
+            return 0;
+        } else if (length > textLength) {
+            return -1;
+        } else if (length == 1) {
+            return indexOf(text, this.chars[0]);
+        }
+
+        final int last = length - 1;
+        final char lastChar = this.chars[last];
+        final int end = textLength - length;
+
+        char c;
+        int j;
+        int i = 0;
+        while (i <= end) {
+            c = text.charAt(i + last);
+            if (c == lastChar) {
+                j = last - 1;
+                while (j >= 0 && text.charAt(i + j) == this.chars[j]) {
+                    --j;
+                }
+                if (j < 0) {
+                    return i;
+                }
+            }
+            i += this.skips[c & TABLE_MASK];
+        }
+        return -1;
+    }
+
+    /**
+     * Searches the first index of the character in the text
+     * 
+     * @param text
+     *            where to search (not null)
+     * @param character
+     *            the character to search
+     * @return the index or -1 if not found
+     */
+    static int indexOf(final CharSequence text, final char character) {
+        if (text instanceof String) {
+            return ((String) text).indexOf(character);
+        }
+
+        final int length = text.length();
+        for (int i = 0; i < length; ++i) {
+            if (text.charAt(i) == character) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
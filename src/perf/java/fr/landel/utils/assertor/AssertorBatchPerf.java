@@ -0,0 +1,105 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import fr.landel.utils.assertor.commons.ValidationAssertor;
+import fr.landel.utils.assertor.predicate.PredicateStepCharSequence;
+
+/**
+ * Compares the validation of a batch of objects, one by one through the
+ * predicate end steps, in bulk through
+ * {@link PredicateStepCharSequence#validateAll(Iterable, int)} and in parallel
+ * through fork/join tasks.
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssertorBatchPerf {
+
+	@Param({"1000", "100000"})
+	private int size;
+
+	private List<String> values;
+	private PredicateStepCharSequence<String> predicate;
+
+	/**
+	 * Prepares the values (one invalid value out of ten)
+	 */
+	@Setup
+	public void setUp() {
+		this.values = new ArrayList<>(this.size);
+		for (int i = 0; i < this.size; ++i) {
+			this.values.add(i % 10 == 0 ? "" : "text" + i);
+		}
+		this.predicate = Assertor.ofString().isNotEmpty().and().startsWith("te").and().not().hasLengthGT(20);
+	}
+
+	/**
+	 * Perf method, checks the values one by one.
+	 * 
+	 * @return the number of failures
+	 */
+	@Benchmark
+	public int thatLoop() {
+		int failures = 0;
+		for (String value : this.values) {
+			if (!this.predicate.that(value).isOK()) {
+				++failures;
+			}
+		}
+		return failures;
+	}
+
+	/**
+	 * Perf method for
+	 * {@link PredicateStepCharSequence#validateAll(Iterable, int)}.
+	 * 
+	 * @return the bulk result
+	 */
+	@Benchmark
+	public ValidationAssertor validateAll() {
+		return this.predicate.validateAll(this.values, 10);
+	}
+
+	/**
+	 * Perf method for
+	 * {@link PredicateStepCharSequence#validateAll(List, java.util.concurrent.ForkJoinPool, int, int)}
+	 * (common pool, chunk size computed from the parallelism).
+	 * 
+	 * @return the bulk result
+	 */
+	@Benchmark
+	public ValidationAssertor validateAllParallel() {
+		return this.predicate.validateAll(this.values, null, 0, 10);
+	}
+}
@@ -22,12 +22,17 @@ package fr.landel.utils.assertor;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
 
+import fr.landel.utils.assertor.helper.HelperAssertor;
 import fr.landel.utils.assertor.memory.MemoryTest;
 
 /**
- * Checks assertor performance
+ * Checks assertor performance. The combine benchmarks run on prepared steps,
+ * use the GC profiler ({@code -prof gc}) to check the allocations of the
+ * combine function.
  *
  * @since Aug 8, 2016
  * @author Gilles
@@ -37,6 +42,29 @@ import fr.landel.utils.assertor.memory.MemoryTest;
 @State(Scope.Benchmark)
 public class AssertorCombiningPerf {
 
+	private StepAssertor<?>[] steps;
+
+	/**
+	 * Prepares the steps of {@link #assertorCombiningPerf()}
+	 */
+	@Setup
+	public void setUp() {
+		this.steps = new StepAssertor<?>[] {
+				Assertor.that(MemoryTest.class).isAssignableFrom(AbstractTest.class).or().isNull().getStep(),
+
+				Assertor.that("text").contains("ex").and().endsWithIgnoreCase("T").getStep(),
+				Assertor.that("text").contains("ex").or().endsWithIgnoreCase("E").getStep(),
+				Assertor.that("text").contains("ex").xor().endsWithIgnoreCase("X").getStep(),
+
+				Assertor.that("text").contains("ex").and(12.3f).isGT(10.25f).getStep(),
+				Assertor.that("text").contains("ex").or(12.3f).isGT(10.25f).getStep(),
+				Assertor.that("text").contains("ex").xor(12.3f).isGT(13.25f).getStep(),
+
+				Assertor.that("text").contains("ex").and(Assertor.that(12.3f).isNotNull().and().isGT(10.25f)).getStep(),
+				Assertor.that("text").contains("ex").or(Assertor.that(12.3f).isNull().and().isGT(10.25f)).getStep(),
+				Assertor.that("text").contains("ex").xor(Assertor.that(12.3f).isNotNull().and().isGT(13.25f)).getStep() };
+	}
+
 //    @Override
 //    protected double getExpectedMinNbOpsPerSeconds() {
 //        return 10_000d;
@@ -61,4 +89,32 @@ public class AssertorCombiningPerf {
 		Assertor.that("text").contains("ex").or(Assertor.that(12.3f).isNull().and().isGT(10.25f)).isOK();
 		Assertor.that("text").contains("ex").xor(Assertor.that(12.3f).isNotNull().and().isGT(13.25f)).isOK();
 	}
+
+	/**
+	 * Perf method for {@link HelperAssertor#combine(StepAssertor, boolean)}
+	 * without message.
+	 * 
+	 * @param blackhole
+	 *            the JMH black hole
+	 */
+	@Benchmark
+	public void combinePerf(final Blackhole blackhole) {
+		for (StepAssertor<?> step : this.steps) {
+			blackhole.consume(HelperAssertor.combine(step, false));
+		}
+	}
+
+	/**
+	 * Perf method for {@link HelperAssertor#combine(StepAssertor, boolean)}
+	 * with message.
+	 * 
+	 * @param blackhole
+	 *            the JMH black hole
+	 */
+	@Benchmark
+	public void combineWithMessagePerf(final Blackhole blackhole) {
+		for (StepAssertor<?> step : this.steps) {
+			blackhole.consume(HelperAssertor.combine(step, true));
+		}
+	}
 }
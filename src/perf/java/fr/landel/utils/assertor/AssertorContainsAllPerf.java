@@ -0,0 +1,119 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import fr.landel.utils.assertor.enums.EnumAnalysisMode;
+
+/**
+ * Checks {@code containsAll} and {@code containsAny} of 100k values in 1M
+ * elements (the checked iterable is indexed once)
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssertorContainsAllPerf {
+
+    private static final int SIZE = 1_000_000;
+    private static final int SIZE_VALUES = 100_000;
+
+    private List<Integer> list;
+    private Set<Integer> set;
+    private List<Integer> values;
+    private List<Integer> missing;
+
+    /**
+     * Prepares the shuffled elements, values picked among them and values
+     * not in them
+     */
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+
+        this.list = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; ++i) {
+            this.list.add(i);
+        }
+        Collections.shuffle(this.list, random);
+        this.set = new HashSet<>(this.list);
+
+        this.values = new ArrayList<>(SIZE_VALUES);
+        this.missing = new ArrayList<>(SIZE_VALUES);
+        for (int i = 0; i < SIZE_VALUES; ++i) {
+            this.values.add(random.nextInt(SIZE));
+            this.missing.add(SIZE + i);
+        }
+    }
+
+    /**
+     * Perf method for {@code containsAll} on a list
+     * 
+     * @return the result
+     */
+    @Benchmark
+    public boolean containsAll() {
+        return Assertor.that(this.list).containsAll(this.values).isOK();
+    }
+
+    /**
+     * Perf method for {@code containsAll} on a list (parallel mode)
+     * 
+     * @return the result
+     */
+    @Benchmark
+    public boolean containsAllParallel() {
+        return Assertor.that(this.list, EnumAnalysisMode.PARALLEL).containsAll(this.values).isOK();
+    }
+
+    /**
+     * Perf method for {@code containsAll} on a hash set (used as is)
+     * 
+     * @return the result
+     */
+    @Benchmark
+    public boolean containsAllSet() {
+        return Assertor.that(this.set).containsAll(this.values).isOK();
+    }
+
+    /**
+     * Perf method for {@code containsAny} on a list (none found)
+     * 
+     * @return the result
+     */
+    @Benchmark
+    public boolean containsAny() {
+        return Assertor.that(this.list).containsAny(this.missing).isOK();
+    }
+}
@@ -0,0 +1,154 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import fr.landel.utils.assertor.predicate.PredicateStepCharSequence;
+import fr.landel.utils.assertor.predicate.PredicateValidator;
+
+/**
+ * Checks multi substrings search performance (by number of substrings)
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssertorContainsAnyPerf {
+
+    @Param({"10", "100", "2000"})
+    private int count;
+
+    private String text;
+    private CharSequence[] tokens;
+    private PredicateValidator<String> containsNone;
+    private PredicateValidator<String> containsNoneIgnoreCase;
+    private PredicateValidator<String> containsAny;
+    private PredicateValidator<String> containsOrChain;
+
+    /**
+     * Prepares the text (16 KB without token) and the compiled steps
+     */
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+
+        this.tokens = new CharSequence[this.count];
+        for (int i = 0; i < this.count; ++i) {
+            this.tokens[i] = "token" + i + "_" + (char) ('a' + random.nextInt(26));
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        while (sb.length() < 16_384) {
+            sb.append((char) ('a' + random.nextInt(26)));
+            if (random.nextInt(8) == 0) {
+                sb.append(' ');
+            }
+        }
+        this.text = sb.toString();
+
+        this.containsNone = Assertor.<String> ofCharSequence().containsNone(this.tokens).compile();
+        this.containsNoneIgnoreCase = Assertor.<String> ofCharSequence().containsNoneIgnoreCase(this.tokens).compile();
+        this.containsAny = Assertor.<String> ofCharSequence().containsAny(this.tokens).compile();
+
+        PredicateStepCharSequence<String> chain = Assertor.<String> ofCharSequence().contains(this.tokens[0]);
+        for (int i = 1; i < this.count; ++i) {
+            chain = chain.or().contains(this.tokens[i]);
+        }
+        this.containsOrChain = chain.compile();
+    }
+
+    /**
+     * Perf method for {@code containsNone} (automaton built once)
+     * 
+     * @return the result
+     */
+    @Benchmark
+    public boolean containsNone() {
+        return this.containsNone.test(this.text);
+    }
+
+    /**
+     * Perf method for {@code containsNoneIgnoreCase} (automaton built once)
+     * 
+     * @return the result
+     */
+    @Benchmark
+    public boolean containsNoneIgnoreCase() {
+        return this.containsNoneIgnoreCase.test(this.text);
+    }
+
+    /**
+     * Perf method for {@code containsNone} with the step creation (automaton
+     * built on each call)
+     * 
+     * @return the result
+     */
+    @Benchmark
+    public boolean containsNoneDynamic() {
+        return Assertor.that(this.text).containsNone(this.tokens).isOK();
+    }
+
+    /**
+     * Perf method for {@code containsAny} (automaton built once)
+     * 
+     * @return the result
+     */
+    @Benchmark
+    public boolean containsAny() {
+        return this.containsAny.test(this.text);
+    }
+
+    /**
+     * Reference: {@code contains(...).or().contains(...)} chain (compiled
+     * once), the text is scanned for each substring
+     * 
+     * @return the result
+     */
+    @Benchmark
+    public boolean containsOrChain() {
+        return this.containsOrChain.test(this.text);
+    }
+
+    /**
+     * Reference: one {@code contains} by substring, the text is scanned for
+     * each substring
+     * 
+     * @return the result
+     */
+    @Benchmark
+    public boolean containsLoop() {
+        for (final CharSequence token : this.tokens) {
+            if (Assertor.that(this.text).contains(token).isOK()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
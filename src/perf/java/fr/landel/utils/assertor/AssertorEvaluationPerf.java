@@ -0,0 +1,104 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor;
+
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import fr.landel.utils.assertor.helper.HelperEnd;
+
+/**
+ * Checks the allocations of the boolean evaluation path. The steps are
+ * prepared once, so only the evaluation is measured. Run with the GC profiler
+ * ({@code -prof gc}), the normalized allocation rate
+ * ({@code gc.alloc.rate.norm}) is expected to be 0 B/op.
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssertorEvaluationPerf {
+
+	private static final String TEXT = "text";
+
+	private StepAssertor<String> step;
+	private StepAssertor<String> stepSub;
+	private StepAssertor<String> stepPredicate;
+	private Predicate<String> predicate;
+
+	/**
+	 * Prepares the steps
+	 */
+	@Setup
+	public void setUp() {
+		this.step = Assertor.that(TEXT).isNotEmpty().and().hasLengthGT(2).or().isBlank().getStep();
+		this.stepSub = Assertor.that(TEXT).isNotBlank()
+				.and(Assertor.that(TEXT).hasLength(4).or().isEmpty()).getStep();
+		this.stepPredicate = Assertor.ofString().isNotEmpty().and().not().hasLengthLT(2).getStep();
+		this.predicate = Assertor.ofString().isNotEmpty().and().not().hasLengthLT(2).asPredicate();
+	}
+
+	/**
+	 * Perf method for {@link HelperEnd#isOK(StepAssertor)}.
+	 * 
+	 * @return the result
+	 */
+	@Benchmark
+	public boolean isOK() {
+		return HelperEnd.isOK(this.step);
+	}
+
+	/**
+	 * Perf method for {@link HelperEnd#isOK(StepAssertor)} with sub step.
+	 * 
+	 * @return the result
+	 */
+	@Benchmark
+	public boolean isOKSub() {
+		return HelperEnd.isOK(this.stepSub);
+	}
+
+	/**
+	 * Perf method for {@link HelperEnd#isOK(StepAssertor, Object)}.
+	 * 
+	 * @return the result
+	 */
+	@Benchmark
+	public boolean isOKPredicate() {
+		return HelperEnd.isOK(this.stepPredicate, TEXT);
+	}
+
+	/**
+	 * Perf method for {@link fr.landel.utils.assertor.predicate.PredicateStep#asPredicate()}.
+	 * 
+	 * @return the result
+	 */
+	@Benchmark
+	public boolean asPredicate() {
+		return this.predicate.test(TEXT);
+	}
+}
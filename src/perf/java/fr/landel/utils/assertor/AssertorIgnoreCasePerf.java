@@ -0,0 +1,106 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import fr.landel.utils.assertor.predicate.PredicateValidator;
+
+/**
+ * Checks case insensitive comparisons on HTTP header like values (the
+ * expected values are folded once by the compiled steps)
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssertorIgnoreCasePerf {
+
+    private StringBuilder header;
+    private StringBuilder large;
+    private PredicateValidator<StringBuilder> startsWith;
+    private PredicateValidator<StringBuilder> endsWith;
+    private PredicateValidator<StringBuilder> isEqual;
+
+    /**
+     * Prepares the values and the compiled steps
+     */
+    @Setup
+    public void setup() {
+        this.header = new StringBuilder("Content-Type: Application/JSON; Charset=UTF-8");
+
+        this.large = new StringBuilder(this.header);
+        while (this.large.length() < 65_536) {
+            this.large.append("; Param=Value");
+        }
+
+        this.startsWith = Assertor.<StringBuilder> ofCharSequence().startsWithIgnoreCase("content-type:").compile();
+        this.endsWith = Assertor.<StringBuilder> ofCharSequence().endsWithIgnoreCase("charset=utf-8").compile();
+        this.isEqual = Assertor.<StringBuilder> ofCharSequence().isEqualIgnoreCase("content-type: application/json; charset=utf-8")
+                .compile();
+    }
+
+    /**
+     * Perf method for {@code startsWithIgnoreCase}
+     * 
+     * @return the result
+     */
+    @Benchmark
+    public boolean startsWithIgnoreCase() {
+        return this.startsWith.test(this.header);
+    }
+
+    /**
+     * Perf method for {@code endsWithIgnoreCase}
+     * 
+     * @return the result
+     */
+    @Benchmark
+    public boolean endsWithIgnoreCase() {
+        return this.endsWith.test(this.header);
+    }
+
+    /**
+     * Perf method for {@code isEqualIgnoreCase}
+     * 
+     * @return the result
+     */
+    @Benchmark
+    public boolean isEqualIgnoreCase() {
+        return this.isEqual.test(this.header);
+    }
+
+    /**
+     * Perf method for {@code startsWithIgnoreCase} on a large builder (only
+     * the prefix is read)
+     * 
+     * @return the result
+     */
+    @Benchmark
+    public boolean startsWithIgnoreCaseLarge() {
+        return this.startsWith.test(this.large);
+    }
+}
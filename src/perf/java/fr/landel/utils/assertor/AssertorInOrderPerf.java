@@ -0,0 +1,99 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import fr.landel.utils.assertor.enums.EnumAnalysisMode;
+import fr.landel.utils.assertor.predicate.PredicateValidator;
+
+/**
+ * Checks {@code containsInOrder} on 1M elements made of repeated prefixes of
+ * the values (the values are only found at the end)
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssertorInOrderPerf {
+
+    private static final int SIZE = 1_000_000;
+    private static final int SIZE_VALUES = 64;
+
+    private List<Integer> list;
+    private List<Integer> values;
+    private PredicateValidator<List<Integer>> containsInOrder;
+    private PredicateValidator<List<Integer>> containsInOrderParallel;
+
+    /**
+     * Prepares the elements (0, 0, ..., 0, 1) and the compiled steps
+     */
+    @Setup
+    public void setup() {
+        this.values = new ArrayList<>(Collections.nCopies(SIZE_VALUES, 0));
+        this.values.set(SIZE_VALUES - 1, 1);
+
+        this.list = new ArrayList<>(Collections.nCopies(SIZE, 0));
+        this.list.set(SIZE - 1, 1);
+
+        this.containsInOrder = Assertor.<Integer> ofList().containsInOrder(this.values).compile();
+        this.containsInOrderParallel = Assertor.<Integer> ofList(EnumAnalysisMode.PARALLEL).containsInOrder(this.values).compile();
+    }
+
+    /**
+     * Perf method for {@code containsInOrder}
+     * 
+     * @return the result
+     */
+    @Benchmark
+    public boolean containsInOrder() {
+        return Assertor.that(this.list).containsInOrder(this.values).isOK();
+    }
+
+    /**
+     * Perf method for {@code containsInOrder} (compiled step)
+     * 
+     * @return the result
+     */
+    @Benchmark
+    public boolean containsInOrderCompiled() {
+        return this.containsInOrder.test(this.list);
+    }
+
+    /**
+     * Perf method for {@code containsInOrder} (compiled step, parallel chunks)
+     * 
+     * @return the result
+     */
+    @Benchmark
+    public boolean containsInOrderParallel() {
+        return this.containsInOrderParallel.test(this.list);
+    }
+}
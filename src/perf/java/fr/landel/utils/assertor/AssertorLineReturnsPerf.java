@@ -0,0 +1,98 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Checks the comparison without line returns on 1 MB multi-line documents
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssertorLineReturnsPerf {
+
+    private static final int SIZE = 1_048_576;
+
+    private String windows;
+    private String unix;
+    private String upper;
+    private String copy;
+
+    /**
+     * Prepares the same document with CRLF and LF line returns (about 80
+     * characters by line)
+     */
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+
+        final StringBuilder sb = new StringBuilder(SIZE);
+        while (sb.length() < SIZE) {
+            sb.append((char) ('a' + random.nextInt(26)));
+            if (random.nextInt(80) == 0) {
+                sb.append('\n');
+            }
+        }
+        this.unix = sb.toString();
+        this.copy = new String(sb);
+        this.windows = this.unix.replace("\n", "\r\n");
+        this.upper = this.windows.toUpperCase();
+    }
+
+    /**
+     * Perf method for {@code isEqualIgnoreLineReturns}
+     * 
+     * @return the result
+     */
+    @Benchmark
+    public boolean isEqualIgnoreLineReturns() {
+        return Assertor.that(this.windows).isEqualIgnoreLineReturns(this.unix).isOK();
+    }
+
+    /**
+     * Perf method for {@code isEqualIgnoreCaseAndLineReturns}
+     * 
+     * @return the result
+     */
+    @Benchmark
+    public boolean isEqualIgnoreCaseAndLineReturns() {
+        return Assertor.that(this.upper).isEqualIgnoreCaseAndLineReturns(this.unix).isOK();
+    }
+
+    /**
+     * Reference: {@code isEqual} on two copies of the same document
+     * 
+     * @return the result
+     */
+    @Benchmark
+    public boolean isEqual() {
+        return Assertor.that(this.copy).isEqual(this.unix).isOK();
+    }
+}
@@ -0,0 +1,95 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import fr.landel.utils.assertor.commons.ResultAssertor;
+import fr.landel.utils.assertor.enums.EnumOperator;
+import fr.landel.utils.assertor.helper.HelperAssertor;
+
+/**
+ * Checks performance of nested sub steps (the sub steps are evaluated through
+ * an explicit stack, so the depth should only have a linear impact on the
+ * time). Run with the GC profiler ({@code -prof gc}) to check that the
+ * allocations don't depend on the depth.
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssertorNestingPerf {
+
+	@Param({ "1", "10", "100", "1000" })
+	private int depth;
+
+	private StepAssertor<String> step;
+
+	/**
+	 * Prepares the nested steps: {@code A and (A and (A and (...)))}
+	 */
+	@Setup
+	public void setUp() {
+		StepAssertor<String> current = Assertor.that("text").isNotEmpty().getStep();
+		for (int i = 0; i < this.depth; ++i) {
+			current = new StepAssertor<>(Assertor.that("text").hasLength(4).getStep(), current, EnumOperator.AND);
+		}
+		this.step = current;
+		this.step.getPlan();
+	}
+
+	/**
+	 * Perf method for {@link HelperAssertor#isOK(StepAssertor)}.
+	 * 
+	 * @return the result
+	 */
+	@Benchmark
+	public boolean isOK() {
+		return HelperAssertor.isOK(this.step);
+	}
+
+	/**
+	 * Perf method for {@link HelperAssertor#combine(StepAssertor, boolean)}.
+	 * 
+	 * @return the result
+	 */
+	@Benchmark
+	public ResultAssertor combine() {
+		return HelperAssertor.combine(this.step, false);
+	}
+
+	/**
+	 * Perf method for {@link HelperAssertor#combine(StepAssertor, boolean)}
+	 * with messages.
+	 * 
+	 * @return the result
+	 */
+	@Benchmark
+	public ResultAssertor combineWithMessage() {
+		return HelperAssertor.combine(this.step, true);
+	}
+}
@@ -0,0 +1,117 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Checks the path assertions on a 64 MB text file (the content is streamed,
+ * the whole file is never loaded)
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+public class AssertorPathPerf {
+
+    private static final long SIZE = 64L << 20;
+
+    private static final Pattern PATTERN = Pattern.compile("^zzz[a-y]+zzz$");
+
+    private Path path;
+
+    /**
+     * Prepares the file (about 80 characters by line)
+     * 
+     * @throws IOException
+     *             on file error
+     */
+    @Setup
+    public void setup() throws IOException {
+        final Random random = new Random(42);
+
+        this.path = Files.createTempFile("assertor", ".txt");
+        try (Writer writer = Files.newBufferedWriter(this.path, StandardCharsets.UTF_8)) {
+            for (long size = 0; size < SIZE; ++size) {
+                writer.write('a' + random.nextInt(25));
+                if (random.nextInt(80) == 0) {
+                    writer.write('\n');
+                    ++size;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the file
+     * 
+     * @throws IOException
+     *             on file error
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.path);
+    }
+
+    /**
+     * Perf method for {@code contains} (not found, the whole file is read)
+     * 
+     * @return the result
+     */
+    @Benchmark
+    public boolean contains() {
+        return Assertor.that(this.path).contains("zzz").isOK();
+    }
+
+    /**
+     * Perf method for {@code find} (not found, the whole file is read)
+     * 
+     * @return the result
+     */
+    @Benchmark
+    public boolean find() {
+        return Assertor.that(this.path).find(PATTERN).isOK();
+    }
+
+    /**
+     * Perf method for {@code allMatch} (all lines are checked)
+     * 
+     * @return the result
+     */
+    @Benchmark
+    public boolean allMatch() {
+        return Assertor.that(this.path).allMatch(line -> line.length() < 4_096).isOK();
+    }
+}
@@ -0,0 +1,79 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import fr.landel.utils.assertor.enums.EnumType;
+
+/**
+ * Checks type resolution performance
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnumTypePerf {
+
+    private static final Object[] OBJECTS = {new Object(), 12, 1.5d, new BigDecimal("1.5"), "text", true, 'c', new int[0],
+            Arrays.asList("a"), Collections.emptyMap(), EnumType.MAP, new Date(), Calendar.getInstance(), LocalDate.now(),
+            new IOException(), String.class};
+
+    /**
+     * Perf method for {@link EnumType#getType} over mixed object types (the
+     * type is resolved once by class).
+     * 
+     * @param blackhole
+     *            the consumer of the types
+     */
+    @Benchmark
+    public void getType(final Blackhole blackhole) {
+        for (final Object object : OBJECTS) {
+            blackhole.consume(EnumType.getType(object));
+        }
+    }
+
+    /**
+     * Perf method for {@link Assertor#that(Object)} on mixed object types.
+     * 
+     * @param blackhole
+     *            the consumer of the results
+     */
+    @Benchmark
+    public void thatObject(final Blackhole blackhole) {
+        for (final Object object : OBJECTS) {
+            blackhole.consume(Assertor.that(object).isNotNull().isOK());
+        }
+    }
+}
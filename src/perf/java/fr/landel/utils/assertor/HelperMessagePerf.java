@@ -19,19 +19,25 @@
  */
 package fr.landel.utils.assertor;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 
+import org.apache.commons.lang3.ArrayUtils;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 
 import fr.landel.utils.assertor.commons.ConstantsAssertor.MSG;
+import fr.landel.utils.assertor.commons.ParameterAssertor;
 import fr.landel.utils.assertor.enums.EnumOperator;
 import fr.landel.utils.assertor.enums.EnumType;
 import fr.landel.utils.assertor.helper.HelperAssertor;
 import fr.landel.utils.assertor.helper.HelperMessage;
+import fr.landel.utils.commons.StringUtils;
 
 /**
  * Checks assertor performance
@@ -44,6 +50,14 @@ import fr.landel.utils.assertor.helper.HelperMessage;
 @State(Scope.Benchmark)
 public class HelperMessagePerf {
 
+    private static final List<ParameterAssertor<?>> PARAMETERS = Arrays.asList(new ParameterAssertor<>("text", EnumType.CHAR_SEQUENCE),
+            new ParameterAssertor<>("ex", EnumType.CHAR_SEQUENCE));
+
+    private static final String MESSAGE = "the text '%1$s*' should contain '%2$s*' (%s, %s)";
+    private static final Object[] ARGUMENTS = {"arg", true};
+
+    private final StringBuilder builder = new StringBuilder(256);
+
 //    @Override
 //    protected double getExpectedMinNbOpsPerSeconds() {
 //        return 250_000d;
@@ -70,4 +84,51 @@ public class HelperMessagePerf {
 
         HelperAssertor.combine(result, true);
     }
+
+    /**
+     * Perf method for {@link HelperMessage#getDefaultMessage} (prepared
+     * messages are cached by key, flags and parameter types).
+     * 
+     * @return the prepared message
+     */
+    @Benchmark
+    public String getDefaultMessage() {
+        return HelperMessage.getDefaultMessage(MSG.CSQ.CONTAINS, false, true, null, PARAMETERS);
+    }
+
+    /**
+     * Perf method for {@link HelperMessage#getMessage} with a user message
+     * (the template is prepared and parsed once).
+     * 
+     * @return the formatted message
+     */
+    @Benchmark
+    public String getMessage() {
+        return HelperMessage.getMessage("default", Locale.US, MESSAGE, PARAMETERS, ARGUMENTS);
+    }
+
+    /**
+     * Perf method for {@link HelperMessage#appendMessage} (the message is
+     * rendered into a reused builder, no {@link String} is created).
+     * 
+     * @return the message length
+     */
+    @Benchmark
+    public int appendMessage() {
+        this.builder.setLength(0);
+        return HelperMessage.appendMessage(this.builder, "default", Locale.US, MESSAGE, PARAMETERS, ARGUMENTS).length();
+    }
+
+    /**
+     * Reference for {@link #getMessage()}: the format is prepared and parsed by
+     * {@link String#format} on each call.
+     * 
+     * @return the formatted message
+     */
+    @Benchmark
+    public String getMessageFormat() {
+        final Object[] parameters = HelperMessage.convertParams(PARAMETERS);
+        final String format = StringUtils.prepareFormat(MESSAGE, parameters.length, 1, ARGUMENTS.length, 1).toString();
+        return String.format(Locale.US, format, ArrayUtils.addAll(parameters, ARGUMENTS));
+    }
 }
@@ -349,6 +349,7 @@ public class AssertorArrayTest extends AbstractTest {
         String[] arrayUV = {"u", "v"};
         String[] arrayZ = {"z"};
         String[] arrayTNull = {"t", null};
+        String[] arrayTTU = {"t", "t", "u"};
 
         for (EnumAnalysisMode mode : EnumAnalysisMode.values()) {
             AssertorStepArray<String> assertorTU = Assertor.that(arrayTU, mode);
@@ -359,6 +360,10 @@ public class AssertorArrayTest extends AbstractTest {
             assertFalse(assertorTU.containsInOrder(arrayUT).isOK());
             assertTrue(assertorTU.not().containsInOrder(arrayUT).isOK());
 
+            // overlapping prefix
+            assertTrue(Assertor.that(arrayTTU, mode).containsInOrder(arrayTU).isOK());
+            assertFalse(Assertor.that(arrayTTU, mode).not().containsInOrder(arrayTU).isOK());
+
             assertTrue(assertorTU.containsInOrder(arrayU).isOK());
             assertFalse(assertorTU.not().containsInOrder(arrayU).isOK());
 
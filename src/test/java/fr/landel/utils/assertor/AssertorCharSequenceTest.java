@@ -19,6 +19,7 @@
  */
 package fr.landel.utils.assertor;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -26,8 +27,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.regex.Pattern;
 
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 
 import fr.landel.utils.assertor.utils.AssertorCharSequence;
@@ -372,6 +375,9 @@ public class AssertorCharSequenceTest extends AbstractTest {
 		assertTrue(Assertor.that((String) null).isEqualIgnoreCase(null).isOK());
 		assertFalse(Assertor.that((String) null).isEqualIgnoreCase("test").isOK());
 		assertFalse(Assertor.that("test").isEqualIgnoreCase(null).isOK());
+		assertTrue(Assertor.that(new StringBuilder("TEST")).isEqualIgnoreCase("test").isOK());
+		assertTrue(Assertor.that("t\uD801\uDC00").isEqualIgnoreCase("T\uD801\uDC28").isOK());
+		assertFalse(Assertor.that("test").isEqualIgnoreCase("tes").isOK());
 	}
 
 	/**
@@ -406,6 +412,11 @@ public class AssertorCharSequenceTest extends AbstractTest {
 		assertTrue(Assertor.that((String) null).isEqualIgnoreLineReturns(null).isOK());
 		assertFalse(Assertor.that((String) null).isEqualIgnoreLineReturns("test").isOK());
 		assertFalse(Assertor.that("test").isEqualIgnoreLineReturns(null).isOK());
+		assertTrue(Assertor.that("\r\n").isEqualIgnoreLineReturns("").isOK());
+		assertTrue(Assertor.that("\ntest\r\n\r\n").isEqualIgnoreLineReturns(new StringBuilder("t\re\rs\rt")).isOK());
+		assertFalse(Assertor.that("te\r\nst").isEqualIgnoreLineReturns("tes").isOK());
+		assertFalse(Assertor.that("tes\n").isEqualIgnoreLineReturns("te\r\nst").isOK());
+		assertTrue(Assertor.that(StringUtils.repeat("line\r\n", 10_000)).isEqualIgnoreLineReturns(StringUtils.repeat("line\n", 10_000)).isOK());
 	}
 
 	/**
@@ -440,6 +451,9 @@ public class AssertorCharSequenceTest extends AbstractTest {
 		assertTrue(Assertor.that((String) null).isEqualIgnoreCaseAndLineReturns(null).isOK());
 		assertFalse(Assertor.that((String) null).isEqualIgnoreCaseAndLineReturns("test").isOK());
 		assertFalse(Assertor.that("test").isEqualIgnoreCaseAndLineReturns(null).isOK());
+		assertTrue(Assertor.that("\nTEST\r\n").isEqualIgnoreCaseAndLineReturns(new StringBuilder("t\re\rs\rt")).isOK());
+		assertTrue(Assertor.that("\u00DF\r\n\u0130").isEqualIgnoreCaseAndLineReturns("\u00DF\u0069").isOK());
+		assertFalse(Assertor.that("te\r\nsT").isEqualIgnoreCaseAndLineReturns("tes").isOK());
 	}
 
 	/**
@@ -520,6 +534,9 @@ public class AssertorCharSequenceTest extends AbstractTest {
 		assertTrue(Assertor.that("toto").contains("toto").isOK());
 		assertTrue(Assertor.that("toti et toto part en vacances").contains("toto").isOK());
 		assertFalse(Assertor.that("toti part en vacances en moto").contains("toto").isOK());
+		assertTrue(Assertor.that("aab").contains("ab").isOK());
+		assertTrue(Assertor.that(new StringBuilder("tottoto")).contains("toto").isOK());
+		assertFalse(Assertor.that(new StringBuilder("tottot")).contains("toto").isOK());
 		assertFalse(Assertor.that("toto").contains("toto part en vacances").isOK());
 		assertFalse(Assertor.that((String) null).contains("toto part en vacances").isOK());
 		assertFalse(Assertor.that("toto").contains((CharSequence) null).isOK());
@@ -618,6 +635,8 @@ public class AssertorCharSequenceTest extends AbstractTest {
 		assertFalse(Assertor.that("TexT").startsWithIgnoreCase("texte").isOK());
 		assertFalse(Assertor.that((String) null).startsWithIgnoreCase("tex").isOK());
 		assertFalse(Assertor.that("TexT").startsWithIgnoreCase(null).isOK());
+		assertTrue(Assertor.that(new StringBuilder("TexT")).startsWithIgnoreCase("tEX").isOK());
+		assertTrue(Assertor.that("\uD801\uDC00exT").startsWithIgnoreCase("\uD801\uDC28").isOK());
 	}
 
 	/**
@@ -643,6 +662,8 @@ public class AssertorCharSequenceTest extends AbstractTest {
 		assertFalse(Assertor.that("TexT").endsWithIgnoreCase("eTexT").isOK());
 		assertFalse(Assertor.that((String) null).endsWithIgnoreCase("exT").isOK());
 		assertFalse(Assertor.that("TexT").endsWithIgnoreCase(null).isOK());
+		assertTrue(Assertor.that(new StringBuilder("TexT")).endsWithIgnoreCase("EXt").isOK());
+		assertTrue(Assertor.that("Tex\uD801\uDC00").endsWithIgnoreCase("x\uD801\uDC28").isOK());
 	}
 
 	/**
@@ -699,4 +720,51 @@ public class AssertorCharSequenceTest extends AbstractTest {
                 .orElseThrow();
         // @formatter:on
 	}
+
+	/**
+	 * Test method for {@link AssertorCharSequence#containsAll},
+	 * {@link AssertorCharSequence#containsAny},
+	 * {@link AssertorCharSequence#containsNone} and the ignore case versions.
+	 */
+	@Test
+	public void testContainsAllAnyNone() {
+		final String text = "toto part en vacances";
+
+		assertTrue(Assertor.that(text).containsAll("toto", "vacances", "art").isOK());
+		assertFalse(Assertor.that(text).containsAll("toto", "voyage").isOK());
+		assertTrue(Assertor.that(text).not().containsAll("toto", "voyage").isOK());
+		// like for iterables, NOT ALL means some but not all
+		assertFalse(Assertor.that(text).not().containsAll("voyage", "train").isOK());
+		assertFalse(Assertor.that(text).not().containsAll("toto", "vacances").isOK());
+		assertEquals(Assertor.that(Arrays.asList(text.split(" "))).not().containsAll(Arrays.asList("voyage", "train")).isOK(),
+				Assertor.that(text).not().containsAll("voyage", "train").isOK());
+		assertTrue(Assertor.that(text).containsAny("voyage", "vacances").isOK());
+		assertFalse(Assertor.that(text).containsAny("voyage", "train").isOK());
+		assertTrue(Assertor.that(text).containsNone("voyage", "train").isOK());
+		assertFalse(Assertor.that(text).containsNone("voyage", "toto").isOK());
+		assertTrue(Assertor.that(text).not().containsNone("voyage", "toto").isOK());
+		assertTrue(Assertor.that(new StringBuilder("aab")).containsAll("ab", "aa").isOK());
+
+		assertTrue(Assertor.that(text).containsAllIgnoreCase("TOTO", "Vacances").isOK());
+		assertFalse(Assertor.that(text).containsAll("TOTO", "Vacances").isOK());
+		assertTrue(Assertor.that(text).containsAnyIgnoreCase("VOYAGE", "PART").isOK());
+		assertFalse(Assertor.that(text).containsNoneIgnoreCase("VOYAGE", "PART").isOK());
+
+		// preconditions
+		assertFalse(Assertor.that((String) null).containsAny("toto").isOK());
+		assertFalse(Assertor.that(text).containsAny((CharSequence[]) null).isOK());
+		assertFalse(Assertor.that(text).containsAny().isOK());
+		assertFalse(Assertor.that(text).not().containsNone("toto", null).isOK());
+		assertFalse(Assertor.that(text).not().containsAll("toto", "").isOK());
+
+		assertEquals("the char sequence 'toto part en vacances' should contain all substrings of '[toto, voyage]'",
+				Assertor.that(text).containsAll("toto", "voyage").getErrors().get());
+		assertEquals("the char sequence 'toto part en vacances' should NOT contain any substring of '[voyage, toto]'",
+				Assertor.that(text).containsNone("voyage", "toto").getErrors().get());
+		assertEquals("the char sequence 'toto part en vacances' should NOT contain any substring of '[toto]'",
+				Assertor.that(text).not().containsAny(new CharSequence[] {"toto"}, null).getErrors().get());
+		assertEquals("tokens found", Assertor.that(text).containsNone(new CharSequence[] {"toto"}, "tokens found").getErrors().get());
+		assertEquals("the char sequence cannot be null and the searched substrings cannot be null or empty",
+				Assertor.that(text).containsAll(new CharSequence[0]).getErrors().get());
+	}
 }
@@ -27,17 +27,26 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Locale;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 
 import fr.landel.utils.assertor.commons.ConstantsAssertor;
+import fr.landel.utils.assertor.commons.LimitAssertor;
 import fr.landel.utils.assertor.commons.ParameterAssertor;
 import fr.landel.utils.assertor.helper.HelperMessage;
 import fr.landel.utils.commons.expect.ExpectException;
@@ -356,4 +365,162 @@ public class AssertorEndTest extends AbstractTest {
 
 		assertFalse(Assertor.that((CharSequence) null).hasLength(-1).asDefault("def").isPresent());
 	}
+
+	/**
+	 * Test method for {@link AssertorEnd#isOKAsync}, {@link AssertorEnd#getErrorsAsync},
+	 * {@link AssertorEnd#asResultAsync} and {@link AssertorEnd#orElseThrowAsync}.
+	 */
+	@Test
+	public void testAsync() {
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final StepCharSequence<String> valid = Assertor.that("text").isNotBlank().and(Assertor.that("other").contains("th"))
+					.or(Assertor.that("abc").startsWith("b"));
+			final StepCharSequence<String> invalid = Assertor.that("text").isNotBlank()
+					.and(Assertor.that("other").contains("xx").or().startsWith("a"));
+
+			assertTrue(valid.isOKAsync(executor).join());
+			assertFalse(invalid.isOKAsync(executor).join());
+			assertFalse(Assertor.that("").isNotEmpty().isOKAsync(executor).join());
+
+			assertFalse(valid.getErrorsAsync(executor).join().isPresent());
+			assertEquals(invalid.getErrors(), invalid.getErrorsAsync(executor).join());
+
+			assertEquals(valid.asResult().get(), valid.asResultAsync(executor).join().get());
+			assertFalse(invalid.asResultAsync(executor).join().isPresent());
+
+			assertEquals(valid.orElseThrow(), valid.orElseThrowAsync(executor).join());
+			final CompletionException exception = assertThrows(CompletionException.class,
+					() -> invalid.orElseThrowAsync(executor).join());
+			assertTrue(exception.getCause() instanceof IllegalArgumentException);
+			assertEquals(invalid.getErrors().get(), exception.getCause().getMessage());
+
+			final CompletionException exceptionMessage = assertThrows(CompletionException.class,
+					() -> invalid.orElseThrowAsync(executor, Locale.US, "'%1$s*' is invalid").join());
+			assertEquals("'text' is invalid", exceptionMessage.getCause().getMessage());
+
+			// predicate mode
+			assertTrue(Assertor.ofString().isNotEmpty().and(Assertor.ofString().startsWith("t")).that("text").isOKAsync(executor).join());
+			assertFalse(Assertor.ofString().isNotEmpty().and(Assertor.ofString().startsWith("t")).that("abc").isOKAsync(executor).join());
+
+			// sub steps which cannot be skipped are evaluated concurrently
+			// (each checker waits for the other one)
+			final CountDownLatch latch = new CountDownLatch(2);
+			final Predicate<String> await = s -> {
+				latch.countDown();
+				try {
+					return latch.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return false;
+				}
+			};
+			assertTrue(Assertor.that("text").isNotEmpty().xor(Assertor.that("a").validates(await))
+					.xor(Assertor.that("b").validates(await)).isOKAsync(executor).join());
+
+			// the skipped sub steps aren't evaluated (like in the synchronous
+			// version)
+			final AtomicInteger calls = new AtomicInteger();
+			final Predicate<String> count = s -> calls.incrementAndGet() > 0;
+			assertFalse(Assertor.that("text").isEmpty().and(Assertor.that("a").validates(count)).isOKAsync(executor).join());
+			assertTrue(Assertor.that("text").isNotEmpty().or(Assertor.that("a").validates(count)).isOKAsync(executor).join());
+			assertTrue(Assertor.that("text").isNotEmpty().xor(Assertor.that("a").isEmpty())
+					.or(Assertor.that("b").validates(count)).isOKAsync(executor).join());
+			assertFalse(Assertor.that("text").isEmpty().xor(Assertor.that("a").isEmpty())
+					.and(Assertor.that("b").validates(count)).isOKAsync(executor).join());
+			assertEquals(0, calls.get());
+
+			assertTrue(Assertor.that("text").isEmpty().or(Assertor.that("a").validates(count)).isOKAsync(executor).join());
+			assertEquals(1, calls.get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Test method for {@link AssertorEnd#getErrors(Locale)},
+	 * {@link Assertor#withLocale} and {@link Assertor#withLimit}.
+	 */
+	@Test
+	public void testLocale() {
+		final Locale locale = Assertor.getLocale();
+		final StepNumber<Float> step = Assertor.that(26.354f).isGT(27f);
+
+		final String us = "the number '26.354' should be greater than '27.000'";
+		final String fr = "the number '26,354' should be greater than '27,000'";
+
+		assertEquals(us, step.getErrors(Locale.US).get());
+		assertEquals(fr, step.getErrors(Locale.FRANCE).get());
+		assertEquals(step.getErrors().get(), step.getErrors((Locale) null).get());
+
+		// default messages also use the locale
+		assertEquals(fr, assertThrows(IllegalArgumentException.class, () -> step.orElseThrow(Locale.FRANCE, null)).getMessage());
+
+		// scoped locale
+		assertEquals(fr, Assertor.withLocale(Locale.FRANCE, () -> step.getErrors().get()));
+		assertEquals(us, Assertor.withLocale(Locale.FRANCE, () -> Assertor.withLocale(Locale.US, () -> step.getErrors().get())));
+		assertEquals(us, Assertor.withLocale(Locale.FRANCE, () -> step.getErrors(Locale.US).get()));
+		assertEquals(Locale.FRANCE, Assertor.withLocale(Locale.FRANCE, () -> {
+			Assertor.withLocale(Locale.US, Assertor::getLocale);
+			return Assertor.getLocale();
+		}));
+		assertEquals(locale, Assertor.getLocale());
+		assertThrows(IllegalStateException.class, () -> Assertor.withLocale(Locale.FRANCE, () -> {
+			throw new IllegalStateException();
+		}));
+		assertEquals(locale, Assertor.getLocale());
+
+		// the scope of the caller is applied on the rendering thread
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			assertEquals(fr, Assertor.withLocale(Locale.FRANCE, () -> step.getErrorsAsync(executor)).join().get());
+			assertEquals(us, step.getErrorsAsync(executor, Locale.US).join().get());
+			assertEquals("the array '[a, … (1 more)]' should contain the object 'z'",
+					Assertor.withLimit(LimitAssertor.of(1, 100), () -> Assertor.that(new String[] {"a", "b"}).contains("z").getErrorsAsync(executor))
+							.join().get());
+			assertEquals(fr, assertThrows(CompletionException.class,
+					() -> Assertor.withLocale(Locale.FRANCE, () -> step.orElseThrowAsync(executor)).join()).getCause().getMessage());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Test method for {@link AssertorEnd#appendErrors(StringBuilder)} and
+	 * {@link AssertorEnd#appendErrors(Appendable)}.
+	 * 
+	 * @throws IOException
+	 *             on appendable error
+	 */
+	@Test
+	public void testAppendErrors() throws IOException {
+		final String message = "the boolean should be true OR the boolean should be true";
+
+		final StringBuilder builder = new StringBuilder("rejected: ");
+		assertTrue(Assertor.that(false).isTrue().or().not().isFalse().appendErrors(builder));
+		assertEquals("rejected: " + message, builder.toString());
+		assertEquals(message, Assertor.that(false).isTrue().or().not().isFalse().getErrors().get());
+
+		// nothing is appended if valid
+		assertFalse(Assertor.that(true).isTrue().appendErrors(builder));
+		assertFalse(Assertor.that(true).isTrue().appendErrors((Appendable) builder));
+		assertEquals("rejected: " + message, builder.toString());
+
+		// preconditions first, personalized messages
+		builder.setLength(0);
+		assertTrue(Assertor.that((String) null).isNotEmpty().and().contains("a").appendErrors(builder));
+		assertEquals(Assertor.that((String) null).isNotEmpty().and().contains("a").getErrors().get(), builder.toString());
+
+		builder.setLength(0);
+		assertTrue(Assertor.that("text").isBlank("'%1$s*' (%1$s)", "blank").appendErrors((Appendable) builder));
+		assertEquals("'text' (blank)", builder.toString());
+
+		final StringWriter writer = new StringWriter();
+		assertTrue(Assertor.that(false).isTrue().appendErrors(writer));
+		assertTrue(Assertor.that(26.354f).isGT(27f).appendErrors(writer.append(", ")));
+		assertEquals("the boolean should be true, the number '26.354' should be greater than '27.000'", writer.toString());
+
+		assertThrows(NullPointerException.class, () -> Assertor.that(false).isTrue().appendErrors(null));
+		assertThrows(NullPointerException.class, () -> Assertor.that(false).isTrue().appendErrors((Appendable) null));
+	}
 }
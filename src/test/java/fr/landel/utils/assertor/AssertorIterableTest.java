@@ -19,6 +19,7 @@
  */
 package fr.landel.utils.assertor;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -26,15 +27,20 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Random;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
+import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -457,6 +463,117 @@ public class AssertorIterableTest extends AbstractTest {
 		Assertor.that(set1).contains(null).orElseThrow();
 	}
 
+	/**
+	 * Test method for {@link AssertorIterable#containsAll} and
+	 * {@link AssertorIterable#containsAny} (checked iterable indexed from 8
+	 * values, or used as is for hash sets).
+	 */
+	@Test
+	public void testContainsIterableIndexed() {
+		final Random random = new Random(42);
+		final EnumAnalysisMode[] modes = EnumAnalysisMode.values();
+
+		for (int i = 0; i < 2_000; ++i) {
+			final List<Integer> list = randomList(random, 1 + random.nextInt(40));
+			final List<Integer> values = randomList(random, 1 + random.nextInt(20));
+			final Iterable<Integer> iterable = random.nextBoolean() ? list : new HashSet<>(list);
+			final int size = IterableUtils.size(iterable);
+
+			int found = 0;
+			for (Integer value : values) {
+				if (list.contains(value)) {
+					++found;
+				}
+			}
+
+			final EnumAnalysisMode mode = modes[random.nextInt(modes.length)];
+			final String context = iterable + " " + values + " " + mode;
+
+			assertEquals(values.size() <= size && found == values.size(),
+					Assertor.that(iterable, mode).containsAll(values).isOK(), context);
+			assertEquals(found > 0 && found < values.size(), Assertor.that(iterable, mode).not().containsAll(values).isOK(),
+					context);
+			assertEquals(found > 0, Assertor.that(iterable, mode).containsAny(values).isOK(), context);
+			assertEquals(found == 0, Assertor.that(iterable, mode).not().containsAny(values).isOK(), context);
+		}
+
+		// sets not based on equals are indexed by equals
+		final Set<String> set = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+		set.addAll(Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h", "i"));
+		final List<String> upper = Arrays.asList("A", "B", "C", "D", "E", "F", "G", "H", "I");
+
+		assertTrue(set.containsAll(upper));
+		assertFalse(Assertor.that(set).containsAll(upper).isOK());
+		assertFalse(Assertor.that(set).containsAny(upper).isOK());
+		assertFalse(Assertor.that(set).containsAny(upper.subList(0, 2)).isOK());
+
+		// the checked iterable is only counted if the size is used (the
+		// precondition opens an iterator to check emptiness)
+		final List<Integer> elements = Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19);
+		final AtomicInteger passes = new AtomicInteger();
+		final Iterable<Integer> iterable = () -> {
+			passes.incrementAndGet();
+			return elements.iterator();
+		};
+
+		assertTrue(Assertor.that(iterable).containsAny(Arrays.asList(3)).isOK());
+		assertEquals(2, passes.getAndSet(0)); // precondition and scan
+		assertTrue(Assertor.that(iterable).containsAll(Arrays.asList(3)).isOK());
+		assertEquals(3, passes.getAndSet(0)); // precondition, size and scan
+		assertTrue(Assertor.that(iterable).containsAny(elements.subList(10, 20)).isOK());
+		assertEquals(3, passes.getAndSet(0)); // precondition, size and index
+		final List<Integer> missing = Arrays.asList(20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39, 40);
+		assertFalse(Assertor.that(iterable).containsAny(missing).isOK());
+		assertEquals(23, passes.getAndSet(0)); // precondition, size and scan for each value (not more elements than values)
+	}
+
+	/**
+	 * Test method for {@link AssertorIterable#containsAll} and
+	 * {@link AssertorIterable#containsAny} with elements overriding
+	 * {@code equals} without {@code hashCode} (around the index threshold).
+	 */
+	@Test
+	public void testContainsIterableEqualsOnly() {
+		final List<EqualsOnly> elements = new ArrayList<>();
+		for (int i = 0; i < 20; ++i) {
+			elements.add(new EqualsOnly(i));
+		}
+
+		for (int size = 6; size <= 10; ++size) {
+			final List<EqualsOnly> values = new ArrayList<>();
+			for (int i = 0; i < size; ++i) {
+				values.add(new EqualsOnly(i));
+			}
+
+			assertTrue(Assertor.that(elements).containsAll(values).isOK(), String.valueOf(size));
+			assertTrue(Assertor.that(new HashSet<>(elements)).containsAll(values).isOK(), String.valueOf(size));
+			assertTrue(Assertor.that(elements).containsAny(values).isOK(), String.valueOf(size));
+			assertFalse(Assertor.that(elements).not().containsAny(values).isOK(), String.valueOf(size));
+		}
+	}
+
+	private static final class EqualsOnly {
+
+		private final int id;
+
+		private EqualsOnly(final int id) {
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof EqualsOnly && ((EqualsOnly) obj).id == this.id;
+		}
+	}
+
+	private static List<Integer> randomList(final Random random, final int size) {
+		final List<Integer> list = new ArrayList<>(size);
+		for (int i = 0; i < size; ++i) {
+			list.add(random.nextInt(10) == 0 ? null : random.nextInt(50));
+		}
+		return list;
+	}
+
 	/**
 	 * Test method for {@link AssertorIterable#contains}.
 	 * 
@@ -627,6 +744,7 @@ public class AssertorIterableTest extends AbstractTest {
 		List<String> listUV = Arrays.asList("u", "v");
 		List<String> listZ = Arrays.asList("z");
 		List<String> listTNull = Arrays.asList("t", null);
+		List<String> listTTU = Arrays.asList("t", "t", "u");
 
 		for (EnumAnalysisMode mode : EnumAnalysisMode.values()) {
 			AssertorStepIterable<List<String>, String> assertorTU = Assertor.that(listTU, mode);
@@ -637,6 +755,10 @@ public class AssertorIterableTest extends AbstractTest {
 			assertFalse(assertorTU.containsInOrder(listUT).isOK());
 			assertTrue(assertorTU.not().containsInOrder(listUT).isOK());
 
+			// overlapping prefix
+			assertTrue(Assertor.that(listTTU, mode).containsInOrder(listTU).isOK());
+			assertFalse(Assertor.that(listTTU, mode).not().containsInOrder(listTU).isOK());
+
 			assertTrue(assertorTU.containsInOrder(listU).isOK());
 			assertFalse(assertorTU.not().containsInOrder(listU).isOK());
 
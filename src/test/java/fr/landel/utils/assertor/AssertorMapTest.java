@@ -579,6 +579,12 @@ public class AssertorMapTest extends AbstractTest {
 			assertTrue(Assertor.that(mapTU, mode).containsInOrder(mapTU2.keySet()).isOK());
 			assertFalse(Assertor.that(mapTU, mode).not().containsInOrder(mapTU2.keySet()).isOK());
 
+			// overlapping prefix (values: 1, 1, 2)
+			final Map<String, Integer> mapXTU = MapUtils2.newMap(LinkedHashMap::new, Pair.of("x", 1), Pair.of("t", 1),
+					Pair.of("u", 2));
+			assertTrue(Assertor.that(mapXTU, mode).containsValuesInOrder(mapTU.values()).isOK());
+			assertTrue(Assertor.that(mapXTU, mode).containsInOrder(mapTU).isOK());
+
 			testContainsInOrderException(mapTUClone, mapTUV, mapXTUV, mode);
 		}
 	}
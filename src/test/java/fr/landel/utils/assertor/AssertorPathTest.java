@@ -0,0 +1,227 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import fr.landel.utils.assertor.utils.AssertorPath;
+
+/**
+ * Check {@link AssertorPath}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class AssertorPathTest extends AbstractTest {
+
+    private Path path;
+    private Path missing;
+
+    /**
+     * Creates the checked file
+     * 
+     * @throws IOException
+     *             on file error
+     */
+    @BeforeEach
+    public void init() throws IOException {
+        this.path = Files.createTempFile("assertor", ".csv");
+        Files.write(this.path, "id;name\r\n1;first\r\n2;été\r\n".getBytes(StandardCharsets.UTF_8));
+
+        this.missing = this.path.resolveSibling(this.path.getFileName() + ".missing");
+    }
+
+    /**
+     * Removes the checked file
+     * 
+     * @throws IOException
+     *             on file error
+     */
+    @AfterEach
+    public void clean() throws IOException {
+        Files.deleteIfExists(this.path);
+    }
+
+    /**
+     * Test method for {@link AssertorPath#AssertorPath()} .
+     */
+    @Test
+    public void testConstructor() {
+        assertNotNull(new AssertorPath());
+    }
+
+    /**
+     * Test method for {@link AssertorPath#exists}.
+     */
+    @Test
+    public void testExists() {
+        assertTrue(Assertor.that(this.path).exists().isOK());
+        assertTrue(Assertor.that(this.path).exists("error").isOK());
+        assertTrue(Assertor.that(this.path).exists(Locale.US, "error").isOK());
+        assertFalse(Assertor.that(this.missing).exists().isOK());
+        assertTrue(Assertor.that(this.missing).not().exists().isOK());
+        assertFalse(Assertor.that((Path) null).exists().isOK());
+
+        assertEquals("the path '" + this.missing + "' should exist", Assertor.that(this.missing).exists().getErrors().get());
+        assertEquals("the path cannot be null", Assertor.that((Path) null).exists().getErrors().get());
+
+        assertException(() -> {
+            Assertor.that(this.missing).exists().orElseThrow("not found");
+        }, IllegalArgumentException.class, "not found");
+    }
+
+    /**
+     * Test method for {@link AssertorPath#hasSize} and the comparisons.
+     */
+    @Test
+    public void testHasSize() {
+        final long size = 27;
+
+        assertTrue(Assertor.that(this.path).hasSize(size).isOK());
+        assertTrue(Assertor.that(this.path).hasSize(size, "error").isOK());
+        assertTrue(Assertor.that(this.path).hasSize(size, Locale.US, "error").isOK());
+        assertFalse(Assertor.that(this.path).hasSize(size + 1).isOK());
+        assertTrue(Assertor.that(this.path).hasSizeGT(size - 1).isOK());
+        assertFalse(Assertor.that(this.path).hasSizeGT(size).isOK());
+        assertTrue(Assertor.that(this.path).hasSizeGTE(size).isOK());
+        assertFalse(Assertor.that(this.path).hasSizeGTE(size + 1).isOK());
+        assertTrue(Assertor.that(this.path).hasSizeLT(size + 1).isOK());
+        assertFalse(Assertor.that(this.path).hasSizeLT(size).isOK());
+        assertTrue(Assertor.that(this.path).hasSizeLTE(size).isOK());
+        assertFalse(Assertor.that(this.path).hasSizeLTE(size - 1).isOK());
+
+        // precondition
+        assertFalse(Assertor.that(this.path).hasSize(-1).isOK());
+        assertFalse(Assertor.that((Path) null).hasSize(size).isOK());
+
+        // I/O error
+        assertFalse(Assertor.that(this.missing).hasSize(0).isOK());
+        assertFalse(Assertor.that(this.missing).not().hasSize(0).isOK());
+    }
+
+    /**
+     * Test method for {@link AssertorPath#contains}.
+     */
+    @Test
+    public void testContains() {
+        assertTrue(Assertor.that(this.path).contains("2;été").isOK());
+        assertTrue(Assertor.that(this.path).contains("\r\n1;", "error").isOK());
+        assertTrue(Assertor.that(this.path).contains("first", Locale.US, "error").isOK());
+        assertFalse(Assertor.that(this.path).contains("second").isOK());
+        assertTrue(Assertor.that(this.path).not().contains("second").isOK());
+
+        assertTrue(Assertor.that(this.path).contains("Ã©tÃ©", StandardCharsets.ISO_8859_1).isOK());
+        assertFalse(Assertor.that(this.path).contains("été", StandardCharsets.ISO_8859_1, "error").isOK());
+        assertTrue(Assertor.that(this.path).contains("first", StandardCharsets.ISO_8859_1, Locale.US, "error").isOK());
+
+        // precondition
+        assertFalse(Assertor.that(this.path).contains("").isOK());
+        assertFalse(Assertor.that(this.path).contains((CharSequence) null).isOK());
+        assertFalse(Assertor.that(this.path).contains("first", (Charset) null).isOK());
+        assertFalse(Assertor.that((Path) null).contains("first").isOK());
+        assertFalse(Assertor.that(this.missing).contains("first").isOK());
+
+        assertEquals("the file '" + this.path + "' should contain 'second'", Assertor.that(this.path).contains("second").getErrors().get());
+    }
+
+    /**
+     * Test method for {@link AssertorPath#find}.
+     */
+    @Test
+    public void testFind() {
+        final Pattern pattern = Pattern.compile("^\\d;f");
+
+        assertTrue(Assertor.that(this.path).find(pattern).isOK());
+        assertTrue(Assertor.that(this.path).find(pattern, "error").isOK());
+        assertTrue(Assertor.that(this.path).find(pattern, Locale.US, "error").isOK());
+        assertTrue(Assertor.that(this.path).find(Pattern.compile("té$")).isOK());
+        assertTrue(Assertor.that(this.path).find(Pattern.compile("tÃ©$"), StandardCharsets.ISO_8859_1).isOK());
+
+        // line by line
+        assertFalse(Assertor.that(this.path).find(Pattern.compile("name.1")).isOK());
+        assertFalse(Assertor.that(this.path).find(Pattern.compile("\\n")).isOK());
+
+        assertFalse(Assertor.that(this.path).find((Pattern) null).isOK());
+        assertFalse(Assertor.that(this.missing).find(pattern).isOK());
+    }
+
+    /**
+     * Test method for {@link AssertorPath#startsWith}.
+     */
+    @Test
+    public void testStartsWith() {
+        assertTrue(Assertor.that(this.path).startsWith("id;".getBytes(StandardCharsets.US_ASCII)).isOK());
+        assertTrue(Assertor.that(this.path).startsWith(new byte[] {'i'}, "error").isOK());
+        assertTrue(Assertor.that(this.path).startsWith(new byte[] {'i'}, Locale.US, "error").isOK());
+        assertFalse(Assertor.that(this.path).startsWith(new byte[] {'d'}).isOK());
+
+        assertFalse(Assertor.that(this.path).startsWith(new byte[0]).isOK());
+        assertFalse(Assertor.that(this.path).startsWith((byte[]) null).isOK());
+
+        assertEquals("the file '" + this.path + "' should start with the bytes '[80, 75]'",
+                Assertor.that(this.path).startsWith(new byte[] {0x50, 0x4B}).getErrors().get());
+    }
+
+    /**
+     * Test method for {@link AssertorPath#allMatch}.
+     */
+    @Test
+    public void testAllMatch() {
+        assertTrue(Assertor.that(this.path).allMatch(line -> line.length() > 3).isOK());
+        assertTrue(Assertor.that(this.path).allMatch(line -> line.length() > 3, "error").isOK());
+        assertTrue(Assertor.that(this.path).allMatch(line -> line.length() > 3, Locale.US, "error").isOK());
+        assertFalse(Assertor.that(this.path).allMatch(line -> line.length() < 7).isOK());
+
+        // é is decoded as 2 characters in ISO-8859-1
+        assertFalse(Assertor.that(this.path).allMatch(line -> line.length() == 7).isOK());
+        assertTrue(Assertor.that(this.path).allMatch(line -> line.length() == 7, StandardCharsets.ISO_8859_1).isOK());
+
+        assertFalse(Assertor.that(this.path).allMatch(null).isOK());
+        assertFalse(Assertor.that(this.missing).allMatch(line -> true).isOK());
+    }
+
+    /**
+     * Test method for {@link Assertor#that(Path)} with operators.
+     */
+    @Test
+    public void testOperators() {
+        assertTrue(Assertor.that(true).isTrue().and(this.path).contains("first").isOK());
+        assertTrue(Assertor.that(true).isFalse().or(this.path).exists().isOK());
+        assertTrue(Assertor.that(this.path).exists().and().not().contains("second").isOK());
+        assertTrue(Assertor.that(this.path.toString()).isNotEmpty().andPath(p -> this.path).hasSizeGT(0).isOK());
+        assertTrue(Assertor.that(this.path).exists().and(this.missing).not().exists().isOK());
+    }
+}
@@ -0,0 +1,112 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+
+import fr.landel.utils.assertor.commons.ConstantsAssertor.MSG;
+
+/**
+ * Check {@link CatalogAssertor}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class CatalogAssertorTest {
+
+    /**
+     * Check {@link CatalogAssertor#load}
+     * 
+     * @throws IOException
+     *             on loading failure
+     */
+    @Test
+    public void testLoad() throws IOException {
+        final CatalogAssertor catalog = CatalogAssertor.load("assertor_messages.properties");
+
+        assertTrue(catalog.size() > 300);
+        assertEquals(" AND ", catalog.get("operator.and"));
+        assertEquals("the boolean should be true", catalog.get(MSG.BOOLEAN.TRUE));
+        assertEquals("the boolean should be true", catalog.get(new StringBuilder(MSG.BOOLEAN.TRUE)));
+
+        // dense identifiers
+        final int id = catalog.getId(MSG.BOOLEAN.TRUE);
+        assertTrue(id >= 0 && id < catalog.size());
+        assertEquals("the boolean should be true", catalog.get(id));
+
+        assertEquals(CatalogAssertor.UNKNOWN, catalog.getId("unknown"));
+        assertEquals(CatalogAssertor.UNKNOWN, catalog.getId(null));
+        assertNull(catalog.get("unknown"));
+        assertNull(catalog.get(CatalogAssertor.UNKNOWN));
+        assertNull(catalog.get(catalog.size()));
+
+        assertEquals(catalog.size(), catalog.toProperties().size());
+
+        assertThrows(IllegalArgumentException.class, () -> CatalogAssertor.load("unknown.properties"));
+    }
+
+    /**
+     * Check {@link CatalogAssertor#with}
+     */
+    @Test
+    public void testWith() {
+        final Properties properties = new Properties();
+        properties.setProperty("b", "message b");
+        properties.setProperty("a", "message a");
+
+        final CatalogAssertor catalog = CatalogAssertor.of(properties);
+        assertEquals(2, catalog.size());
+        assertEquals(0, catalog.getId("a"));
+        assertEquals(1, catalog.getId("b"));
+
+        final Map<String, CharSequence> overrides = new HashMap<>();
+        overrides.put("b", new StringBuilder("new b"));
+        overrides.put("c", "message c");
+
+        final CatalogAssertor overridden = catalog.with(overrides);
+        assertEquals(3, overridden.size());
+        assertEquals(1, overridden.getId("b"));
+        assertEquals(2, overridden.getId("c"));
+        assertEquals("message a", overridden.get("a"));
+        assertEquals("new b", overridden.get(1));
+        assertEquals("message c", overridden.get("c"));
+
+        // unchanged
+        assertEquals(2, catalog.size());
+        assertEquals("message b", catalog.get("b"));
+        assertNull(catalog.get("c"));
+
+        assertEquals(2, catalog.with(Collections.emptyMap()).size());
+        assertThrows(NullPointerException.class, () -> catalog.with(Collections.singletonMap("d", null)));
+        assertThrows(NullPointerException.class, () -> catalog.with(null));
+    }
+}
@@ -21,10 +21,17 @@
 package fr.landel.utils.assertor.commons;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Collections;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
 
 import fr.landel.utils.assertor.AbstractTest;
+import fr.landel.utils.assertor.Assertor;
+import fr.landel.utils.assertor.commons.ConstantsAssertor.MSG;
+import fr.landel.utils.assertor.enums.EnumOperator;
 
 /**
  * Check {@link ConstantsAssertor}
@@ -47,4 +54,116 @@ public class ConstantsAssertorTest extends AbstractTest {
         assertEquals("the object 'arg' should be null", ConstantsAssertor.getProperty("object.null", null, "arg"));
         assertEquals("the object 'arg' should be null", ConstantsAssertor.getProperty("object.null", null, "arg", ""));
     }
+
+    /**
+     * Test method for {@link ConstantsAssertor#setMessages} and
+     * {@link ConstantsAssertor#resetMessages}.
+     */
+    @Test
+    public void testSetMessages() {
+        final CatalogAssertor catalog = ConstantsAssertor.getCatalog();
+        final String message = catalog.get(MSG.BOOLEAN.TRUE);
+
+        try {
+            assertEquals(" AND ", EnumOperator.AND.toString());
+            assertEquals(message, Assertor.that(false).isTrue().getErrors().get());
+
+            ConstantsAssertor.setMessages(Collections.singletonMap(MSG.BOOLEAN.TRUE, "must be true"));
+            ConstantsAssertor.setMessages(Collections.singletonMap("operator.and", " & "));
+
+            assertEquals(catalog.getId(MSG.BOOLEAN.TRUE), ConstantsAssertor.getCatalog().getId(MSG.BOOLEAN.TRUE));
+            assertEquals("must be true", ConstantsAssertor.getProperty(MSG.BOOLEAN.TRUE, null));
+            assertEquals(" & ", EnumOperator.AND.toString());
+
+            // cached default messages are cleared
+            assertEquals("must be true", Assertor.that(false).isTrue().getErrors().get());
+
+            // overrides are applied over localized messages
+            assertEquals("must be true", Assertor.that(false).isTrue().getErrors(new Locale("xx")).get());
+        } finally {
+            ConstantsAssertor.resetMessages();
+        }
+
+        assertEquals(message, Assertor.that(false).isTrue().getErrors().get());
+        assertSame(catalog, ConstantsAssertor.getCatalog());
+    }
+
+    /**
+     * Test method for {@link ConstantsAssertor#getCatalog(Locale)} (localized
+     * messages in test resources).
+     */
+    @Test
+    public void testGetCatalog() {
+        final Locale locale = new Locale("xx");
+        final CatalogAssertor catalog = ConstantsAssertor.getCatalog();
+        final CatalogAssertor localized = ConstantsAssertor.getCatalog(locale);
+
+        // without localized messages, the base catalog is used
+        assertSame(catalog, ConstantsAssertor.getCatalog(Locale.FRANCE));
+        assertSame(catalog, ConstantsAssertor.getCatalog(null));
+
+        // built once per locale
+        assertSame(localized, ConstantsAssertor.getCatalog(locale));
+        assertEquals(catalog.size(), localized.size());
+        assertEquals(catalog.getId(MSG.BOOLEAN.TRUE), localized.getId(MSG.BOOLEAN.TRUE));
+        assertEquals("xx: the boolean should be true", localized.get(MSG.BOOLEAN.TRUE));
+        assertEquals(catalog.get(MSG.BOOLEAN.FALSE), localized.get(MSG.BOOLEAN.FALSE));
+
+        assertEquals("xx: the boolean should be true", ConstantsAssertor.getProperty(locale, MSG.BOOLEAN.TRUE, null));
+        assertEquals("xx: the boolean should be true", Assertor.that(false).isTrue().getErrors(locale).get());
+        assertEquals("xx: the boolean should be true OU xx: the boolean should be true",
+                Assertor.that(false).isTrue().or().isTrue().getErrors(new Locale("xx", "YY")).get());
+        assertEquals(" OU ", Assertor.withLocale(locale, EnumOperator.OR::toString));
+        assertEquals(catalog.get(MSG.BOOLEAN.TRUE), Assertor.that(false).isTrue().getErrors(Locale.FRANCE).get());
+    }
+
+    /**
+     * Test method for {@link ConstantsAssertor#getCatalog(Locale)} (keys only
+     * in the localized messages, more locales than the cache size).
+     */
+    @Test
+    public void testGetCatalogLocales() {
+        final Locale locale = new Locale("xx");
+        final CatalogAssertor catalog = ConstantsAssertor.getCatalog();
+        final CatalogAssertor localized = ConstantsAssertor.getCatalog(locale);
+
+        // the keys which aren't in the base catalog are ignored
+        assertEquals(CatalogAssertor.UNKNOWN, catalog.getId("xx.only"));
+        assertEquals(CatalogAssertor.UNKNOWN, localized.getId("xx.only"));
+        assertEquals(catalog.size(), localized.size());
+
+        // the recently used catalog is kept
+        for (int i = 0; i < 1_500; i++) {
+            assertSame(catalog, ConstantsAssertor.getCatalog(new Locale("yy", "Y" + i)));
+            assertSame(localized, ConstantsAssertor.getCatalog(locale));
+        }
+    }
+
+    /**
+     * Test method for {@link ConstantsAssertor#PROPS} (applied through
+     * {@link ConstantsAssertor#setMessages}).
+     */
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testProps() {
+        final String message = ConstantsAssertor.getCatalog().get(MSG.BOOLEAN.TRUE);
+
+        assertEquals(ConstantsAssertor.getCatalog().size(), ConstantsAssertor.PROPS.size());
+        assertEquals(message, ConstantsAssertor.PROPS.getProperty(MSG.BOOLEAN.TRUE));
+
+        try {
+            ConstantsAssertor.PROPS.setProperty(MSG.BOOLEAN.TRUE, "must be true");
+            assertEquals("must be true", ConstantsAssertor.getCatalog().get(MSG.BOOLEAN.TRUE));
+            assertEquals("must be true", Assertor.that(false).isTrue().getErrors().get());
+
+            ConstantsAssertor.PROPS.putAll(Collections.singletonMap(MSG.BOOLEAN.TRUE, "has to be true"));
+            assertEquals("has to be true", Assertor.that(false).isTrue().getErrors().get());
+            assertEquals("has to be true", ConstantsAssertor.PROPS.getProperty(MSG.BOOLEAN.TRUE));
+        } finally {
+            ConstantsAssertor.PROPS.setProperty(MSG.BOOLEAN.TRUE, message);
+            ConstantsAssertor.resetMessages();
+        }
+
+        assertEquals(message, Assertor.that(false).isTrue().getErrors().get());
+    }
 }
@@ -0,0 +1,130 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import fr.landel.utils.assertor.Assertor;
+
+/**
+ * Check {@link PatternsAssertor}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class PatternsAssertorTest {
+
+    /**
+     * Test method for {@link PatternsAssertor#compile}.
+     */
+    @Test
+    public void testCompile() {
+        final PatternsAssertor patterns = PatternsAssertor.of(10);
+        assertEquals(10, patterns.getMaxSize());
+
+        final Pattern pattern = patterns.compile("[a-z]+");
+        assertEquals("[a-z]+", pattern.pattern());
+        assertSame(pattern, patterns.compile(new StringBuilder("[a-z]+")));
+        assertEquals(1, patterns.size());
+        assertEquals(1, patterns.getHits());
+        assertEquals(1, patterns.getMisses());
+
+        // invalid expressions aren't kept
+        assertThrows(PatternSyntaxException.class, () -> patterns.compile("[a-z"));
+        assertThrows(PatternSyntaxException.class, () -> patterns.compile("[a-z"));
+        assertEquals(1, patterns.size());
+        assertEquals(3, patterns.getMisses());
+
+        assertThrows(NullPointerException.class, () -> patterns.compile(null));
+        assertThrows(IllegalArgumentException.class, () -> PatternsAssertor.of(-1));
+
+        assertEquals("size: 1/10, hits: 1, misses: 3, evictions: 0", patterns.toString());
+
+        patterns.clear();
+        assertEquals(0, patterns.size());
+        assertEquals(0, patterns.getHits());
+        assertEquals(0, patterns.getMisses());
+
+        // nothing kept
+        final PatternsAssertor none = PatternsAssertor.of(0);
+        assertNotSame(none.compile("a"), none.compile("a"));
+        assertEquals(0, none.size());
+        assertEquals(2, none.getMisses());
+    }
+
+    /**
+     * Test method for {@link PatternsAssertor#compile} (eviction of the least
+     * recently used patterns).
+     */
+    @Test
+    public void testEviction() {
+        final PatternsAssertor patterns = PatternsAssertor.of(10);
+
+        final Pattern first = patterns.compile("r0");
+        for (int i = 1; i < 10; ++i) {
+            patterns.compile("r" + i);
+            // keeps the first one used
+            patterns.compile("r0");
+        }
+        assertEquals(10, patterns.size());
+        assertEquals(0, patterns.getEvictions());
+
+        patterns.compile("r10");
+        assertEquals(9, patterns.size());
+        assertEquals(2, patterns.getEvictions());
+
+        assertSame(first, patterns.compile("r0"));
+        assertFalse(patterns.getMisses() > 11);
+
+        // bounded under concurrent access
+        IntStream.range(0, 10_000).parallel().forEach(i -> patterns.compile("c" + (i % 1_000)));
+        assertTrue(patterns.size() < 100);
+    }
+
+    /**
+     * Check the shared cache used by the steps
+     */
+    @Test
+    public void testSteps() {
+        final PatternsAssertor patterns = PatternsAssertor.getDefault();
+        final long hits = patterns.getHits();
+
+        assertTrue(Assertor.that("text").matches("[a-z]+").and().find("x").isOK());
+        assertTrue(Assertor.that("text").matches("[a-z]+").isOK());
+        assertTrue(patterns.getHits() > hits);
+
+        // invalid expressions fail on evaluation
+        assertFalse(Assertor.that("text").matches("[a-z").isOK());
+        assertFalse(Assertor.that("text").not().matches("[a-z").isOK());
+        assertFalse(Assertor.that("text").find("[a-z").isOK());
+    }
+}
@@ -0,0 +1,145 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import fr.landel.utils.assertor.Assertor;
+import fr.landel.utils.assertor.StepAssertor;
+import fr.landel.utils.assertor.StepCharSequence;
+import fr.landel.utils.assertor.enums.EnumOperator;
+import fr.landel.utils.assertor.enums.EnumStep;
+import fr.landel.utils.assertor.helper.HelperAssertor;
+import fr.landel.utils.assertor.predicate.PredicateStepCharSequence;
+
+/**
+ * Check {@link PlanAssertor}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class PlanAssertorTest {
+
+    /**
+     * Check {@link PlanAssertor#compile}
+     */
+    @Test
+    public void testCompile() {
+        final StepCharSequence<String> step = Assertor.that("text").isNotEmpty().and().not().not().not().contains("ex").or()
+                .startsWith("t");
+
+        final StepAssertor<String> last = step.getStep();
+        final PlanAssertor plan = PlanAssertor.compile(last);
+
+        // NOT steps are folded
+        assertEquals(6, plan.size());
+        assertEquals(3, plan.getParametersSize());
+
+        assertEquals(EnumStep.CREATION, plan.getStepType(0));
+        assertEquals(EnumStep.ASSERTION, plan.getStepType(1));
+        assertEquals(EnumStep.OPERATOR, plan.getStepType(2));
+        assertEquals(EnumStep.ASSERTION, plan.getStepType(3));
+        assertEquals(EnumStep.OPERATOR, plan.getStepType(4));
+        assertEquals(EnumStep.ASSERTION, plan.getStepType(5));
+
+        assertNull(plan.getOperator(1));
+        assertFalse(plan.isNot(1));
+        assertEquals(EnumOperator.AND, plan.getOperator(3));
+        assertTrue(plan.isNot(3));
+        assertEquals(EnumOperator.OR, plan.getOperator(5));
+        assertFalse(plan.isNot(5));
+
+        assertSame(last, plan.getStep(5));
+    }
+
+    /**
+     * Check {@link PlanAssertor#compile} with sub steps
+     */
+    @Test
+    public void testCompileSub() {
+        final StepCharSequence<String> step = Assertor.that("text").isNotEmpty()
+                .and(Assertor.that("other").contains("th").or().isBlank());
+
+        final PlanAssertor plan = step.getStep().getPlan();
+
+        assertEquals(3, plan.size());
+        assertEquals(EnumStep.SUB, plan.getStepType(2));
+        assertEquals(EnumOperator.AND, plan.getOperator(2));
+
+        final PlanAssertor subPlan = plan.getSubPlan(2);
+        assertNotNull(subPlan);
+        assertEquals(4, subPlan.size());
+        assertEquals(EnumOperator.OR, subPlan.getOperator(3));
+
+        assertTrue(step.isOK());
+    }
+
+    /**
+     * Check {@link StepAssertor#getPlan} cache
+     */
+    @Test
+    public void testCache() {
+        final PredicateStepCharSequence<String> predicate = Assertor.ofString().contains("ex").or().isEmpty();
+        final StepAssertor<String> step = predicate.getStep();
+
+        final PlanAssertor plan = step.getPlan();
+        assertSame(plan, step.getPlan());
+
+        // the plan is reused on each run of the same step
+        assertTrue(HelperAssertor.combine(step, "text", true, false).isPrecondition());
+        assertTrue(HelperAssertor.combine(step, "text", true, false).isValid());
+        assertTrue(HelperAssertor.combine(step, "", true, false).isValid());
+        assertFalse(HelperAssertor.combine(step, "abc", true, false).isValid());
+        assertSame(plan, step.getPlan());
+
+        assertTrue(predicate.that("text").isOK());
+        assertFalse(predicate.that("abc").isOK());
+    }
+
+    /**
+     * Check {@link PlanAssertor#validates}
+     */
+    @Test
+    public void testValidates() {
+        final PlanAssertor plan = Assertor.that("text").isNotEmpty().getStep().getPlan();
+
+        plan.validates(false, false);
+        assertThrows(UnsupportedOperationException.class, () -> plan.validates(true, false));
+
+        final PlanAssertor predicatePlan = Assertor.ofString().isNotEmpty().getStep().getPlan();
+
+        predicatePlan.validates(true, false);
+        predicatePlan.validates(true, true);
+
+        final PlanAssertor emptyPlan = Assertor.ofString().getStep().getPlan();
+
+        assertThrows(IllegalArgumentException.class, () -> emptyPlan.validates(true, false));
+        emptyPlan.validates(true, true);
+    }
+}
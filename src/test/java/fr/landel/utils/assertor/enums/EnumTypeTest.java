@@ -22,6 +22,16 @@ package fr.landel.utils.assertor.enums;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+
 import org.junit.jupiter.api.Test;
 
 /**
@@ -39,7 +49,7 @@ public class EnumTypeTest {
     @Test
     public void test() {
         assertNotNull(EnumType.values());
-        assertEquals(16, EnumType.values().length);
+        assertEquals(17, EnumType.values().length);
 
         assertEquals(EnumType.ARRAY, EnumType.valueOf("ARRAY"));
         assertEquals(EnumType.ARRAY, EnumType.valueOf(EnumType.class, "ARRAY"));
@@ -60,6 +70,38 @@ public class EnumTypeTest {
         check(13, EnumType.TEMPORAL, "TEMPORAL");
         check(14, EnumType.THROWABLE, "THROWABLE");
         check(15, EnumType.CALENDAR_FIELD, "CALENDAR_FIELD");
+        check(16, EnumType.PATH, "PATH");
+    }
+
+    /**
+     * Test method for {@link EnumType#getType(Object)}.
+     */
+    @Test
+    public void testGetType() {
+        assertEquals(EnumType.UNKNOWN, EnumType.getType(null));
+        assertEquals(EnumType.UNKNOWN, EnumType.getType(new Object()));
+        assertEquals(EnumType.NUMBER_DECIMAL, EnumType.getType(1.5d));
+        assertEquals(EnumType.NUMBER_DECIMAL, EnumType.getType(new BigDecimal("1.5")));
+        assertEquals(EnumType.CHAR_SEQUENCE, EnumType.getType("text"));
+        assertEquals(EnumType.CHAR_SEQUENCE, EnumType.getType(new StringBuilder()));
+        assertEquals(EnumType.BOOLEAN, EnumType.getType(true));
+        assertEquals(EnumType.CHARACTER, EnumType.getType('c'));
+        assertEquals(EnumType.ARRAY, EnumType.getType(new int[0]));
+        assertEquals(EnumType.ARRAY, EnumType.getType(new String[0]));
+        assertEquals(EnumType.ITERABLE, EnumType.getType(new ArrayList<>()));
+        assertEquals(EnumType.ITERABLE, EnumType.getType(Collections.emptySet()));
+        assertEquals(EnumType.MAP, EnumType.getType(new HashMap<>()));
+        assertEquals(EnumType.ENUMERATION, EnumType.getType(EnumType.MAP));
+        assertEquals(EnumType.DATE, EnumType.getType(new Date()));
+        assertEquals(EnumType.CALENDAR, EnumType.getType(Calendar.getInstance()));
+        assertEquals(EnumType.TEMPORAL, EnumType.getType(LocalDate.now()));
+        assertEquals(EnumType.THROWABLE, EnumType.getType(new IOException()));
+        assertEquals(EnumType.PATH, EnumType.getType(Paths.get("a")));
+        assertEquals(EnumType.CLASS, EnumType.getType(String.class));
+
+        // resolved once by class
+        assertEquals(EnumType.CHAR_SEQUENCE, EnumType.getType("other"));
+        assertEquals(EnumType.CLASS, EnumType.getType(Object.class));
     }
 
     private void check(final int ordinal, final EnumType type, final String name) {
@@ -26,8 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -41,6 +40,7 @@ import fr.landel.utils.assertor.AbstractTest;
 import fr.landel.utils.assertor.Assertor;
 import fr.landel.utils.assertor.StepAssertor;
 import fr.landel.utils.assertor.StepCharSequence;
+import fr.landel.utils.assertor.commons.CatalogAssertor;
 import fr.landel.utils.assertor.commons.ConstantsAssertor;
 import fr.landel.utils.assertor.commons.MessageAssertor;
 import fr.landel.utils.assertor.commons.ParameterAssertor;
@@ -172,6 +172,98 @@ public class HelperAssertorTest extends AbstractTest {
 		}, UnsupportedOperationException.class, "Creation step cannot be used in Predicate mode");
 	}
 
+	/**
+	 * Test method for {@link HelperAssertor#combine} with deeply nested sub
+	 * steps (evaluated without recursion).
+	 */
+	@Test
+	public void testCombineDeepSub() {
+		StepAssertor<String> step = Assertor.that("text").isNotEmpty().getStep();
+		for (int i = 0; i < 10_000; ++i) {
+			step = new StepAssertor<>(Assertor.that("text").hasLength(4).getStep(), step, EnumOperator.AND);
+		}
+
+		assertTrue(HelperAssertor.isOK(step));
+		assertTrue(HelperAssertor.combine(step, true).isValid());
+		assertEquals(20_001, HelperAssertor.combine(step, false).getParameters().size());
+
+		step = Assertor.that("text").isEmpty().getStep();
+		for (int i = 0; i < 3; ++i) {
+			step = new StepAssertor<>(Assertor.that("text").hasLength(4).getStep(), step, EnumOperator.AND);
+		}
+
+		final ResultAssertor result = HelperAssertor.combine(step, true);
+		assertTrue(result.isPrecondition());
+		assertFalse(result.isValid());
+		assertEquals("(((the char sequence 'text' should be null or empty)))", HelperAssertor.getMessage(result));
+		assertFalse(HelperAssertor.isOK(step));
+	}
+
+	/**
+	 * Test method for {@link HelperAssertor#combine} with an evaluation in a
+	 * checker (on the same thread).
+	 */
+	@Test
+	public void testCombineReentrant() {
+		final StepAssertor<String> inner = Assertor.that("text").contains("ex").or().isEmpty().getStep();
+
+		final StepAssertor<String> a = new StepAssertor<>("test", EnumType.CHAR_SEQUENCE, null);
+		final StepAssertor<String> step = new StepAssertor<>(a, obj -> true, (obj, not) -> HelperAssertor.combine(inner, true).isValid(),
+				false, null, MSG.CSQ.CONTAINS, false);
+
+		final StepAssertor<String> sub = new StepAssertor<>(Assertor.that("text").isNotEmpty().getStep(), step, EnumOperator.AND);
+
+		assertTrue(HelperAssertor.isOK(sub));
+		assertTrue(HelperAssertor.combine(sub, true).isValid());
+		assertEquals(2, HelperAssertor.combine(sub, false).getParameters().size());
+	}
+
+	/**
+	 * Test method for {@link HelperAssertor#isOK} .
+	 */
+	@Test
+	public void testIsOK() {
+		final StepAssertor<String> a = new StepAssertor<>("test", EnumType.CHAR_SEQUENCE, null);
+		final StepAssertor<Boolean> b = new StepAssertor<>(true, EnumType.BOOLEAN, null);
+
+		StepAssertor<String> step1 = new StepAssertor<>(a, obj -> true, (obj, not) -> true, false, null, MSG.CSQ.CONTAINS, false);
+		StepAssertor<Boolean> step2 = new StepAssertor<>(b, obj -> true, (obj, not) -> false, false, null, MSG.BOOLEAN.TRUE, false);
+
+		assertTrue(HelperAssertor.isOK(step1));
+		assertFalse(HelperAssertor.isOK(step2));
+		assertFalse(HelperAssertor.isOK(new StepAssertor<>(step1, step2, EnumOperator.AND)));
+		assertTrue(HelperAssertor.isOK(new StepAssertor<>(step1, step2, EnumOperator.OR)));
+		assertTrue(HelperAssertor.isOK(new StepAssertor<>(step1, step2, EnumOperator.XOR)));
+
+		// precondition KO
+		step1 = new StepAssertor<>(a, obj -> false, (obj, not) -> true, false, null, MSG.CSQ.CONTAINS, false);
+
+		assertFalse(HelperAssertor.isOK(step1));
+		assertFalse(HelperAssertor.isOK(new StepAssertor<>(step1, step2, EnumOperator.OR)));
+		assertFalse(HelperAssertor.isOK(new StepAssertor<>(step2, step1, EnumOperator.OR)));
+
+		// same results as combine
+		assertTrue(Assertor.that("text").contains("ex").or().isBlank().isOK());
+		assertTrue(Assertor.that("text").isBlank().or().not().isEmpty().isOK());
+		assertFalse(Assertor.that("text").isBlank().and().not().isEmpty().isOK());
+		assertFalse(Assertor.that("text").contains("ex").nand().isNotBlank().isOK());
+		assertTrue(Assertor.that("text").isBlank().nor().isEmpty().isOK());
+		assertTrue(Assertor.that("text").contains("ex").and(Assertor.that(12).isGT(10).or().isZero()).isOK());
+		assertFalse(Assertor.that("text").contains("ex").and(Assertor.that((String) null).contains("a")).isOK());
+
+		// matcher mode
+		final StepAssertor<String> predicate = Assertor.ofString().contains("ex").or().isEmpty().getStep();
+
+		assertTrue(HelperAssertor.isOK(predicate, "text"));
+		assertTrue(HelperAssertor.isOK(predicate, ""));
+		assertFalse(HelperAssertor.isOK(predicate, "abc"));
+		assertFalse(HelperAssertor.isOK(predicate, null));
+
+		assertException(() -> {
+			HelperAssertor.isOK(a, "test");
+		}, UnsupportedOperationException.class, "Creation step cannot be used in Predicate mode");
+	}
+
 	/**
 	 * Test method for {@link HelperAssertor#getLastChecked} .
 	 */
@@ -227,22 +319,20 @@ public class HelperAssertorTest extends AbstractTest {
 	}
 
 	/**
-	 * Check {@link ConstantsAssertor}
+	 * Check {@link CatalogAssertor#load} (messages file of
+	 * {@link ConstantsAssertor})
+	 * 
+	 * @throws IOException on loading failure
 	 */
 	@Test
-	public void testConstantsAssertor()
-			throws NoSuchMethodException, IllegalAccessException, IllegalArgumentException, InvocationTargetException {
-
-		final Method loadProperties = ConstantsAssertor.class.getDeclaredMethod("loadProperties", String.class);
-		loadProperties.setAccessible(true);
-
-		Properties props = (Properties) loadProperties.invoke(null, "assertor_messages.properties");
-		assertEquals(308, props.size());
+	public void testConstantsAssertor() throws IOException {
+		assertEquals(347, CatalogAssertor.load("assertor_messages.properties").size());
 
-		props = (Properties) loadProperties.invoke(null, "assertor_messages2.properties");
-		assertEquals(0, props.size());
+		assertException(() -> CatalogAssertor.load("assertor_messages2.properties"), IllegalArgumentException.class,
+				"Resource not found: assertor_messages2.properties");
 
-		props = (Properties) loadProperties.invoke(null, "");
-		assertEquals(0, props.size());
+		assertEquals(0, CatalogAssertor.load("").size());
+		assertEquals(0, CatalogAssertor.load(null).size());
+		assertEquals(0, CatalogAssertor.of(new Properties()).size());
 	}
 }
\ No newline at end of file
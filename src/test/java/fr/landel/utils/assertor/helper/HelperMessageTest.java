@@ -43,6 +43,8 @@ import org.junit.jupiter.api.Test;
 
 import fr.landel.utils.assertor.AbstractTest;
 import fr.landel.utils.assertor.Assertor;
+import fr.landel.utils.assertor.commons.ConstantsAssertor.MSG;
+import fr.landel.utils.assertor.commons.LimitAssertor;
 import fr.landel.utils.assertor.commons.MessagesAssertor;
 import fr.landel.utils.assertor.commons.ParameterAssertor;
 import fr.landel.utils.assertor.enums.EnumOperator;
@@ -222,6 +224,44 @@ public class HelperMessageTest extends AbstractTest {
 		});
 	}
 
+	/**
+	 * Test method for {@link HelperMessage#getDefaultMessage} cache.
+	 */
+	@Test
+	public void testGetDefaultMessageCache() {
+		HelperMessage.clearDefaultMessages();
+
+		final List<ParameterAssertor<?>> parameters = Arrays.asList(new ParameterAssertor<>("text", EnumType.CHAR_SEQUENCE),
+				new ParameterAssertor<>("t", EnumType.CHAR_SEQUENCE));
+		final List<ParameterAssertor<?>> otherParameters = Arrays.asList(new ParameterAssertor<>("other", EnumType.CHAR_SEQUENCE),
+				new ParameterAssertor<>("o", EnumType.CHAR_SEQUENCE));
+
+		final String message = HelperMessage.getDefaultMessage(MSG.CSQ.CONTAINS, false, false, null, parameters);
+		assertEquals("the char sequence '%1$s*' should contain '%2$s*'", message);
+
+		// same key, flags and types
+		assertTrue(message == HelperMessage.getDefaultMessage(MSG.CSQ.CONTAINS, false, false, null, otherParameters));
+		assertTrue(message == HelperMessage.getDefaultMessage(new StringBuilder(MSG.CSQ.CONTAINS), false, false, null, parameters));
+
+		assertEquals("the char sequence '%1$s*' should NOT contain '%2$s*'",
+				HelperMessage.getDefaultMessage(MSG.CSQ.CONTAINS, false, true, null, parameters));
+		assertEquals(HelperMessage.getDefaultMessage(MSG.CSQ.CONTAINS, true, false, null, parameters),
+				HelperMessage.getDefaultMessage(MSG.CSQ.CONTAINS, true, true, null, parameters));
+
+		final List<ParameterAssertor<?>> numberParameters = Arrays.asList(new ParameterAssertor<>(12, EnumType.NUMBER_INTEGER));
+		assertEquals("the number '%1$,d*' should be greater than '%2$,d*'",
+				HelperMessage.getDefaultMessage(MSG.NUMBER.GT, false, false, null,
+						Arrays.asList(numberParameters.get(0), new ParameterAssertor<>(10, EnumType.NUMBER_INTEGER))));
+		assertEquals("the number '%1$,.3f*' should be greater than '%2$,.3f*'",
+				HelperMessage.getDefaultMessage(MSG.NUMBER.GT, false, false, null, Arrays.asList(
+						new ParameterAssertor<>(1.5, EnumType.NUMBER_DECIMAL), new ParameterAssertor<>(1.0, EnumType.NUMBER_DECIMAL))));
+
+		HelperMessage.clearDefaultMessages();
+		final String reloaded = HelperMessage.getDefaultMessage(MSG.CSQ.CONTAINS, false, false, null, parameters);
+		assertEquals(message, reloaded);
+		assertFalse(message == reloaded);
+	}
+
 	/**
 	 * Test method for {@link HelperMessage#convertParams(java.util.List)}.
 	 */
@@ -286,6 +326,38 @@ public class HelperMessageTest extends AbstractTest {
 		assertEquals(Color.BLACK, convertedParams[i]);
 	}
 
+	/**
+	 * Test method for {@link HelperMessage#convertParams(java.util.List)} with
+	 * limits (see {@link Assertor#withLimit}).
+	 */
+	@Test
+	public void testConvertParamsLimit() {
+		final List<Integer> list = new ArrayList<>();
+		for (int i = 0; i < 5_000_000; i++) {
+			list.add(i);
+		}
+		final List<ParameterAssertor<?>> parameters = Arrays.asList(new ParameterAssertor<>(list, EnumType.ITERABLE));
+
+		assertEquals(LimitAssertor.DEFAULT, Assertor.getLimit());
+		assertTrue(HelperMessage.convertParams(parameters)[0].toString().endsWith(", … (4999900 more)]"));
+
+		// limits are captured on conversion
+		final Object[] converted = Assertor.withLimit(LimitAssertor.of(3, 100), () -> HelperMessage.convertParams(parameters));
+		assertEquals("[0, 1, 2, … (4999997 more)]", converted[0].toString());
+		assertEquals(LimitAssertor.DEFAULT, Assertor.getLimit());
+
+		final List<String> texts = Arrays.asList("a", "b", "c", "d");
+		assertEquals("the iterable '[a, b, … (2 more)]' should contain the object 'z'",
+				Assertor.withLimit(LimitAssertor.of(2, 100), () -> Assertor.that(texts).contains("z").getErrors().get()));
+
+		try {
+			Assertor.setLimit(LimitAssertor.of(1, 100));
+			assertEquals("[0, … (4999999 more)]", HelperMessage.convertParams(parameters)[0].toString());
+		} finally {
+			Assertor.setLimit(LimitAssertor.DEFAULT);
+		}
+	}
+
 	/**
 	 * Test method for {@link ParameterAssertor#toString()}.
 	 */
@@ -0,0 +1,96 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import fr.landel.utils.assertor.commons.LimitAssertor;
+import fr.landel.utils.assertor.enums.EnumType;
+
+/**
+ * Check {@link JoinAssertor}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class JoinAssertorTest {
+
+    /**
+     * Check {@link JoinAssertor#appendTo}
+     */
+    @Test
+    public void testAppendTo() {
+        final List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 5_000_000; ++i) {
+            list.add(i);
+        }
+
+        assertEquals("[0, 1, 2, … (4999997 more)]", new JoinAssertor(list, EnumType.ITERABLE, LimitAssertor.of(3, 100)).toString());
+        assertEquals("[0, 1, 2, 3, … (4999996 more)]",
+                new JoinAssertor(list, EnumType.ITERABLE, LimitAssertor.of(100, 12)).toString());
+        assertEquals("[… (5000000 more)]", new JoinAssertor(list, EnumType.ITERABLE, LimitAssertor.of(0, 100)).toString());
+
+        // unknown size
+        final Iterable<Integer> iterable = list::iterator;
+        assertEquals("[0, 1, …]", new JoinAssertor(iterable, EnumType.ITERABLE, LimitAssertor.of(2, 100)).toString());
+
+        // within the limits
+        assertEquals("[1, , 3]", new JoinAssertor(Arrays.asList(1, null, 3), EnumType.ITERABLE, LimitAssertor.of(3, 6)).toString());
+        assertEquals("[]", new JoinAssertor(new Object[0], EnumType.ARRAY, LimitAssertor.of(0, 0)).toString());
+
+        // truncated element
+        assertEquals("[abcd… (1 more)]", new JoinAssertor(new Object[] {"abcdefgh", "x"}, EnumType.ARRAY, LimitAssertor.of(5, 4)).toString());
+
+        final Map<String, Integer> map = new LinkedHashMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+        assertEquals("[a=1, b=2, c=3]", new JoinAssertor(map, EnumType.MAP, LimitAssertor.UNLIMITED).toString());
+        assertEquals("[a=1, … (2 more)]", new JoinAssertor(map, EnumType.MAP, LimitAssertor.of(1, 100)).toString());
+
+        assertThrows(IllegalArgumentException.class, () -> LimitAssertor.of(-1, 0));
+    }
+
+    /**
+     * Check {@link JoinAssertor#formatTo}
+     */
+    @Test
+    public void testFormatTo() {
+        final JoinAssertor join = new JoinAssertor(new Object[] {"a", "b", "c"}, EnumType.ARRAY, LimitAssertor.of(2, 100));
+        final String text = "[a, b, … (1 more)]";
+
+        assertEquals("x " + text + " y", String.format(Locale.US, "x %s y", join));
+        assertEquals("x " + text + " y", TemplateAssertor.compile("x %s y", 1).format(Locale.US, new Object[] {join}, new Object[0]));
+
+        assertEquals(String.format(Locale.US, "%25s|%-25s|%.4s|%S", text, text, text, text),
+                String.format(Locale.US, "%25s|%-25s|%.4s|%S", join, join, join, join));
+    }
+}
@@ -0,0 +1,143 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Calendar;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.IllegalFormatException;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Check {@link TemplateAssertor}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class TemplateAssertorTest {
+
+    private static final Formattable FORMATTABLE = (formatter, flags, width, precision) -> formatter.format("formattable");
+
+    /**
+     * Check {@link TemplateAssertor#format} and
+     * {@link TemplateAssertor#appendTo}
+     */
+    @Test
+    public void testFormat() {
+        final Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"), Locale.US);
+        calendar.set(2016, Calendar.AUGUST, 9, 10, 20, 30);
+
+        final Object[] parameters = {"text", 1_234_567, 1_234.5678};
+        final Object[] arguments = {true, null, calendar, FORMATTABLE};
+
+        check("simple text", parameters, arguments, false);
+        check("", parameters, arguments, false);
+        check("the char sequence '%1$s' should contain '%s'", parameters, arguments, false);
+        check("%s %s %s %s %s %s %s", parameters, arguments, false);
+        check("%4$b %5$b %1$b %4$B %5$B %1$B", parameters, arguments, false);
+        check("the number '%2$,d' and '%3$,.3f' (%<.1f)", parameters, arguments, false);
+        check("%6$tY-%6$tm-%6$td %<tH:%<tM", parameters, arguments, false);
+        check("100%% %n%-8s|%8s|%.2s|%S", parameters, arguments, false);
+        check("%7$s / %7$10s", parameters, arguments, false);
+
+        // unsupported: formatter errors are kept
+        check("%8$s", parameters, arguments, true);
+        check("%0$s", parameters, arguments, true);
+        check("%<s", parameters, arguments, true);
+        check("%q %2$d", parameters, arguments, true);
+        check("%1$d %,s", parameters, arguments, true);
+        check("%T%", parameters, arguments, true);
+        check("end %", parameters, arguments, true);
+        check("%1$d", parameters, arguments, false);
+    }
+
+    /**
+     * Check {@link TemplateAssertor#format} with locales
+     */
+    @Test
+    public void testFormatLocale() {
+        final Object[] parameters = {1_234_567, 1_234.5678};
+        final Object[] arguments = {};
+
+        final TemplateAssertor template = TemplateAssertor.compile("%,d %,.2f", 2);
+        assertFalse(template.isFallback());
+
+        for (Locale locale : new Locale[] {Locale.US, Locale.FRANCE, Locale.GERMANY, Locale.ROOT}) {
+            assertEquals(String.format(locale, "%,d %,.2f", parameters), template.format(locale, parameters, arguments));
+        }
+    }
+
+    /**
+     * Check {@link TemplateAssertor#format} with missing arguments
+     */
+    @Test
+    public void testFormatMissing() {
+        final TemplateAssertor template = TemplateAssertor.compile("%s %s", 1);
+        assertTrue(template.isFallback());
+        assertEquals("%s %s", template.getFormat());
+
+        final Object[] parameters = {"text"};
+        assertThrows(IllegalFormatException.class, () -> template.format(Locale.US, parameters, new Object[0]));
+    }
+
+    private static void check(final String format, final Object[] parameters, final Object[] arguments, final boolean fallback) {
+        final Object[] all = new Object[parameters.length + arguments.length];
+        System.arraycopy(parameters, 0, all, 0, parameters.length);
+        System.arraycopy(arguments, 0, all, parameters.length, arguments.length);
+
+        final TemplateAssertor template = TemplateAssertor.compile(format, all.length);
+        assertEquals(fallback, template.isFallback(), format);
+
+        String expected;
+        try (Formatter formatter = new Formatter(Locale.US)) {
+            expected = formatter.format(format, all).toString();
+        } catch (IllegalFormatException e) {
+            expected = e.getClass().getName();
+        }
+
+        String result;
+        try {
+            result = template.format(Locale.US, parameters, arguments);
+        } catch (IllegalFormatException e) {
+            result = e.getClass().getName();
+        }
+
+        assertEquals(expected, result, format);
+
+        // appended (the builder is restored on error)
+        final StringBuilder sb = new StringBuilder("prefix:");
+        try {
+            template.appendTo(sb, Locale.US, parameters, arguments);
+        } catch (IllegalFormatException e) {
+            sb.append(e.getClass().getName());
+        }
+
+        assertEquals("prefix:" + expected, sb.toString(), format);
+    }
+}
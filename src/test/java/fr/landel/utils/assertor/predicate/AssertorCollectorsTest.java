@@ -0,0 +1,111 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import fr.landel.utils.assertor.Assertor;
+import fr.landel.utils.assertor.commons.PartitionAssertor;
+
+/**
+ * Check {@link AssertorCollectors}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class AssertorCollectorsTest {
+
+    /**
+     * Test method for {@link AssertorCollectors#partitioning(PredicateStep)}
+     */
+    @Test
+    public void testPartitioning() {
+        final PartitionAssertor<String> partition = Stream.of("text", "", "tac", "abc")
+                .collect(AssertorCollectors.partitioning(Assertor.ofString().isNotEmpty().and().startsWith("t")));
+
+        assertFalse(partition.isOK());
+        assertEquals(Arrays.asList("text", "tac"), partition.getValid());
+        assertEquals(Arrays.asList("", "abc"), partition.getInvalid());
+        assertEquals(2, partition.getMessages().size());
+        assertEquals("the char sequence 'abc' should start with 't'", partition.getMessages().get(1));
+
+        assertTrue(Stream.<String> empty().collect(AssertorCollectors.partitioning(Assertor.ofString().isNotEmpty())).isOK());
+    }
+
+    /**
+     * Test method for {@link AssertorCollectors#partitioning(PredicateValidator)}
+     * with a parallel stream
+     */
+    @Test
+    public void testPartitioningParallel() {
+        final List<String> values = IntStream.range(0, 100_000).mapToObj(i -> i % 10 == 0 ? "x" + i : "t" + i)
+                .collect(Collectors.toList());
+
+        final PredicateValidator<String> validator = Assertor.ofString().startsWith("t").compile();
+        final PartitionAssertor<String> partition = values.parallelStream().collect(AssertorCollectors.partitioning(validator));
+
+        final List<String> expectedValid = new ArrayList<>();
+        final List<String> expectedInvalid = new ArrayList<>();
+        for (String value : values) {
+            (validator.test(value) ? expectedValid : expectedInvalid).add(value);
+        }
+
+        assertEquals(expectedValid, partition.getValid());
+        assertEquals(expectedInvalid, partition.getInvalid());
+        assertEquals(10_000, partition.getMessages().size());
+        assertEquals("the char sequence 'x10' should start with 't'", partition.getMessages().get(1));
+    }
+
+    /**
+     * Test method for {@link AssertorCollectors#partitioning(PredicateValidator)}
+     * (each element is evaluated once, even if invalid)
+     */
+    @Test
+    public void testPartitioningEvaluatedOnce() {
+        final AtomicInteger count = new AtomicInteger();
+
+        final PredicateValidator<String> validator = Assertor.ofString()
+                .validates(text -> count.incrementAndGet() > 0 && text.startsWith("t"), "'%1$s*' is invalid").compile();
+
+        final PartitionAssertor<String> partition = Stream.of("text", "abc", "tac", "def")
+                .collect(AssertorCollectors.partitioning(validator));
+
+        assertEquals(4, count.get());
+        assertEquals(Arrays.asList("text", "tac"), partition.getValid());
+        assertEquals(Arrays.asList("abc", "def"), partition.getInvalid());
+        assertEquals(Arrays.asList("'abc' is invalid", "'def' is invalid"), partition.getMessages());
+
+        // same messages as through the end steps
+        assertEquals(validator.that("abc").getErrors().get(), partition.getMessages().get(0));
+    }
+}
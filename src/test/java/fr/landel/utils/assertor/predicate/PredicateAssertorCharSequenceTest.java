@@ -737,4 +737,23 @@ public class PredicateAssertorCharSequenceTest extends AbstractTest {
 		// e.getMessage()).startsWith("er").that(new
 		// IOException("error")).orElseThrow();
 	}
+
+	/**
+	 * Test method for {@link AssertorCharSequence#containsAll},
+	 * {@link AssertorCharSequence#containsAny} and
+	 * {@link AssertorCharSequence#containsNone} (once compiled, the automaton
+	 * is shared by all checked values).
+	 */
+	@Test
+	public void testContainsAllAnyNone() {
+		final PredicateValidator<String> forbidden = Assertor.<String> ofCharSequence().containsNoneIgnoreCase("DROP", "--").compile();
+
+		assertTrue(forbidden.test("select *"));
+		assertFalse(forbidden.test("drop table"));
+		assertFalse(forbidden.that("1 -- comment").isOK());
+
+		assertTrue(Assertor.<String> ofCharSequence().containsAll("ex", "te").that("text").isOK());
+		assertTrue(Assertor.<String> ofCharSequence().containsAny("zz", "te").and().containsAllIgnoreCase("EX").that("text").isOK());
+		assertFalse(Assertor.<String> ofCharSequence().containsAnyIgnoreCase("zz").that("text").isOK());
+	}
 }
@@ -0,0 +1,104 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.predicate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import fr.landel.utils.assertor.AbstractTest;
+import fr.landel.utils.assertor.Assertor;
+import fr.landel.utils.assertor.utils.AssertorPath;
+
+/**
+ * Check {@link AssertorPath}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class PredicateAssertorPathTest extends AbstractTest {
+
+    private Path path;
+
+    /**
+     * Creates the checked file
+     * 
+     * @throws IOException
+     *             on file error
+     */
+    @BeforeEach
+    public void init() throws IOException {
+        this.path = Files.createTempFile("assertor", ".txt");
+        Files.write(this.path, "first line\nsecond line\n".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Removes the checked file
+     * 
+     * @throws IOException
+     *             on file error
+     */
+    @AfterEach
+    public void clean() throws IOException {
+        Files.deleteIfExists(this.path);
+    }
+
+    /**
+     * Test method for {@link AssertorPath} .
+     */
+    @Test
+    public void testPredicateGet() {
+        assertTrue(Assertor.ofPath().exists().that(this.path).isOK());
+        assertFalse(Assertor.ofPath().not().exists().that(this.path).isOK());
+        assertTrue(Assertor.ofPath().hasSize(23).and().contains("second").that(this.path).isOK());
+        assertTrue(Assertor.ofPath().hasSizeGT(10, "error").that(this.path).isOK());
+        assertFalse(Assertor.ofPath().hasSizeLT(10, Locale.US, "error").that(this.path).isOK());
+    }
+
+    /**
+     * Test method for {@link AssertorPath#contains}, {@link AssertorPath#find},
+     * {@link AssertorPath#startsWith} and {@link AssertorPath#allMatch}.
+     */
+    @Test
+    public void testContent() {
+        assertTrue(Assertor.ofPath().contains("line\nsecond").that(this.path).isOK());
+        assertFalse(Assertor.ofPath().contains("third").that(this.path).isOK());
+        assertTrue(Assertor.ofPath().find(Pattern.compile("^sec.*e$")).that(this.path).isOK());
+        assertFalse(Assertor.ofPath().find(Pattern.compile("^line")).that(this.path).isOK());
+        assertTrue(Assertor.ofPath().startsWith("first".getBytes(StandardCharsets.US_ASCII)).that(this.path).isOK());
+        assertTrue(Assertor.ofPath().allMatch(line -> line.toString().endsWith(" line")).that(this.path).isOK());
+        assertFalse(Assertor.ofPath().allMatch(line -> line.length() == 10).that(this.path).isOK());
+
+        assertException(() -> {
+            Assertor.ofPath().contains("third").that(this.path).orElseThrow();
+        }, IllegalArgumentException.class, "the file '" + this.path + "' should contain 'third'");
+    }
+}
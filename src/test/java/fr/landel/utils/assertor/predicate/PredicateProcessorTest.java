@@ -0,0 +1,131 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import fr.landel.utils.assertor.Assertor;
+
+/**
+ * Check {@link PredicateProcessor}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class PredicateProcessorTest {
+
+    /**
+     * Test method for {@link PredicateProcessor#process(Stream)}
+     */
+    @Test
+    public void testProcessStream() {
+        final Map<String, String> invalids = new LinkedHashMap<>();
+        final PredicateProcessor<String> processor = Assertor.ofString().isNotBlank().and().startsWith("t").processor(2,
+                invalids::put);
+
+        assertEquals(2, processor.getBatchSize());
+
+        final List<String> valids = processor.process(Stream.of("text", " ", "tic", "abc", "tac", "toe", "x"))
+                .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList("text", "tic", "tac", "toe"), valids);
+        assertEquals(Arrays.asList(" ", "abc", "x"), new ArrayList<>(invalids.keySet()));
+        assertEquals("the char sequence 'abc' should start with 't'", invalids.get("abc"));
+        assertEquals(Assertor.ofString().isNotBlank().and().startsWith("t").that(" ").getErrors().get(), invalids.get(" "));
+
+        assertEquals(0, processor.process(Stream.<String> empty()).count());
+        assertEquals(0, processor.process(Stream.of("a", "b", "c")).count());
+    }
+
+    /**
+     * Test method for {@link PredicateProcessor#process(Iterator)}
+     */
+    @Test
+    public void testProcessIterator() {
+        final AtomicInteger read = new AtomicInteger();
+        final AtomicInteger invalids = new AtomicInteger();
+
+        // infinite source, read on demand
+        final Iterator<String> source = new Iterator<String>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public String next() {
+                return String.valueOf(read.incrementAndGet());
+            }
+        };
+
+        final Iterator<String> valids = Assertor.ofString().validates(s -> Integer.parseInt(s) % 3 != 0)
+                .processor(10, (item, error) -> invalids.incrementAndGet()).process(source);
+
+        assertEquals(0, read.get());
+        assertTrue(valids.hasNext());
+        assertEquals(10, read.get());
+        assertEquals(3, invalids.get());
+
+        assertEquals("1", valids.next());
+        assertEquals("2", valids.next());
+        assertEquals("4", valids.next());
+        assertEquals(10, read.get());
+
+        for (int i = 0; i < 4; ++i) {
+            valids.next();
+        }
+        assertEquals(10, read.get());
+        valids.next();
+        assertEquals(20, read.get());
+
+        final Iterator<String> empty = Assertor.ofString().isNotEmpty().processor(5, (item, error) -> {
+        }).process(Collections.<String> emptyIterator());
+        assertFalse(empty.hasNext());
+        assertThrows(NoSuchElementException.class, () -> empty.next());
+    }
+
+    /**
+     * Check {@link PredicateProcessor} creation
+     */
+    @Test
+    public void testCreate() {
+        assertThrows(IllegalArgumentException.class, () -> Assertor.ofString().isNotEmpty().processor(0, (item, error) -> {
+        }));
+        assertThrows(NullPointerException.class, () -> Assertor.ofString().isNotEmpty().processor(1, null));
+    }
+}
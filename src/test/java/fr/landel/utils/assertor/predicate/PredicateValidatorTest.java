@@ -0,0 +1,224 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import fr.landel.utils.assertor.Assertor;
+import fr.landel.utils.assertor.commons.PlanAssertor;
+import fr.landel.utils.assertor.commons.ValidationAssertor;
+
+/**
+ * Check {@link PredicateValidator}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class PredicateValidatorTest {
+
+    private static final PredicateValidator<String> VALIDATOR = Assertor.ofString().isNotBlank().and().hasLengthLTE(10)
+            .and(Assertor.ofString().startsWith("t").or().endsWith("x")).compile();
+
+    /**
+     * Test method for {@link PredicateValidator#test}
+     */
+    @Test
+    public void testTest() {
+        assertTrue(VALIDATOR.test("text"));
+        assertTrue(VALIDATOR.test("index"));
+        assertFalse(VALIDATOR.test("other"));
+        assertFalse(VALIDATOR.test("too long text"));
+        assertFalse(VALIDATOR.test(" "));
+        assertFalse(VALIDATOR.test(null));
+
+        final PlanAssertor plan = VALIDATOR.getStep().getPlan();
+        assertTrue(VALIDATOR.test("text"));
+        assertSame(plan, VALIDATOR.getStep().getPlan());
+
+        final Predicate<Integer> predicate = Assertor.<Integer> ofNumber().isGT(10).asPredicate();
+        assertTrue(predicate instanceof PredicateValidator);
+        assertTrue(predicate.test(15));
+        assertFalse(predicate.test(5));
+        assertTrue(predicate.negate().test(5));
+    }
+
+    /**
+     * Test method for {@link PredicateValidator#that}
+     */
+    @Test
+    public void testThat() {
+        assertTrue(VALIDATOR.that("text").isOK());
+        assertEquals("text", VALIDATOR.that("text").orElseThrow());
+        assertEquals(Optional.empty(), VALIDATOR.that("text").getErrors());
+
+        assertFalse(VALIDATOR.that("other").isOK());
+        assertEquals("(the char sequence 'other' should start with 't' OR the char sequence 'other' should end with 'x')",
+                VALIDATOR.that("other").getErrors().get());
+        assertThrows(IllegalArgumentException.class, () -> VALIDATOR.that("other").orElseThrow());
+    }
+
+    /**
+     * Test method for {@link PredicateValidator#validateAll}
+     */
+    @Test
+    public void testValidateAll() {
+        final List<String> values = Arrays.asList("text", "other", "index", null, "too long text", "t");
+
+        ValidationAssertor result = VALIDATOR.validateAll(values);
+        assertEquals(6, result.getCount());
+        assertEquals(3, result.getFailureCount());
+        assertEquals(3, result.getValidCount());
+        assertFalse(result.isOK());
+        assertFalse(result.isFailure(0));
+        assertTrue(result.isFailure(1));
+        assertTrue(result.isFailure(3));
+        assertTrue(result.isFailure(4));
+        assertEquals(3, result.getFailures().nextSetBit(2));
+        assertTrue(result.getMessages().isEmpty());
+
+        result = VALIDATOR.validateAll(values, 2);
+        assertEquals(3, result.getFailureCount());
+        assertEquals(2, result.getMessages().size());
+        assertEquals(VALIDATOR.that("other").getErrors().get(), result.getMessages().get(1));
+        assertEquals(VALIDATOR.that(null).getErrors().get(), result.getMessages().get(3));
+        assertFalse(result.getMessages().containsKey(4));
+
+        result = VALIDATOR.validateAll(values.toArray(new String[values.size()]), 10);
+        assertEquals(3, result.getFailureCount());
+        assertEquals(3, result.getMessages().size());
+        assertEquals(VALIDATOR.that("too long text").getErrors().get(), result.getMessages().get(4));
+
+        result = VALIDATOR.validateAll(values.stream().filter(v -> v != null));
+        assertEquals(5, result.getCount());
+        assertEquals(2, result.getFailureCount());
+        assertTrue(result.isFailure(3));
+
+        result = VALIDATOR.validateAll(Collections.emptyList());
+        assertEquals(0, result.getCount());
+        assertTrue(result.isOK());
+
+        result = Assertor.ofString().contains("ex").validateAll(new String[] {"text", "abc", "index", "def"}, 1);
+        assertEquals(2, result.getFailureCount());
+        assertEquals(1, result.getMessages().size());
+        assertEquals("the char sequence 'abc' should contain 'ex'", result.getMessages().get(1));
+
+        assertThrows(NullPointerException.class, () -> VALIDATOR.validateAll((Iterable<String>) null));
+    }
+
+    /**
+     * Test method for
+     * {@link PredicateValidator#validateAll(List, ForkJoinPool, int, int)}
+     */
+    @Test
+    public void testValidateAllParallel() {
+        final String[] values = new String[100_000];
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = i % 7 == 0 ? "other" + i : "text";
+        }
+        final ValidationAssertor expected = VALIDATOR.validateAll(values, 5);
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ValidationAssertor result = VALIDATOR.validateAll(Arrays.asList(values), pool, 1_000, 5);
+            assertEquals(values.length, result.getCount());
+            assertEquals(expected.getFailureCount(), result.getFailureCount());
+            assertEquals(expected.getFailures(), result.getFailures());
+            assertEquals(expected.getMessages(), result.getMessages());
+            assertEquals(Arrays.asList(0, 7, 14, 21, 28), new ArrayList<>(result.getMessages().keySet()));
+
+            result = VALIDATOR.validateAll(values, pool, 0, 0);
+            assertEquals(expected.getFailures(), result.getFailures());
+            assertTrue(result.getMessages().isEmpty());
+
+            result = VALIDATOR.validateAll(new LinkedList<>(Arrays.asList(values)), null, 10_000, 1);
+            assertEquals(expected.getFailures(), result.getFailures());
+            assertEquals(1, result.getMessages().size());
+
+            result = VALIDATOR.validateAll(new String[0], pool, 10, 1);
+            assertEquals(0, result.getCount());
+            assertTrue(result.isOK());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Check concurrent use of a shared {@link PredicateValidator}
+     * 
+     * @throws Exception
+     *             on failure
+     */
+    @Test
+    public void testConcurrent() throws Exception {
+        final String[] values = {"text", "index", "other", "too long text", " ", null, "t", "x"};
+        final boolean[] expected = new boolean[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            expected[i] = VALIDATOR.test(values[i]);
+        }
+
+        final int threads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; ++t) {
+                final int offset = t;
+                tasks.add(() -> {
+                    int errors = 0;
+                    for (int i = 0; i < 20_000; ++i) {
+                        final int index = (i + offset) % values.length;
+                        if (VALIDATOR.test(values[index]) != expected[index]) {
+                            ++errors;
+                        }
+                        if (i % 100 == 0 && VALIDATOR.that(values[index]).isOK() != expected[index]) {
+                            ++errors;
+                        }
+                    }
+                    return errors;
+                });
+            }
+
+            for (Future<Integer> future : executor.invokeAll(tasks)) {
+                assertEquals(0, future.get().intValue());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
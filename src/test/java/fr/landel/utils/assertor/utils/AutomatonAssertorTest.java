@@ -0,0 +1,117 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.CharBuffer;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Check {@link AutomatonAssertor}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class AutomatonAssertorTest {
+
+    /**
+     * Test method for {@link AutomatonAssertor#isAnyIn} and
+     * {@link AutomatonAssertor#countIn}.
+     */
+    @Test
+    public void testSearch() {
+        final AutomatonAssertor automaton = AutomatonAssertor.of(new CharSequence[] {"he", "she", "his", "hers", "she"}, false);
+        assertEquals(5, automaton.size());
+
+        assertTrue(automaton.isAnyIn("ushers"));
+        assertEquals(4, automaton.countIn("ushers"));
+        assertEquals(5, automaton.countIn(CharBuffer.wrap("ushers his")));
+        assertFalse(automaton.isAnyIn("hi, ho"));
+        assertEquals(0, automaton.countIn(""));
+
+        // suffix found through the failure links
+        final AutomatonAssertor suffix = AutomatonAssertor.of(new CharSequence[] {"abcd", "bc"}, false);
+        assertTrue(suffix.isAnyIn("abce"));
+        assertEquals(1, suffix.countIn("abce"));
+
+        // non ASCII characters
+        final AutomatonAssertor unicode = AutomatonAssertor.of(new CharSequence[] {"été", "ü"}, false);
+        assertEquals(2, unicode.countIn("un été über alles"));
+        assertFalse(unicode.isAnyIn("ETE"));
+
+        // case insensitive
+        final AutomatonAssertor ignoreCase = AutomatonAssertor.of(new CharSequence[] {"Été", "TOKEN"}, true);
+        assertEquals(2, ignoreCase.countIn("un ÉTÉ, un token"));
+        assertTrue(ignoreCase.isAnyIn(new StringBuilder("Token")));
+        assertFalse(AutomatonAssertor.of(new CharSequence[] {"TOKEN"}, false).isAnyIn("token"));
+    }
+
+    /**
+     * Test method for {@link AutomatonAssertor#countIn} (compared to
+     * {@link String#contains(CharSequence)}).
+     */
+    @Test
+    public void testSearchRandom() {
+        final Random random = new Random(42);
+        final char[] alphabet = {'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', 'A', 'é', 'É'};
+
+        for (int n = 0; n < 5_000; ++n) {
+            final String text = random(random, alphabet, random.nextInt(60));
+            final CharSequence[] substrings = new CharSequence[1 + random.nextInt(40)];
+            for (int i = 0; i < substrings.length; ++i) {
+                substrings[i] = random(random, alphabet, 1 + random.nextInt(3));
+            }
+
+            int count = 0;
+            int countIgnoreCase = 0;
+            for (final CharSequence substring : substrings) {
+                if (text.contains(substring)) {
+                    ++count;
+                }
+                if (text.toLowerCase(Locale.ROOT).contains(substring.toString().toLowerCase(Locale.ROOT))) {
+                    ++countIgnoreCase;
+                }
+            }
+
+            final AutomatonAssertor automaton = AutomatonAssertor.of(substrings, false);
+            assertEquals(count, automaton.countIn(text), text);
+            assertEquals(count > 0, automaton.isAnyIn(text), text);
+
+            final AutomatonAssertor ignoreCase = AutomatonAssertor.of(substrings, true);
+            assertEquals(countIgnoreCase, ignoreCase.countIn(text), text);
+            assertEquals(countIgnoreCase > 0, ignoreCase.isAnyIn(text), text);
+        }
+    }
+
+    private static String random(final Random random, final char[] alphabet, final int length) {
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; ++i) {
+            chars[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+        return new String(chars);
+    }
+}
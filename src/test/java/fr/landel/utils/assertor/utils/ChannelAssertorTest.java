@@ -0,0 +1,186 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Check {@link ChannelAssertor}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class ChannelAssertorTest {
+
+    /**
+     * Test method for {@link ChannelAssertor#contains}.
+     * 
+     * @throws IOException
+     *             on file error
+     */
+    @Test
+    public void testContains() throws IOException {
+        final Path path = write("header\nvalue: é€𐐀 and the end", StandardCharsets.UTF_8);
+        try {
+            // small reads and chunks: the characters and the substrings are
+            // split across reads and chunks
+            for (int read = 1; read < 8; ++read) {
+                for (int buffer = 2; buffer < 6; ++buffer) {
+                    final ChannelAssertor channel = ChannelAssertor.of(path, StandardCharsets.UTF_8, read, buffer, 100);
+                    assertTrue(channel.contains(SubstringAssertor.of("é€𐐀")), read + " / " + buffer);
+                    assertTrue(channel.contains(SubstringAssertor.of("header\nvalue")));
+                    assertTrue(channel.contains(SubstringAssertor.of("the end")));
+                    assertFalse(channel.contains(SubstringAssertor.of("end.")));
+                }
+            }
+
+            assertTrue(ChannelAssertor.of(path, StandardCharsets.UTF_8).contains(SubstringAssertor.of("€")));
+            assertFalse(ChannelAssertor.of(path, StandardCharsets.ISO_8859_1).contains(SubstringAssertor.of("€")));
+        } finally {
+            Files.delete(path);
+        }
+
+        final Path empty = write("", StandardCharsets.UTF_8);
+        try {
+            assertFalse(ChannelAssertor.of(empty, StandardCharsets.UTF_8).contains(SubstringAssertor.of("a")));
+        } finally {
+            Files.delete(empty);
+        }
+
+        assertThrows(UncheckedIOException.class,
+                () -> ChannelAssertor.of(empty, StandardCharsets.UTF_8).contains(SubstringAssertor.of("a")));
+    }
+
+    /**
+     * Test method for {@link ChannelAssertor#allLinesMatch} (compared to
+     * {@link BufferedReader#readLine()}).
+     * 
+     * @throws IOException
+     *             on file error
+     */
+    @Test
+    public void testAllLinesMatch() throws IOException {
+        final Random random = new Random(42);
+        final char[] alphabet = {'a', 'é', '\r', '\n'};
+
+        for (int n = 0; n < 500; ++n) {
+            final char[] chars = new char[random.nextInt(12)];
+            for (int i = 0; i < chars.length; ++i) {
+                chars[i] = alphabet[random.nextInt(alphabet.length)];
+            }
+            final String content = new String(chars);
+
+            final List<String> expected = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(new StringReader(content))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    expected.add(line);
+                }
+            }
+
+            final Path path = write(content, StandardCharsets.UTF_8);
+            try {
+                final List<String> lines = new ArrayList<>();
+                assertTrue(ChannelAssertor.of(path, StandardCharsets.UTF_8, 3, 2, 100).allLinesMatch(line -> lines.add(line.toString())));
+                assertEquals(expected, lines);
+            } finally {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Test method for {@link ChannelAssertor#find} and
+     * {@link ChannelAssertor#allLinesMatch}.
+     * 
+     * @throws IOException
+     *             on file error
+     */
+    @Test
+    public void testFind() throws IOException {
+        final Path path = write("id;name\r\n1;first\r\n2;second\r\n", StandardCharsets.UTF_8);
+        try {
+            final ChannelAssertor channel = ChannelAssertor.of(path, StandardCharsets.UTF_8, 4, 3, 100);
+
+            assertTrue(channel.find(Pattern.compile("^2;s")));
+            assertTrue(channel.find(Pattern.compile("d$")));
+            assertFalse(channel.find(Pattern.compile("first.2")));
+            assertFalse(channel.find(Pattern.compile("\\r")));
+
+            assertTrue(channel.allLinesMatch(line -> line.toString().contains(";")));
+            assertFalse(channel.allLinesMatch(line -> line.length() < 8));
+
+            // the lines aren't buffered over the maximum length
+            final ChannelAssertor limited = ChannelAssertor.of(path, StandardCharsets.UTF_8, 4, 3, 7);
+            assertTrue(limited.find(Pattern.compile("^1;f")));
+            assertThrows(IllegalStateException.class, () -> limited.find(Pattern.compile("^2;s")));
+            assertThrows(IllegalStateException.class, () -> limited.allLinesMatch(line -> true));
+            assertTrue(ChannelAssertor.of(path, StandardCharsets.UTF_8, 4, 3, 8).allLinesMatch(line -> line.length() <= 8));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * Test method for {@link ChannelAssertor#startsWith}.
+     * 
+     * @throws IOException
+     *             on file error
+     */
+    @Test
+    public void testStartsWith() throws IOException {
+        final Path path = Files.createTempFile("channel", ".zip");
+        try {
+            Files.write(path, new byte[] {0x50, 0x4B, 0x03, 0x04});
+
+            assertTrue(ChannelAssertor.startsWith(path, new byte[] {0x50, 0x4B}));
+            assertTrue(ChannelAssertor.startsWith(path, new byte[] {0x50, 0x4B, 0x03, 0x04}));
+            assertFalse(ChannelAssertor.startsWith(path, new byte[] {0x50, 0x4B, 0x03, 0x04, 0x05}));
+            assertFalse(ChannelAssertor.startsWith(path, new byte[] {0x4B}));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    private static Path write(final String content, final Charset charset) throws IOException {
+        final Path path = Files.createTempFile("channel", ".txt");
+        Files.write(path, content.getBytes(charset));
+        return path;
+    }
+}
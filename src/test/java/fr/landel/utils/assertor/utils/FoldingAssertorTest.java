@@ -0,0 +1,103 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.CharBuffer;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Check {@link FoldingAssertor}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class FoldingAssertorTest {
+
+    /**
+     * Test method for {@link FoldingAssertor#isPrefixOf},
+     * {@link FoldingAssertor#isSuffixOf} and {@link FoldingAssertor#isEqualTo}.
+     */
+    @Test
+    public void testCompare() {
+        final FoldingAssertor folding = FoldingAssertor.of("TeX");
+
+        assertTrue(folding.isPrefixOf(new StringBuilder("text")));
+        assertTrue(folding.isSuffixOf(new StringBuilder("latex")));
+        assertTrue(folding.isEqualTo(new StringBuilder("tEx")));
+        assertFalse(folding.isPrefixOf(new StringBuilder("te")));
+        assertFalse(folding.isSuffixOf(new StringBuilder("ex")));
+        assertFalse(folding.isEqualTo(new StringBuilder("text")));
+
+        // empty
+        assertTrue(FoldingAssertor.of("").isPrefixOf(""));
+        assertTrue(FoldingAssertor.of("").isEqualTo(""));
+        assertFalse(FoldingAssertor.of("").isEqualTo("a"));
+
+        // like String#equalsIgnoreCase
+        assertTrue(FoldingAssertor.of("K").isEqualTo("k"));
+        assertTrue(FoldingAssertor.of("ı").isEqualTo("I"));
+        assertFalse(FoldingAssertor.of("ß").isEqualTo("ss"));
+
+        // supplementary code points (Deseret)
+        assertTrue(FoldingAssertor.of("a𐐀").isEqualTo("A𐐨"));
+        assertTrue(FoldingAssertor.of("𐐀").isSuffixOf(CharBuffer.wrap("a𐐨")));
+        assertTrue(FoldingAssertor.of("𐐀").isPrefixOf(CharBuffer.wrap("𐐨a")));
+        assertFalse(FoldingAssertor.of("𐐀").isPrefixOf(CharBuffer.wrap("\uD801")));
+        assertFalse(FoldingAssertor.of("𐐀").isSuffixOf(CharBuffer.wrap("\uDC28")));
+    }
+
+    /**
+     * Test method for {@link FoldingAssertor} (compared to
+     * {@link String#regionMatches(boolean, int, String, int, int)}).
+     */
+    @Test
+    public void testCompareRandom() {
+        final Random random = new Random(42);
+        final char[] alphabet = {'a', 'B', 'i', 'I', 'İ', 'ı', 'k', 'K', 'é', 'É'};
+
+        for (int n = 0; n < 20_000; ++n) {
+            final String text = random(random, alphabet, random.nextInt(6));
+            final String expected = random(random, alphabet, random.nextInt(4));
+            final int offset = text.length() - expected.length();
+
+            final FoldingAssertor folding = FoldingAssertor.of(expected);
+            final CharSequence buffer = new StringBuilder(text);
+            assertEquals(text.regionMatches(true, 0, expected, 0, expected.length()), folding.isPrefixOf(buffer), text + " / " + expected);
+            assertEquals(offset >= 0 && text.regionMatches(true, offset, expected, 0, expected.length()), folding.isSuffixOf(buffer),
+                    text + " / " + expected);
+            assertEquals(text.equalsIgnoreCase(expected), folding.isEqualTo(buffer), text + " / " + expected);
+        }
+    }
+
+    private static String random(final Random random, final char[] alphabet, final int length) {
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; ++i) {
+            chars[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+        return new String(chars);
+    }
+}
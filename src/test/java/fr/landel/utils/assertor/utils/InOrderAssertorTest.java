@@ -0,0 +1,138 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Check {@link InOrderAssertor}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class InOrderAssertorTest {
+
+    /**
+     * Test method for {@link InOrderAssertor#isIn}.
+     */
+    @Test
+    public void testIsIn() {
+        assertNull(InOrderAssertor.of(Collections.emptyList()));
+        assertNull(InOrderAssertor.of((Iterable<String>) null));
+        assertNull(InOrderAssertor.of(new String[0]));
+
+        // overlapping prefixes
+        assertTrue(InOrderAssertor.of(Arrays.asList(1, 2)).isIn(Arrays.asList(1, 1, 2), false));
+        assertTrue(InOrderAssertor.of(new Integer[] {1, 1, 2}).isIn(Arrays.asList(1, 1, 1, 2), false));
+        assertTrue(InOrderAssertor.of(Arrays.asList(1, 2, 1, 3)).isIn(Arrays.asList(1, 2, 1, 2, 1, 3), false));
+        assertFalse(InOrderAssertor.of(Arrays.asList(1, 2, 1, 3)).isIn(Arrays.asList(1, 2, 1, 2, 3), false));
+
+        // nulls and sizes
+        assertTrue(InOrderAssertor.of(Arrays.asList("t", null)).isIn(Arrays.asList(null, "t", null), false));
+        assertFalse(InOrderAssertor.of(Arrays.asList("t", "u")).isIn(Arrays.asList("t"), false));
+        assertFalse(InOrderAssertor.of(Arrays.asList("t", "u")).isIn(new LinkedList<>(Arrays.asList("u", "t")), true));
+
+        // matcher
+        final Map<String, Integer> map = new LinkedHashMap<>();
+        map.put("a", 1);
+        map.put("b", 1);
+        map.put("c", 2);
+        assertTrue(InOrderAssertor.<Entry<String, Integer>, Integer> of(Arrays.asList(1, 2), (e, v) -> e.getValue().equals(v))
+                .isIn(map.entrySet(), false));
+        assertFalse(InOrderAssertor.<Entry<String, Integer>, String> of(Arrays.asList("a", "c"), (e, k) -> e.getKey().equals(k))
+                .isIn(map.entrySet(), false));
+    }
+
+    /**
+     * Test method for {@link InOrderAssertor#isIn} (compared to
+     * {@link Collections#indexOfSubList}).
+     */
+    @Test
+    public void testIsInRandom() {
+        final Random random = new Random(42);
+
+        for (int n = 0; n < 20_000; ++n) {
+            final List<Integer> elements = random(random, random.nextInt(40));
+            final List<Integer> values = random(random, 1 + random.nextInt(6));
+
+            final boolean expected = Collections.indexOfSubList(elements, values) > -1;
+            final InOrderAssertor<Integer, Integer> inOrder = InOrderAssertor.of(values);
+
+            assertEquals(expected, inOrder.isIn(elements, false), elements + " " + values);
+            assertEquals(expected, inOrder.isIn(new LinkedList<>(elements), true), elements + " " + values);
+        }
+    }
+
+    /**
+     * Test method for {@link InOrderAssertor#isIn} (parallel chunks).
+     */
+    @Test
+    public void testIsInParallel() {
+        final int size = 100_000;
+        final List<Integer> elements = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            elements.add(i % 4_096);
+        }
+
+        // across the chunks
+        final InOrderAssertor<Integer, Integer> across = InOrderAssertor.of(Arrays.asList(4_094, 4_095, 0, 1));
+        assertTrue(across.isIn(elements, true));
+        assertTrue(across.isIn(elements, false));
+
+        // at the end
+        elements.set(size - 1, -1);
+        final InOrderAssertor<Integer, Integer> last = InOrderAssertor.of(Arrays.asList(-1));
+        assertTrue(last.isIn(elements, true));
+
+        // longer than a chunk
+        final List<Integer> values = new ArrayList<>(elements.subList(10, 20_000));
+        assertTrue(InOrderAssertor.of(values).isIn(elements, true));
+        values.set(10_000, -2);
+        assertFalse(InOrderAssertor.of(values).isIn(elements, true));
+
+        final InOrderAssertor<Integer, Integer> missing = InOrderAssertor.of(Arrays.asList(1, 3));
+        assertFalse(missing.isIn(elements, true));
+        assertFalse(missing.isIn(elements, false));
+    }
+
+    private static List<Integer> random(final Random random, final int size) {
+        final List<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            list.add(random.nextInt(8) == 0 ? null : random.nextInt(3));
+        }
+        return list;
+    }
+}
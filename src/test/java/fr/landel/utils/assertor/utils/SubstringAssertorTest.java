@@ -0,0 +1,93 @@
+/*-
+ * #%L
+ * utils-assertor
+ * %%
+ * Copyright (C) 2016 - 2018 Gilles Landel
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package fr.landel.utils.assertor.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.CharBuffer;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Check {@link SubstringAssertor}
+ *
+ * @since Oct 18, 2026
+ * @author Gilles
+ *
+ */
+public class SubstringAssertorTest {
+
+    /**
+     * Test method for {@link SubstringAssertor#indexIn}.
+     */
+    @Test
+    public void testIndexIn() {
+        final SubstringAssertor search = SubstringAssertor.of("ab");
+        assertEquals("ab", search.getNeedle());
+
+        // overlapping prefix
+        assertTrue(search.isIn("aab"));
+        assertTrue(search.isIn(CharBuffer.wrap("aab")));
+        assertTrue(search.isIn(new StringBuilder("aab")));
+        assertEquals(1, search.indexIn(CharBuffer.wrap("aab")));
+        assertEquals(4, SubstringAssertor.of("toto").indexIn(CharBuffer.wrap("tottoto")) + 1);
+        assertEquals(-1, search.indexIn(CharBuffer.wrap("a")));
+        assertFalse(search.isIn(CharBuffer.wrap("ba")));
+
+        // single character
+        assertEquals(2, SubstringAssertor.of("c").indexIn(CharBuffer.wrap("abc")));
+        assertEquals(2, SubstringAssertor.indexOf(CharBuffer.wrap("abc"), 'c'));
+        assertEquals(-1, SubstringAssertor.indexOf("abc", 'd'));
+
+        // characters with the same low byte
+        assertEquals(1, SubstringAssertor.of("šb").indexIn(CharBuffer.wrap("ašb")));
+        assertEquals(-1, SubstringAssertor.of("šb").indexIn(CharBuffer.wrap("aab")));
+    }
+
+    /**
+     * Test method for {@link SubstringAssertor#indexIn} (compared to
+     * {@link String#indexOf(String)}).
+     */
+    @Test
+    public void testIndexInRandom() {
+        final Random random = new Random(42);
+        final char[] alphabet = {'a', 'b', 'c', 'š', 'ɡ'};
+
+        for (int n = 0; n < 20_000; ++n) {
+            final String text = random(random, alphabet, random.nextInt(40));
+            final String needle = random(random, alphabet, 1 + random.nextInt(6));
+
+            final SubstringAssertor search = SubstringAssertor.of(needle);
+            assertEquals(text.indexOf(needle), search.indexIn(CharBuffer.wrap(text)), text + " / " + needle);
+            assertEquals(text.indexOf(needle), search.indexIn(text), text + " / " + needle);
+        }
+    }
+
+    private static String random(final Random random, final char[] alphabet, final int length) {
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; ++i) {
+            chars[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+        return new String(chars);
+    }
+}